@@ -0,0 +1,131 @@
+package com.amazonaws.examples.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares a JMH JSON result file against a stored baseline. Throughput may not drop, and
+ * average time and normalized allocation may not grow, by more than the given tolerance.
+ *
+ * <p>Usage: {@code BaselineComparator <result.json> <baseline.json> [tolerance] [record]}. A
+ * missing baseline fails the comparison. With {@code record} set to {@code true} the result
+ * replaces the baseline instead of being compared; do that on the reference machine only and
+ * commit the file.
+ */
+public class BaselineComparator {
+  private static final Logger LOGGER = LoggerFactory.getLogger(BaselineComparator.class);
+  private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+
+  private final ObjectMapper mapper = new ObjectMapper();
+  private final double tolerance;
+
+  public BaselineComparator(double tolerance) {
+    this.tolerance = tolerance;
+  }
+
+  public static void main(String[] args) throws IOException {
+    if (args.length < 2) {
+      throw new IllegalArgumentException(
+          "Usage: BaselineComparator <result.json> <baseline.json> [tolerance] [record]");
+    }
+    File result = new File(args[0]);
+    File baseline = new File(args[1]);
+    double tolerance = args.length > 2 ? Double.parseDouble(args[2]) : 0.10;
+    boolean record = args.length > 3 && Boolean.parseBoolean(args[3]);
+
+    if (record) {
+      LOGGER.warn("Recording {} as the new baseline {}.", result, baseline);
+      Files.createDirectories(baseline.getAbsoluteFile().getParentFile().toPath());
+      Files.copy(result.toPath(), baseline.toPath(), StandardCopyOption.REPLACE_EXISTING);
+      return;
+    }
+    if (!baseline.exists()) {
+      throw new IllegalStateException("No baseline found at " + baseline
+          + "; record one on the reference machine with -Dbenchmark.record=true and commit it");
+    }
+
+    List<String> regressions = new BaselineComparator(tolerance).compare(result, baseline);
+    if (!regressions.isEmpty()) {
+      regressions.forEach(LOGGER::error);
+      throw new IllegalStateException(
+          regressions.size() + " benchmark score(s) regressed beyond " + tolerance * 100 + "%");
+    }
+    LOGGER.info("All benchmark scores are within {}% of the baseline.", tolerance * 100);
+  }
+
+  public List<String> compare(File result, File baseline) throws IOException {
+    Map<String, JsonNode> current = index(mapper.readTree(result));
+    Map<String, JsonNode> expected = index(mapper.readTree(baseline));
+
+    List<String> regressions = new ArrayList<>();
+    for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+      JsonNode base = expected.get(entry.getKey());
+      if (Objects.isNull(base)) {
+        LOGGER.info("No baseline for {}, skipping.", entry.getKey());
+        continue;
+      }
+      JsonNode run = entry.getValue();
+      boolean higherIsBetter = "thrpt".equals(run.path("mode").asText());
+      check(regressions, entry.getKey(), run.path("primaryMetric"), base.path("primaryMetric"),
+          higherIsBetter);
+      check(regressions, entry.getKey() + " " + ALLOCATION_METRIC,
+          allocation(run), allocation(base), false);
+    }
+    return regressions;
+  }
+
+  private void check(List<String> regressions, String name, JsonNode current, JsonNode baseline,
+      boolean higherIsBetter) {
+    if (current.isMissingNode() || baseline.isMissingNode()) {
+      return;
+    }
+    double score = current.path("score").asDouble();
+    double base = baseline.path("score").asDouble();
+    boolean regressed = higherIsBetter
+        ? score < base * (1 - tolerance)
+        : score > base * (1 + tolerance);
+    if (regressed) {
+      regressions.add(String.format("%s: %.3f %s, baseline %.3f", name, score,
+          current.path("scoreUnit").asText(), base));
+    }
+  }
+
+  private JsonNode allocation(JsonNode run) {
+    Iterator<Map.Entry<String, JsonNode>> metrics = run.path("secondaryMetrics").fields();
+    while (metrics.hasNext()) {
+      Map.Entry<String, JsonNode> metric = metrics.next();
+      // JMH prefixes profiler metrics with a separator character that differs across versions.
+      if (metric.getKey().endsWith(ALLOCATION_METRIC)) {
+        return metric.getValue();
+      }
+    }
+    return mapper.missingNode();
+  }
+
+  private Map<String, JsonNode> index(JsonNode runs) {
+    Map<String, JsonNode> index = new LinkedHashMap<>();
+    for (JsonNode run : runs) {
+      StringBuilder key = new StringBuilder(run.path("benchmark").asText())
+          .append(" [").append(run.path("mode").asText());
+      run.path("params").fields().forEachRemaining(
+          param -> key.append(", ").append(param.getKey()).append('=')
+              .append(param.getValue().asText()));
+      index.put(key.append(']').toString(), run);
+    }
+    return index;
+  }
+}
@@ -0,0 +1,56 @@
+package com.amazonaws.examples.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import com.amazonaws.examples.deserialize.ChannelModule;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.amazon.awssdk.services.medialive.model.Channel;
+
+/**
+ * Build-time generated {@link ChannelModule} deserializers against its schema binding, the
+ * metadata-driven {@code SdkPojoModule}, bypassing the processor's template cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+public class ChannelBindingBenchmark {
+  @Param({"generated", "schema"})
+  private String binding;
+
+  @Param({"0", "100"})
+  private int outputs;
+
+  private ObjectReader reader;
+  private byte[] channel;
+
+  @Setup
+  public void setup() throws IOException {
+    ObjectMapper mapper =
+        new ObjectMapper().registerModule(new ChannelModule("schema".equals(binding)));
+    reader = mapper.readerFor(Channel.class);
+    channel = outputs == 0 ? SyntheticChannels.template() : SyntheticChannels.withOutputs(outputs);
+  }
+
+  @Benchmark
+  public Channel readChannel() throws IOException {
+    return reader.readValue(channel);
+  }
+}
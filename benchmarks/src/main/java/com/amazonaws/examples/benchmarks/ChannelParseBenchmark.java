@@ -0,0 +1,58 @@
+package com.amazonaws.examples.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import com.amazonaws.examples.ElementalMediaLiveProcessor;
+import com.amazonaws.examples.deserialize.ChannelModule;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.amazon.awssdk.services.medialive.model.Channel;
+
+/**
+ * Parsing the bundled channel template. {@link #parseChannel} reads it with the processor's
+ * {@link ChannelModule} reader, which is what every template cache miss costs;
+ * {@link #parseChannelCached} goes through {@link ElementalMediaLiveProcessor#parseChannel}, which
+ * serves the same bytes from the template cache after the first call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+public class ChannelParseBenchmark {
+  private ElementalMediaLiveProcessor processor;
+  private ObjectReader reader;
+  private byte[] template;
+
+  @Setup
+  public void setup() throws IOException {
+    processor = new ElementalMediaLiveProcessor(new StubMediaLiveClient(), new StubIamClient());
+    reader = new ObjectMapper().registerModule(new ChannelModule()).readerFor(Channel.class);
+    template = SyntheticChannels.template();
+  }
+
+  @Benchmark
+  public Channel parseChannel() throws IOException {
+    return reader.readValue(new ByteArrayInputStream(template));
+  }
+
+  @Benchmark
+  public Channel parseChannelCached() throws IOException {
+    return processor.parseChannel(new ByteArrayInputStream(template));
+  }
+}
@@ -0,0 +1,53 @@
+package com.amazonaws.examples.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import com.amazonaws.examples.deserialize.ChannelModule;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.amazon.awssdk.services.medialive.model.Channel;
+
+/**
+ * Writing channels through the generated {@link ChannelModule} serializers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+public class ChannelWriteBenchmark {
+  @Param({"0", "100"})
+  private int outputs;
+
+  private ObjectWriter writer;
+  private Channel channel;
+
+  @Setup
+  public void setup() throws IOException {
+    ObjectMapper mapper = new ObjectMapper().registerModule(new ChannelModule());
+    writer = mapper.writerFor(Channel.class);
+    channel = mapper.readValue(
+        outputs == 0 ? SyntheticChannels.template() : SyntheticChannels.withOutputs(outputs),
+        Channel.class);
+  }
+
+  @Benchmark
+  public byte[] writeChannel() throws IOException {
+    return writer.writeValueAsBytes(channel);
+  }
+}
@@ -0,0 +1,106 @@
+package com.amazonaws.examples.benchmarks;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import com.amazonaws.examples.ColdStart;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures cold starts by running {@link ColdStart} from the shaded function jar in a fresh JVM,
+ * once per run, for the lazy and eager startup modes and, when given, with the AppCDS archive.
+ * Both the wall-clock time of the process and the initialization time it reports are recorded.
+ *
+ * <p>Usage: {@code ColdStartHarness <eml-create-channel.jar> [archive.jsa] [runs]}.
+ */
+public class ColdStartHarness {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ColdStartHarness.class);
+
+  private final String jar;
+  private final int runs;
+
+  public ColdStartHarness(String jar, int runs) {
+    this.jar = jar;
+    this.runs = runs;
+  }
+
+  public static void main(String[] args) throws Exception {
+    if (args.length < 1) {
+      throw new IllegalArgumentException(
+          "Usage: ColdStartHarness <eml-create-channel.jar> [archive.jsa] [runs]");
+    }
+    String archive = args.length > 1 && new File(args[1]).exists() ? args[1] : null;
+    int runs = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+
+    ColdStartHarness harness = new ColdStartHarness(args[0], runs);
+    harness.measure("lazy", "lazy", null);
+    harness.measure("eager", "eager", null);
+    if (Objects.nonNull(archive)) {
+      harness.measure("eager+appcds", "eager", archive);
+    } else {
+      LOGGER.warn("No AppCDS archive given or found, skipping the archive run.");
+    }
+  }
+
+  public void measure(String label, String startupMode, String archive)
+      throws IOException, InterruptedException {
+    List<Double> wall = new ArrayList<>();
+    List<Double> init = new ArrayList<>();
+    for (int i = 0; i < runs; i++) {
+      long start = System.nanoTime();
+      init.add(run(startupMode, archive));
+      wall.add((System.nanoTime() - start) / 1_000_000.0);
+    }
+    LOGGER.info("{}: wall ms {}, init ms {}", label, summary(wall), summary(init));
+  }
+
+  private double run(String startupMode, String archive) throws IOException, InterruptedException {
+    List<String> command = new ArrayList<>(Arrays.asList(
+        Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+        "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn"));
+    if (Objects.nonNull(archive)) {
+      command.add("-XX:SharedArchiveFile=" + archive);
+    }
+    command.addAll(Arrays.asList("-cp", jar, ColdStart.class.getName()));
+
+    ProcessBuilder builder = new ProcessBuilder(command).redirectErrorStream(true);
+    builder.environment().put("STARTUP_MODE", startupMode);
+    builder.environment().putIfAbsent("AWS_REGION", "us-east-1");
+    Process process = builder.start();
+
+    Double initMillis = null;
+    try (BufferedReader output = new BufferedReader(
+        new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+      for (String line; (line = output.readLine()) != null; ) {
+        if (line.startsWith(ColdStart.INIT_MILLIS)) {
+          initMillis = Double.parseDouble(line.substring(ColdStart.INIT_MILLIS.length()));
+        } else {
+          LOGGER.debug("{}", line);
+        }
+      }
+    }
+    int exitCode = process.waitFor();
+    if (exitCode != 0 || Objects.isNull(initMillis)) {
+      throw new IllegalStateException("Cold start run failed with exit code " + exitCode);
+    }
+    return initMillis;
+  }
+
+  private static String summary(List<Double> samples) {
+    List<Double> sorted = new ArrayList<>(samples);
+    Collections.sort(sorted);
+    return String.format("min %.1f / median %.1f / p90 %.1f", sorted.get(0),
+        sorted.get(sorted.size() / 2), sorted.get((int) Math.ceil(sorted.size() * 0.9) - 1));
+  }
+}
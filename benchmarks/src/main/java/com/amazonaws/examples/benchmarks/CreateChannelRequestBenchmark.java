@@ -0,0 +1,47 @@
+package com.amazonaws.examples.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import com.amazonaws.examples.ElementalMediaLiveProcessor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.amazon.awssdk.services.medialive.model.Channel;
+
+/**
+ * {@link ElementalMediaLiveProcessor#createChannel(Channel)} against stubbed clients, which
+ * measures building the {@code CreateChannelRequest} together with the default role and input
+ * lookups.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+public class CreateChannelRequestBenchmark {
+  private ElementalMediaLiveProcessor processor;
+  private Channel channel;
+
+  @Setup
+  public void setup() throws IOException {
+    processor = new ElementalMediaLiveProcessor(new StubMediaLiveClient(), new StubIamClient());
+    channel = processor.parseChannel(new ByteArrayInputStream(SyntheticChannels.template()));
+  }
+
+  @Benchmark
+  public Channel createChannel() {
+    return processor.createChannel(channel);
+  }
+}
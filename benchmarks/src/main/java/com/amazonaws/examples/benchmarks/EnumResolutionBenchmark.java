@@ -0,0 +1,75 @@
+package com.amazonaws.examples.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import com.amazonaws.examples.deserialize.EnumLookup;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import software.amazon.awssdk.services.medialive.model.H264Profile;
+
+/**
+ * Resolving a stream of {@link H264Profile} values with the generated {@code fromValue} against
+ * {@link EnumLookup}. Both read the same pre-encoded JSON array, so the difference is the String
+ * materialization and the linear scan over {@code values()}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+public class EnumResolutionBenchmark {
+  private static final int VALUES = 256;
+
+  private final JsonFactory factory = new JsonFactory();
+  private final EnumLookup<H264Profile> lookup = EnumLookup.of(H264Profile.class);
+  private byte[] payload;
+
+  @Setup
+  public void setup() {
+    H264Profile[] profiles = H264Profile.knownValues().toArray(new H264Profile[0]);
+    StringBuilder json = new StringBuilder("[");
+    for (int i = 0; i < VALUES; i++) {
+      json.append(i == 0 ? "" : ",").append('"').append(profiles[i % profiles.length]).append('"');
+    }
+    payload = json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Benchmark
+  public void fromValue(Blackhole blackhole) throws IOException {
+    try (JsonParser parser = factory.createParser(payload)) {
+      parser.nextToken();
+      while (parser.nextToken() == JsonToken.VALUE_STRING) {
+        blackhole.consume(H264Profile.fromValue(parser.getText()));
+      }
+    }
+  }
+
+  @Benchmark
+  public void enumLookup(Blackhole blackhole) throws IOException {
+    try (JsonParser parser = factory.createParser(payload)) {
+      parser.nextToken();
+      while (parser.nextToken() == JsonToken.VALUE_STRING) {
+        blackhole.consume(
+            lookup.resolve(parser.getTextCharacters(), parser.getTextOffset(),
+                parser.getTextLength()));
+      }
+    }
+  }
+}
@@ -0,0 +1,61 @@
+package com.amazonaws.examples.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import com.amazonaws.examples.deserialize.ChannelModule;
+import com.amazonaws.examples.deserialize.LazyChannel;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.amazon.awssdk.services.medialive.model.Channel;
+
+/**
+ * Cost of rejecting a channel on its name alone: eager parsing against a {@link LazyChannel}
+ * that never materializes its {@code encoderSettings}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+public class LazyChannelBenchmark {
+  @Param({"0", "100"})
+  private int outputs;
+
+  private ObjectMapper mapper;
+  private byte[] channel;
+
+  @Setup
+  public void setup() throws IOException {
+    mapper = new ObjectMapper().registerModule(new ChannelModule());
+    channel = outputs == 0 ? SyntheticChannels.template() : SyntheticChannels.withOutputs(outputs);
+  }
+
+  @Benchmark
+  public String eagerName() throws IOException {
+    return mapper.readValue(channel, Channel.class).name();
+  }
+
+  @Benchmark
+  public String lazyName() throws IOException {
+    return mapper.readValue(channel, LazyChannel.class).name();
+  }
+
+  @Benchmark
+  public Channel lazyChannel() throws IOException {
+    return mapper.readValue(channel, LazyChannel.class).channel();
+  }
+}
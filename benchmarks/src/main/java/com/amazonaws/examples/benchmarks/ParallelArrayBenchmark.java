@@ -0,0 +1,60 @@
+package com.amazonaws.examples.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import com.amazonaws.examples.deserialize.ChannelModule;
+import com.amazonaws.examples.deserialize.ParallelArrayReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.amazon.awssdk.services.medialive.model.Channel;
+
+/**
+ * Sequential against {@link ParallelArrayReader} reading of channels scaled to a number of
+ * outputs and video descriptions; the output counts bracket the crossover point. A threshold of
+ * 0 reads sequentially.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+public class ParallelArrayBenchmark {
+  @Param({"0", "8"})
+  private int threshold;
+
+  @Param({"8", "32", "128", "512", "2048"})
+  private int outputs;
+
+  private ObjectReader reader;
+  private byte[] channel;
+
+  @Setup
+  public void setup() throws IOException {
+    reader = new ObjectMapper().registerModule(new ChannelModule()).readerFor(Channel.class);
+    if (threshold > 0) {
+      reader = new ParallelArrayReader(ForkJoinPool.commonPool(), threshold).enable(reader);
+    }
+    channel = SyntheticChannels.withOutputs(outputs);
+  }
+
+  @Benchmark
+  public Channel readChannel() throws IOException {
+    return reader.readValue(channel);
+  }
+}
@@ -0,0 +1,27 @@
+package com.amazonaws.examples.benchmarks;
+
+import software.amazon.awssdk.services.iam.IamClient;
+import software.amazon.awssdk.services.iam.model.GetRoleRequest;
+import software.amazon.awssdk.services.iam.model.GetRoleResponse;
+import software.amazon.awssdk.services.iam.model.Role;
+
+/**
+ * In-memory {@link IamClient} that reports every requested role as already present.
+ */
+public class StubIamClient implements IamClient {
+
+  @Override public GetRoleResponse getRole(GetRoleRequest request) {
+    Role role = Role.builder()
+        .roleName(request.roleName())
+        .arn("arn:aws:iam::123456789012:role/" + request.roleName())
+        .build();
+    return GetRoleResponse.builder().role(role).build();
+  }
+
+  @Override public String serviceName() {
+    return SERVICE_NAME;
+  }
+
+  @Override public void close() {
+  }
+}
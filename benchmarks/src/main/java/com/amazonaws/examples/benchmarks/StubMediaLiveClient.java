@@ -0,0 +1,87 @@
+package com.amazonaws.examples.benchmarks;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import software.amazon.awssdk.services.medialive.MediaLiveClient;
+import software.amazon.awssdk.services.medialive.model.Channel;
+import software.amazon.awssdk.services.medialive.model.ChannelState;
+import software.amazon.awssdk.services.medialive.model.CreateChannelRequest;
+import software.amazon.awssdk.services.medialive.model.CreateChannelResponse;
+import software.amazon.awssdk.services.medialive.model.CreateInputRequest;
+import software.amazon.awssdk.services.medialive.model.CreateInputResponse;
+import software.amazon.awssdk.services.medialive.model.CreateInputSecurityGroupRequest;
+import software.amazon.awssdk.services.medialive.model.CreateInputSecurityGroupResponse;
+import software.amazon.awssdk.services.medialive.model.Input;
+import software.amazon.awssdk.services.medialive.model.InputSecurityGroup;
+import software.amazon.awssdk.services.medialive.model.ListChannelsRequest;
+import software.amazon.awssdk.services.medialive.model.ListChannelsResponse;
+import software.amazon.awssdk.services.medialive.model.ListInputSecurityGroupsRequest;
+import software.amazon.awssdk.services.medialive.model.ListInputSecurityGroupsResponse;
+import software.amazon.awssdk.services.medialive.model.ListInputsRequest;
+import software.amazon.awssdk.services.medialive.model.ListInputsResponse;
+
+/**
+ * In-memory {@link MediaLiveClient} answering the create calls made by the processor without
+ * any network round trip. The list calls return a single empty page. Calls that are not used by
+ * the benchmarks fail with {@link UnsupportedOperationException}.
+ */
+public class StubMediaLiveClient implements MediaLiveClient {
+  private final AtomicLong ids = new AtomicLong();
+
+  @Override public CreateChannelResponse createChannel(CreateChannelRequest request) {
+    String id = String.valueOf(ids.incrementAndGet());
+    Channel channel = Channel.builder()
+        .id(id)
+        .arn("arn:aws:medialive:us-east-1:123456789012:channel:" + id)
+        .name(request.name())
+        .roleArn(request.roleArn())
+        .channelClass(request.channelClass())
+        .destinations(request.destinations())
+        .encoderSettings(request.encoderSettings())
+        .inputAttachments(request.inputAttachments())
+        .inputSpecification(request.inputSpecification())
+        .logLevel(request.logLevel())
+        .tags(request.tags())
+        .state(ChannelState.CREATING)
+        .build();
+    return CreateChannelResponse.builder().channel(channel).build();
+  }
+
+  @Override public CreateInputResponse createInput(CreateInputRequest request) {
+    Input input = Input.builder()
+        .id(String.valueOf(ids.incrementAndGet()))
+        .name(request.name())
+        .securityGroups(request.inputSecurityGroups())
+        .build();
+    return CreateInputResponse.builder().input(input).build();
+  }
+
+  @Override public CreateInputSecurityGroupResponse createInputSecurityGroup(
+      CreateInputSecurityGroupRequest request) {
+    InputSecurityGroup securityGroup = InputSecurityGroup.builder()
+        .id(UUID.randomUUID().toString())
+        .build();
+    return CreateInputSecurityGroupResponse.builder().securityGroup(securityGroup).build();
+  }
+
+  @Override public ListChannelsResponse listChannels(ListChannelsRequest request) {
+    return ListChannelsResponse.builder().build();
+  }
+
+  @Override public ListInputsResponse listInputs(ListInputsRequest request) {
+    return ListInputsResponse.builder().build();
+  }
+
+  @Override public ListInputSecurityGroupsResponse listInputSecurityGroups(
+      ListInputSecurityGroupsRequest request) {
+    return ListInputSecurityGroupsResponse.builder().build();
+  }
+
+  @Override public String serviceName() {
+    return SERVICE_NAME;
+  }
+
+  @Override public void close() {
+  }
+}
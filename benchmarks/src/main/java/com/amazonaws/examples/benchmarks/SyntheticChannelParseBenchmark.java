@@ -0,0 +1,52 @@
+package com.amazonaws.examples.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import com.amazonaws.examples.deserialize.ChannelModule;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.amazon.awssdk.services.medialive.model.Channel;
+
+/**
+ * Parsing channels scaled to a number of outputs with the {@link ChannelModule} reader. The
+ * processor's template cache is left out, as it would serve every call after the first one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+public class SyntheticChannelParseBenchmark {
+  @Param({"10", "100", "500"})
+  private int outputs;
+
+  private ObjectReader reader;
+  private byte[] channel;
+
+  @Setup
+  public void setup() throws IOException {
+    reader = new ObjectMapper().registerModule(new ChannelModule()).readerFor(Channel.class);
+    channel = SyntheticChannels.withOutputs(outputs);
+  }
+
+  @Benchmark
+  public Channel parseChannel() throws IOException {
+    return reader.readValue(new ByteArrayInputStream(channel));
+  }
+}
@@ -0,0 +1,61 @@
+package com.amazonaws.examples.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Builds channel templates of arbitrary size by replicating the first video description and
+ * output of {@value #TEMPLATE}.
+ */
+public class SyntheticChannels {
+  public static final String TEMPLATE = "/CreateEmlRtmpToEmpChannelSettings.json";
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  private SyntheticChannels() {
+  }
+
+  public static byte[] template() throws IOException {
+    try (InputStream in = SyntheticChannels.class.getResourceAsStream(TEMPLATE)) {
+      return MAPPER.writeValueAsBytes(MAPPER.readTree(in));
+    }
+  }
+
+  /**
+   * @param outputs number of outputs, each with its own video description
+   * @return UTF-8 encoded channel JSON
+   */
+  public static byte[] withOutputs(int outputs) throws IOException {
+    ObjectNode channel;
+    try (InputStream in = SyntheticChannels.class.getResourceAsStream(TEMPLATE)) {
+      channel = (ObjectNode) MAPPER.readTree(in);
+    }
+    ObjectNode encoderSettings = (ObjectNode) channel.get("encoderSettings");
+    ArrayNode videoDescriptions = (ArrayNode) encoderSettings.get("videoDescriptions");
+    ArrayNode groupOutputs = (ArrayNode) encoderSettings.get("outputGroups").get(0).get("outputs");
+    JsonNode videoDescription = videoDescriptions.get(0);
+    JsonNode output = groupOutputs.get(0);
+
+    videoDescriptions.removeAll();
+    groupOutputs.removeAll();
+    for (int i = 0; i < outputs; i++) {
+      String videoDescriptionName = "video_" + i;
+
+      ObjectNode videoDescriptionCopy = videoDescription.deepCopy();
+      videoDescriptionCopy.put("name", videoDescriptionName);
+      videoDescriptions.add(videoDescriptionCopy);
+
+      ObjectNode outputCopy = output.deepCopy();
+      outputCopy.put("outputName", "output_" + i);
+      outputCopy.put("videoDescriptionName", videoDescriptionName);
+      groupOutputs.add(outputCopy);
+    }
+
+    return MAPPER.writeValueAsBytes(channel);
+  }
+}
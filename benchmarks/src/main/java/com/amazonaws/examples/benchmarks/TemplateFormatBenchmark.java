@@ -0,0 +1,64 @@
+package com.amazonaws.examples.benchmarks;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import com.amazonaws.examples.deserialize.ChannelModule;
+import com.amazonaws.examples.deserialize.TemplateFormat;
+import com.amazonaws.examples.utils.TemplateConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.amazon.awssdk.services.medialive.model.Channel;
+
+/**
+ * Reading the same channel from JSON, Smile and CBOR with the {@link ChannelModule}
+ * deserializers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+public class TemplateFormatBenchmark {
+  @Param({"json", "smile", "cbor"})
+  private String format;
+
+  @Param({"0", "100"})
+  private int outputs;
+
+  private ObjectReader reader;
+  private byte[] channel;
+
+  @Setup
+  public void setup() throws IOException {
+    TemplateFormat templateFormat = TemplateFormat.valueOf(format.toUpperCase(Locale.ROOT));
+    reader = new ObjectMapper(templateFormat.newFactory())
+        .registerModule(new ChannelModule())
+        .readerFor(Channel.class);
+
+    byte[] json =
+        outputs == 0 ? SyntheticChannels.template() : SyntheticChannels.withOutputs(outputs);
+    channel = templateFormat == TemplateFormat.JSON
+        ? json : new TemplateConverter(templateFormat).convert(json);
+  }
+
+  @Benchmark
+  public Channel readChannel() throws IOException {
+    return reader.readValue(channel);
+  }
+}
@@ -1,8 +1,14 @@
 package com.amazonaws.examples;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
+
+import com.amazonaws.examples.utils.ResourceUtils;
 
 import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
@@ -20,6 +26,17 @@ import software.amazon.awssdk.services.medialive.model.Channel;
  * Handler</a> for more information
  */
 public class App implements RequestHandler<InputStream, Map<String, String>> {
+  /**
+   * {@code eager} builds and primes the processor while the class is initialized, i.e. during the
+   * Lambda init phase; any other value builds it in the constructor.
+   */
+  public static final String STARTUP_MODE =
+      ResourceUtils.getInstance().getEnv("STARTUP_MODE", "lazy");
+  private static final ElementalMediaLiveProcessor EAGER_PROCESSOR = eagerProcessor();
+  /** Time kept back from the invocation timeout for the calls made after the role is ready. */
+  private final long ROLE_WAIT_SAFETY_MARGIN_MILLIS = Long.parseLong(
+      ResourceUtils.getInstance().getEnv("ROLE_WAIT_SAFETY_MARGIN_MILLIS", "10000"));
+
   private final Logger logger = LoggerFactory.getLogger(App.class);
 
   private final ElementalMediaLiveProcessor emlProcessor;
@@ -27,15 +44,31 @@ public class App implements RequestHandler<InputStream, Map<String, String>> {
   public App() {
     // Initialize the SDK client outside of the handler method so that it can be reused for subsequent invocations.
     // It is initialized when the class is loaded.
-    emlProcessor = new ElementalMediaLiveProcessor();
+    emlProcessor = Objects.nonNull(EAGER_PROCESSOR)
+        ? EAGER_PROCESSOR : new ElementalMediaLiveProcessor();
     // Consider invoking a simple api here to pre-warm up the application, eg: dynamodb#listTables
   }
 
+  private static ElementalMediaLiveProcessor eagerProcessor() {
+    if (!"eager".equalsIgnoreCase(STARTUP_MODE)) {
+      return null;
+    }
+    ElementalMediaLiveProcessor processor = new ElementalMediaLiveProcessor();
+    try {
+      processor.prime();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return processor;
+  }
+
   @Override
   public Map<String, String> handleRequest(final InputStream input, final Context context) {
     logger.info("Received input...");
     try {
-      Channel channel = emlProcessor.createChannel(input);
+      Channel channel = Objects.nonNull(context)
+          ? emlProcessor.createChannel(input, roleDeadline(context), context.getAwsRequestId())
+          : emlProcessor.createChannel(input);
       Map<String, String> response = new HashMap<>();
       response.put("id", channel.id());
       response.put("arn", channel.arn());
@@ -46,4 +79,9 @@ public class App implements RequestHandler<InputStream, Map<String, String>> {
       throw new RuntimeException(e);
     }
   }
+
+  private Instant roleDeadline(Context context) {
+    return Instant.now().plusMillis(
+        Math.max(0, context.getRemainingTimeInMillis() - ROLE_WAIT_SAFETY_MARGIN_MILLIS));
+  }
 }
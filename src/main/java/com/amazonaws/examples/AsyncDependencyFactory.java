@@ -0,0 +1,45 @@
+package com.amazonaws.examples;
+
+import com.amazonaws.examples.throttle.RateLimitingInterceptor;
+
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.iam.IamAsyncClient;
+import software.amazon.awssdk.services.medialive.MediaLiveAsyncClient;
+
+/**
+ * The async clients required by the {@link AsyncElementalMediaLiveProcessor}. Kept apart from
+ * {@link DependencyFactory} because their Netty HTTP client is not part of the Lambda jar unless
+ * it is built with {@code -Pasync}.
+ */
+public class AsyncDependencyFactory {
+
+  private AsyncDependencyFactory() {
+  }
+
+  /**
+   * @return an instance of MediaLiveAsyncClient
+   */
+  public static MediaLiveAsyncClient mediaLiveAsyncClient() {
+    return MediaLiveAsyncClient.builder()
+        .credentialsProvider(DefaultCredentialsProvider.create())
+        .overrideConfiguration(
+            DependencyFactory.overrideConfiguration(RateLimitingInterceptor.sharedAsync()))
+        .httpClientBuilder(NettyNioAsyncHttpClient.builder())
+        .build();
+  }
+
+  /**
+   * @return an instance of IamAsyncClient
+   */
+  public static IamAsyncClient iamAsyncClient() {
+    return IamAsyncClient.builder()
+        .credentialsProvider(DefaultCredentialsProvider.create())
+        .overrideConfiguration(
+            DependencyFactory.overrideConfiguration(RateLimitingInterceptor.sharedAsync()))
+        .region(Region.AWS_GLOBAL)
+        .httpClientBuilder(NettyNioAsyncHttpClient.builder())
+        .build();
+  }
+}
@@ -0,0 +1,268 @@
+package com.amazonaws.examples;
+
+import static com.amazonaws.examples.ElementalMediaLiveProcessor.AMAZON_SSM_READ_ONLY_ACCESS_POLICY_ARN;
+import static com.amazonaws.examples.ElementalMediaLiveProcessor.MEDIA_LIVE_ACCESS_ROLE;
+import static com.amazonaws.examples.ElementalMediaLiveProcessor.MEDIA_LIVE_CUSTOM_POLICY;
+import static com.amazonaws.examples.ElementalMediaLiveProcessor.REQUEST_ID_PREFIX;
+import static com.amazonaws.examples.throttle.RateLimitingInterceptor.IAM;
+import static com.amazonaws.examples.throttle.RateLimitingInterceptor.MEDIA_LIVE;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.amazonaws.examples.iam.RoleReadinessWaiter;
+import com.amazonaws.examples.throttle.RateLimitingInterceptor;
+import com.amazonaws.examples.validation.ChannelValidator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import software.amazon.awssdk.services.iam.IamAsyncClient;
+import software.amazon.awssdk.services.iam.model.GetRoleResponse;
+import software.amazon.awssdk.services.iam.model.NoSuchEntityException;
+import software.amazon.awssdk.services.iam.model.Role;
+import software.amazon.awssdk.services.medialive.MediaLiveAsyncClient;
+import software.amazon.awssdk.services.medialive.model.Channel;
+import software.amazon.awssdk.services.medialive.model.CreateChannelRequest;
+import software.amazon.awssdk.services.medialive.model.Input;
+import software.amazon.awssdk.services.medialive.model.InputAttachment;
+import software.amazon.awssdk.services.medialive.model.InputSecurityGroup;
+import software.amazon.awssdk.services.medialive.model.InputWhitelistRuleCidr;
+
+/**
+ * Non-blocking counterpart of {@link ElementalMediaLiveProcessor#createChannel(Channel)} on the
+ * SDK async clients. Resolving the role and creating the default input security group and input
+ * do not depend on each other and run concurrently; the channel is created once both are done.
+ * Every call first takes a permit from the shared per-API limiters with
+ * {@link RateLimitingInterceptor#acquireAsync}, so pacing never blocks a thread.
+ *
+ * <p>The default input and role are defined by the same {@link ProcessorSettings} as the sync
+ * processor's, but the caches and pools of the sync processor are not used: every call looks
+ * the role up, and every channel without input attachments gets a new input security group and
+ * input. Retries are only deduplicated by the MediaLive request tokens of
+ * {@link #createChannel(Channel, String)}, not by a {@code RequestJournal}. Use
+ * {@link ElementalMediaLiveProcessor} where these lookups and resources should be shared.
+ */
+public class AsyncElementalMediaLiveProcessor {
+  private final Logger logger = LoggerFactory.getLogger(getClass());
+  private final ProcessorSettings settings = new ProcessorSettings();
+  private final MediaLiveAsyncClient emlClient;
+  private final IamAsyncClient iamClient;
+  private final ChannelValidator channelValidator = new ChannelValidator();
+  private final ObjectMapper mapper = ElementalMediaLiveProcessor.initializeMapper();
+  private final RoleReadinessWaiter roleReadinessWaiter;
+  private final RateLimitingInterceptor rateLimiting = RateLimitingInterceptor.sharedAsync();
+
+  public AsyncElementalMediaLiveProcessor() {
+    this(AsyncDependencyFactory.mediaLiveAsyncClient(), AsyncDependencyFactory.iamAsyncClient());
+  }
+
+  public AsyncElementalMediaLiveProcessor(MediaLiveAsyncClient emlClient,
+      IamAsyncClient iamClient) {
+    this.emlClient = emlClient;
+    this.iamClient = iamClient;
+    roleReadinessWaiter = settings.roleReadinessWaiter(iamClient);
+  }
+
+  /**
+   * @return the created channel; completes exceptionally with an
+   *     {@link com.amazonaws.examples.validation.InvalidChannelException} before any call is
+   *     made if the channel contains broken references
+   */
+  public CompletableFuture<Channel> createChannel(Channel channel) {
+    return createChannel(channel, null);
+  }
+
+  /**
+   * Like {@link ElementalMediaLiveProcessor#createChannel(Channel, java.time.Instant, String)},
+   * the default input and the channel are requested with tokens derived from
+   * {@code idempotencyKey} and a hash of the channel, so a retry returns the resources of the
+   * first attempt.
+   *
+   * @param idempotencyKey identifies the caller's request; {@code null} creates the channel
+   *     without idempotency tokens
+   */
+  public CompletableFuture<Channel> createChannel(Channel channel, String idempotencyKey) {
+    return createChannel(channel, defaultRoleDeadline(), idempotencyKey);
+  }
+
+  /**
+   * @param roleDeadline latest time to wait for a newly created MediaLive access role to
+   *     propagate; {@code CreateChannel} is retried until then while MediaLive rejects the role
+   * @see #createChannel(Channel, String)
+   */
+  public CompletableFuture<Channel> createChannel(Channel channel, Instant roleDeadline,
+      String idempotencyKey) {
+    logger.info("Creating channel '{}'...", channel.name());
+    String key;
+    try {
+      channelValidator.check(channel);
+      key = Objects.nonNull(idempotencyKey)
+          ? ElementalMediaLiveProcessor.idempotencyKey(mapper, idempotencyKey, channel) : null;
+    } catch (RuntimeException e) {
+      return failed(e);
+    }
+
+    CompletableFuture<String> roleArn = Objects.nonNull(channel.roleArn())
+        ? CompletableFuture.completedFuture(channel.roleArn())
+        : getOrCreateRole(MEDIA_LIVE_ACCESS_ROLE, roleDeadline).thenApply(Role::arn);
+    CompletableFuture<List<InputAttachment>> inputAttachments = channel.hasInputAttachments()
+        ? CompletableFuture.completedFuture(channel.inputAttachments())
+        : createInputSecurityGroup(settings.DEFAULT_INPUT_SG_WHITELIST_CIDR)
+            .thenCompose(inSg -> createRtmpInput(settings.DEFAULT_RTMP_INPUT_NAME,
+                settings.DEFAULT_RTMP_INPUT_NAME, inSg, Objects.nonNull(key)
+                    ? ElementalMediaLiveProcessor.requestId(key, "input") : randomRequestId()))
+            .thenApply(input -> Collections.singletonList(
+                ElementalMediaLiveProcessor.defaultInputAttachment(input)));
+
+    return roleArn
+        .thenCombine(inputAttachments, (arn, attachments) -> ElementalMediaLiveProcessor
+            .createChannelRequest(channel)
+            .roleArn(arn)
+            .inputAttachments(attachments)
+            .requestId(Objects.nonNull(key)
+                ? ElementalMediaLiveProcessor.requestId(key, "channel") : null)
+            .build())
+        .thenCompose(request -> roleReadinessWaiter.retryAsync(
+            () -> paced(MEDIA_LIVE, "CreateChannel", () -> emlClient.createChannel(request)),
+            ElementalMediaLiveProcessor::isRoleError, roleDeadline))
+        .thenApply(response -> {
+          Channel created = response.channel();
+          logger.info("New channel created.");
+          logger.info("Channel ID: {}", created.id());
+          logger.info("Channel ARN: {}", created.arn());
+          logger.info("Channel Name: {}", created.name());
+          logger.info("Channel State: {}", created.stateAsString());
+          return created;
+        });
+  }
+
+  public CompletableFuture<Input> createRtmpInput(String inputName,
+      String inputDestinationStreamName, InputSecurityGroup inSg) {
+    return createRtmpInput(inputName, inputDestinationStreamName, inSg, randomRequestId());
+  }
+
+  /**
+   * @param requestId idempotency token; MediaLive returns the input created by an earlier
+   *     request with the same token instead of creating another one
+   */
+  public CompletableFuture<Input> createRtmpInput(String inputName,
+      String inputDestinationStreamName, InputSecurityGroup inSg, String requestId) {
+    logger.info("Creating RTMP Input with name '{}'...", inputName);
+    return paced(MEDIA_LIVE, "CreateInput", () -> emlClient
+        .createInput(builder -> ElementalMediaLiveProcessor.rtmpInputRequest(
+            builder, inputName, inputDestinationStreamName, inSg, requestId)))
+        .thenApply(response -> {
+          logger.info("Created Input - Request Id: {}, Id: {}", requestId, response.input().id());
+          return response.input();
+        });
+  }
+
+  public CompletableFuture<InputSecurityGroup> createInputSecurityGroup(
+      String... inWhitelistRuleCidrs) {
+    logger.info("Creating Input Security Group...");
+    List<InputWhitelistRuleCidr> inWhitelistRuleCidrsList = new ArrayList<>();
+    for (String inWhitelistRuleCidr : inWhitelistRuleCidrs) {
+      logger.info("Adding Whitelist Rule CIDR: {}", inWhitelistRuleCidr);
+      inWhitelistRuleCidrsList.add(
+          InputWhitelistRuleCidr.builder().cidr(inWhitelistRuleCidr).build());
+    }
+
+    return paced(MEDIA_LIVE, "CreateInputSecurityGroup", () -> emlClient
+        .createInputSecurityGroup(builder -> builder.whitelistRules(inWhitelistRuleCidrsList)))
+        .thenApply(response -> {
+          logger.info("Created Security Group - Id: {}", response.securityGroup().id());
+          return response.securityGroup();
+        });
+  }
+
+  public CompletableFuture<Role> getOrCreateRole(String roleName) {
+    return getOrCreateRole(roleName, defaultRoleDeadline());
+  }
+
+  /**
+   * A new role completes the future as soon as it and its policies are visible, or at
+   * {@code deadline} at the latest.
+   */
+  public CompletableFuture<Role> getOrCreateRole(String roleName, Instant deadline) {
+    logger.info("Checking for existing role with name '{}'...", roleName);
+    return paced(IAM, "GetRole", () -> iamClient.getRole(builder -> builder.roleName(roleName)))
+        .thenApply(GetRoleResponse::role)
+        .handle((role, e) -> {
+          if (Objects.isNull(e)) {
+            logger.info("Role found with name '{}'.", roleName);
+            return CompletableFuture.completedFuture(role);
+          } else if (unwrap(e) instanceof NoSuchEntityException) {
+            logger.error("No Role found with name '{}'", roleName);
+            return createRole(roleName, deadline);
+          }
+          return AsyncElementalMediaLiveProcessor.<Role>failed(unwrap(e));
+        })
+        .thenCompose(Function.identity())
+        .thenApply(role -> {
+          logger.info("Role ARN: {}", role.arn());
+          return role;
+        });
+  }
+
+  /**
+   * Attaches the managed and the inline policy concurrently once the role exists.
+   */
+  private CompletableFuture<Role> createRole(String roleName, Instant deadline) {
+    logger.info("Creating new Role with name '{}'", roleName);
+    return paced(IAM, "CreateRole", () -> iamClient
+        .createRole(builder -> settings.createRoleRequest(builder, roleName)))
+        .thenCompose(response -> {
+          Role role = response.role();
+          return CompletableFuture.allOf(
+              paced(IAM, "AttachRolePolicy", () -> iamClient.attachRolePolicy(builder ->
+                  settings.attachRolePolicyRequest(builder, role.roleName()))),
+              paced(IAM, "PutRolePolicy", () -> iamClient.putRolePolicy(builder ->
+                  settings.putRolePolicyRequest(builder, role.roleName()))))
+              .thenCompose(ignored -> {
+                logger.info("Waiting until {} for the IAM role and policy to propagate...",
+                    deadline);
+                return roleReadinessWaiter.awaitAsync(roleName, MEDIA_LIVE_CUSTOM_POLICY,
+                    AMAZON_SSM_READ_ONLY_ACCESS_POLICY_ARN, deadline);
+              })
+              .thenApply(ready -> role);
+        });
+  }
+
+  private Instant defaultRoleDeadline() {
+    return settings.defaultRoleDeadline();
+  }
+
+  /**
+   * Issues {@code call} once the limiter that the interceptor of the async clients adjusts for
+   * {@code service} and {@code operation} grants a permit.
+   */
+  private <T> CompletableFuture<T> paced(String service, String operation,
+      Supplier<CompletableFuture<T>> call) {
+    return rateLimiting.acquireAsync(RateLimitingInterceptor.key(service, operation))
+        .thenCompose(ignored -> call.get());
+  }
+
+  private static String randomRequestId() {
+    return REQUEST_ID_PREFIX + UUID.randomUUID().toString();
+  }
+
+  private static Throwable unwrap(Throwable e) {
+    return e instanceof CompletionException && Objects.nonNull(e.getCause()) ? e.getCause() : e;
+  }
+
+  private static <T> CompletableFuture<T> failed(Throwable e) {
+    CompletableFuture<T> future = new CompletableFuture<>();
+    future.completeExceptionally(e);
+    return future;
+  }
+}
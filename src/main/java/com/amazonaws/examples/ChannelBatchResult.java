@@ -0,0 +1,105 @@
+package com.amazonaws.examples;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import software.amazon.awssdk.services.medialive.model.Channel;
+
+/**
+ * Outcome of {@link ElementalMediaLiveProcessor#createChannels(List, int)}: one entry per
+ * requested channel, in request order, with the wall time of the whole batch.
+ */
+public class ChannelBatchResult {
+  private final List<Entry> entries;
+  private final long wallNanos;
+
+  ChannelBatchResult(List<Entry> entries, long wallNanos) {
+    this.entries = Collections.unmodifiableList(entries);
+    this.wallNanos = wallNanos;
+  }
+
+  public List<Entry> getEntries() {
+    return entries;
+  }
+
+  public long getWallTime(TimeUnit unit) {
+    return unit.convert(wallNanos, TimeUnit.NANOSECONDS);
+  }
+
+  public int getSucceeded() {
+    return (int) entries.stream().filter(Entry::isSuccess).count();
+  }
+
+  public int getFailed() {
+    return entries.size() - getSucceeded();
+  }
+
+  /**
+   * @return counts, wall time and the min/median/p90/max latency of the individual channels
+   */
+  public String summary() {
+    List<Long> latencies = new ArrayList<>();
+    for (Entry entry : entries) {
+      latencies.add(entry.latencyNanos);
+    }
+    Collections.sort(latencies);
+    String latency = latencies.isEmpty() ? "n/a" : String.format(
+        "min %.1f / median %.1f / p90 %.1f / max %.1f ms", millis(latencies.get(0)),
+        millis(latencies.get(latencies.size() / 2)),
+        millis(latencies.get((int) Math.ceil(latencies.size() * 0.9) - 1)),
+        millis(latencies.get(latencies.size() - 1)));
+    return String.format("%d channel(s): %d created, %d failed in %.1f ms; latency %s",
+        entries.size(), getSucceeded(), getFailed(), millis(wallNanos), latency);
+  }
+
+  @Override public String toString() {
+    return summary();
+  }
+
+  private static double millis(long nanos) {
+    return nanos / 1_000_000.0;
+  }
+
+  public static class Entry {
+    private final String name;
+    private final Channel channel;
+    private final Throwable failure;
+    private final long latencyNanos;
+
+    Entry(String name, Channel channel, Throwable failure, long latencyNanos) {
+      this.name = name;
+      this.channel = channel;
+      this.failure = failure;
+      this.latencyNanos = latencyNanos;
+    }
+
+    /**
+     * @return name of the requested channel
+     */
+    public String getName() {
+      return name;
+    }
+
+    /**
+     * @return the created channel, {@code null} if creating it failed
+     */
+    public Channel getChannel() {
+      return channel;
+    }
+
+    public Throwable getFailure() {
+      return failure;
+    }
+
+    public boolean isSuccess() {
+      return Objects.isNull(failure);
+    }
+
+    public long getLatency(TimeUnit unit) {
+      return unit.convert(latencyNanos, TimeUnit.NANOSECONDS);
+    }
+  }
+}
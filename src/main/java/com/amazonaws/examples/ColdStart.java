@@ -0,0 +1,21 @@
+package com.amazonaws.examples;
+
+/**
+ * Initializes {@link App} the way the Lambda runtime does and prints the time it took. It is the
+ * training run for the AppCDS archive and the process timed by the cold-start harness.
+ */
+public class ColdStart {
+  /** Prefix of the line carrying the in-process initialization time in milliseconds. */
+  public static final String INIT_MILLIS = "cold-start-init-ms=";
+
+  private ColdStart() {
+  }
+
+  public static void main(String[] args) throws Exception {
+    long start = System.nanoTime();
+    Class.forName(App.class.getName()).getConstructor().newInstance();
+    long elapsed = System.nanoTime() - start;
+
+    System.out.println(INIT_MILLIS + elapsed / 1_000_000.0);
+  }
+}
@@ -1,6 +1,13 @@
 package com.amazonaws.examples;
 
+import java.time.Duration;
+
+import com.amazonaws.examples.throttle.RateLimitingInterceptor;
+
 import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.core.retry.backoff.FullJitterBackoffStrategy;
 import software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.iam.IamClient;
@@ -14,12 +21,35 @@ public class DependencyFactory {
   private DependencyFactory() {
   }
 
+  /**
+   * Shares the per-API {@link RateLimitingInterceptor} limiters across all clients and backs off
+   * with full jitter, so that retries of throttled calls do not arrive in lock-step. Async
+   * clients get the interceptor that never blocks an event loop thread.
+   */
+  static ClientOverrideConfiguration overrideConfiguration(
+      RateLimitingInterceptor rateLimitingInterceptor) {
+    return ClientOverrideConfiguration.builder()
+        .addExecutionInterceptor(rateLimitingInterceptor)
+        .retryPolicy(RetryPolicy.builder()
+            .backoffStrategy(FullJitterBackoffStrategy.builder()
+                .baseDelay(Duration.ofMillis(100))
+                .maxBackoffTime(Duration.ofSeconds(5))
+                .build())
+            .throttlingBackoffStrategy(FullJitterBackoffStrategy.builder()
+                .baseDelay(Duration.ofMillis(500))
+                .maxBackoffTime(Duration.ofSeconds(10))
+                .build())
+            .build())
+        .build();
+  }
+
   /**
    * @return an instance of MediaLiveClient
    */
   public static MediaLiveClient mediaLiveClient() {
     return MediaLiveClient.builder()
         .credentialsProvider(DefaultCredentialsProvider.create())
+        .overrideConfiguration(overrideConfiguration(RateLimitingInterceptor.shared()))
         .httpClientBuilder(UrlConnectionHttpClient.builder())
         .build();
   }
@@ -30,6 +60,7 @@ public class DependencyFactory {
   public static IamClient iamClient() {
     return IamClient.builder()
         .credentialsProvider(DefaultCredentialsProvider.create())
+        .overrideConfiguration(overrideConfiguration(RateLimitingInterceptor.shared()))
         .region(Region.AWS_GLOBAL)
         .httpClientBuilder(UrlConnectionHttpClient.builder())
         .build();
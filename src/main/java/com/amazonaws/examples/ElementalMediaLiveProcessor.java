@@ -1,28 +1,61 @@
 package com.amazonaws.examples;
 
-import com.amazonaws.examples.deserialize.AacSettingsDeserializer;
-import com.amazonaws.examples.deserialize.AudioCodecSettingsDeserializer;
-import com.amazonaws.examples.deserialize.ChannelDeserializer;
-import com.amazonaws.examples.deserialize.EncoderSettingsDeserializer;
-import com.amazonaws.examples.deserialize.H264SettingsDeserializer;
-import com.amazonaws.examples.deserialize.InputSpecificationDeserializer;
-import com.amazonaws.examples.deserialize.MediaPackageGroupSettingsDeserializer;
-import com.amazonaws.examples.deserialize.MediaPackageOutputSettingsDeserializer;
-import com.amazonaws.examples.deserialize.OutputGroupSettingsDeserializer;
-import com.amazonaws.examples.deserialize.OutputSettingsDeserializer;
-import com.amazonaws.examples.deserialize.TimecodeConfigDeserializer;
-import com.amazonaws.examples.deserialize.VideoCodecSettingsDeserializer;
+import com.amazonaws.examples.deserialize.ChannelModule;
+import com.amazonaws.examples.deserialize.ChannelStreamReader;
+import com.amazonaws.examples.deserialize.LazyChannel;
+import com.amazonaws.examples.deserialize.MergePatch;
+import com.amazonaws.examples.deserialize.ParallelArrayReader;
+import com.amazonaws.examples.deserialize.TemplateFormat;
+import com.amazonaws.examples.iam.RoleArnCache;
+import com.amazonaws.examples.idempotency.RequestJournal;
+import com.amazonaws.examples.iam.RoleReadinessWaiter;
+import com.amazonaws.examples.inventory.MediaLiveInventory;
+import com.amazonaws.examples.pool.InputSecurityGroupPool;
+import com.amazonaws.examples.pool.RtmpInputPool;
+import com.amazonaws.examples.utils.ContentHash;
+import com.amazonaws.examples.utils.ModelSize;
 import com.amazonaws.examples.utils.ResourceUtils;
+import com.amazonaws.examples.utils.WeightedLruCache;
+import com.amazonaws.examples.validation.ChannelValidator;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.services.iam.IamClient;
@@ -31,15 +64,15 @@ import software.amazon.awssdk.services.iam.model.GetRoleResponse;
 import software.amazon.awssdk.services.iam.model.NoSuchEntityException;
 import software.amazon.awssdk.services.iam.model.Role;
 import software.amazon.awssdk.services.medialive.MediaLiveClient;
-import software.amazon.awssdk.services.medialive.model.AacSettings;
-import software.amazon.awssdk.services.medialive.model.AudioCodecSettings;
 import software.amazon.awssdk.services.medialive.model.Channel;
+import software.amazon.awssdk.services.medialive.model.ChannelSummary;
 import software.amazon.awssdk.services.medialive.model.CreateChannelRequest;
 import software.amazon.awssdk.services.medialive.model.CreateChannelResponse;
+import software.amazon.awssdk.services.medialive.model.CreateInputRequest;
 import software.amazon.awssdk.services.medialive.model.CreateInputResponse;
 import software.amazon.awssdk.services.medialive.model.CreateInputSecurityGroupResponse;
-import software.amazon.awssdk.services.medialive.model.EncoderSettings;
-import software.amazon.awssdk.services.medialive.model.H264Settings;
+import software.amazon.awssdk.services.medialive.model.DescribeChannelRequest;
+import software.amazon.awssdk.services.medialive.model.DescribeChannelResponse;
 import software.amazon.awssdk.services.medialive.model.Input;
 import software.amazon.awssdk.services.medialive.model.InputAttachment;
 import software.amazon.awssdk.services.medialive.model.InputDeblockFilter;
@@ -48,16 +81,11 @@ import software.amazon.awssdk.services.medialive.model.InputDestinationRequest;
 import software.amazon.awssdk.services.medialive.model.InputFilter;
 import software.amazon.awssdk.services.medialive.model.InputSecurityGroup;
 import software.amazon.awssdk.services.medialive.model.InputSourceEndBehavior;
-import software.amazon.awssdk.services.medialive.model.InputSpecification;
+import software.amazon.awssdk.services.medialive.model.InputState;
 import software.amazon.awssdk.services.medialive.model.InputType;
 import software.amazon.awssdk.services.medialive.model.InputWhitelistRuleCidr;
-import software.amazon.awssdk.services.medialive.model.MediaPackageGroupSettings;
-import software.amazon.awssdk.services.medialive.model.MediaPackageOutputSettings;
-import software.amazon.awssdk.services.medialive.model.OutputGroupSettings;
-import software.amazon.awssdk.services.medialive.model.OutputSettings;
+import software.amazon.awssdk.services.medialive.model.MediaLiveException;
 import software.amazon.awssdk.services.medialive.model.Smpte2038DataPreference;
-import software.amazon.awssdk.services.medialive.model.TimecodeConfig;
-import software.amazon.awssdk.services.medialive.model.VideoCodecSettings;
 
 public class ElementalMediaLiveProcessor {
   public static final String MEDIA_LIVE_ACCESS_ROLE = "MediaLiveAccessRole";
@@ -65,105 +93,718 @@ public class ElementalMediaLiveProcessor {
       "arn:aws:iam::aws:policy/AmazonSSMReadOnlyAccess";
   public static final String MEDIA_LIVE_CUSTOM_POLICY = "MediaLiveCustomPolicy";
   public static final String REQUEST_ID_PREFIX = "request-";
-  private final String TRUST_DOCUMENT =
-      ResourceUtils.getInstance().loadResource("/IamRoleTrustDocument.json");
-  private final String POLICY_DOCUMENT =
-      ResourceUtils.getInstance().loadResource("/IamRoleInlinePolicyDocument.json");
-  private final String[] DEFAULT_INPUT_SG_WHITELIST_CIDR =
-      ResourceUtils.getInstance()
-          .getEnvAsArray("DEFAULT_INPUT_SG_WHITELIST_CIDR", "0.0.0.0/0");
-  private final String DEFAULT_RTMP_INPUT_NAME =
-      ResourceUtils.getInstance().getEnv("DEFAULT_RTMP_INPUT_NAME", "Default_RTMP_Input");
+  /** Share of the function memory that parsed channel templates may occupy, in percent. */
+  public static final int TEMPLATE_CACHE_MEMORY_PERCENT = 10;
+  /** Template files of at least this size are memory-mapped rather than read onto the heap. */
+  public static final long MEMORY_MAP_THRESHOLD_BYTES = 1024 * 1024;
+  /** Bundled channel template that {@link #prime()} runs through the mapper; tests use it too. */
+  public static final String PRIMING_TEMPLATE = "/CreateEmlRtmpToEmpChannelSettings.json";
+  private final long FUNCTION_MEMORY_SIZE_MB = Long.parseLong(
+      ResourceUtils.getInstance().getEnv("AWS_LAMBDA_FUNCTION_MEMORY_SIZE", "512"));
+  private final String TEMPLATE_CACHE_MAX_BYTES =
+      ResourceUtils.getInstance().getEnv("TEMPLATE_CACHE_MAX_BYTES", null);
+  private final int CHANNEL_BATCH_CONCURRENCY = Integer.parseInt(
+      ResourceUtils.getInstance().getEnv("CHANNEL_BATCH_CONCURRENCY", "10"));
+  private final String PARALLEL_ARRAY_THRESHOLD =
+      ResourceUtils.getInstance().getEnv("PARALLEL_ARRAY_THRESHOLD", null);
+  private final long ROLE_ARN_CACHE_TTL_SECONDS = Long.parseLong(
+      ResourceUtils.getInstance().getEnv("ROLE_ARN_CACHE_TTL_SECONDS", "3600"));
+  private final String ROLE_ARN_CACHE_FILE =
+      ResourceUtils.getInstance().getEnv("ROLE_ARN_CACHE_FILE", null);
+  private final long INPUT_SG_POOL_REFRESH_SECONDS = Long.parseLong(
+      ResourceUtils.getInstance().getEnv("INPUT_SG_POOL_REFRESH_SECONDS", "300"));
+  private final int RTMP_INPUT_POOL_SIZE = Integer.parseInt(
+      ResourceUtils.getInstance().getEnv("RTMP_INPUT_POOL_SIZE", "0"));
+  private final String RTMP_INPUT_POOL_TAG = ResourceUtils.getInstance()
+      .getEnv("AWS_LAMBDA_FUNCTION_NAME", "eml-create-channel");
+  private final String IDEMPOTENCY_JOURNAL_FILE = ResourceUtils.getInstance()
+      .getEnv("IDEMPOTENCY_JOURNAL_FILE", "/tmp/eml-create-channel-journal.properties");
+  private final long IDEMPOTENCY_JOURNAL_RETENTION_HOURS = Long.parseLong(
+      ResourceUtils.getInstance().getEnv("IDEMPOTENCY_JOURNAL_RETENTION_HOURS", "24"));
+  private final long INVENTORY_REFRESH_SECONDS = Long.parseLong(
+      ResourceUtils.getInstance().getEnv("INVENTORY_REFRESH_SECONDS", "60"));
 
   private final Logger logger = LoggerFactory.getLogger(getClass());
+  private final ProcessorSettings settings = new ProcessorSettings();
   private final MediaLiveClient emlClient;
   private final IamClient iamClient;
 
   private final ObjectMapper mapper;
+  private final ChannelStreamReader channelStreamReader;
+  private final Map<TemplateFormat, ObjectReader> channelReaders;
+  private final Map<TemplateFormat, ObjectReader> lazyChannelReaders;
+  private final WeightedLruCache<TemplateKey, Channel> templateCache;
+  private final MergePatch mergePatch;
+  private final ChannelValidator channelValidator = new ChannelValidator();
+  private final RoleReadinessWaiter roleReadinessWaiter;
+  private final RoleArnCache roleArnCache;
+  private final InputSecurityGroupPool inputSecurityGroupPool;
+  private final RtmpInputPool rtmpInputPool;
+  private final RequestJournal requestJournal;
+  private final MediaLiveInventory inventory;
 
   public ElementalMediaLiveProcessor() {
-    emlClient = DependencyFactory.mediaLiveClient();
-    iamClient = DependencyFactory.iamClient();
+    this(DependencyFactory.mediaLiveClient(), DependencyFactory.iamClient());
+  }
 
-    mapper = initializeMapper();
+  public ElementalMediaLiveProcessor(MediaLiveClient emlClient, IamClient iamClient) {
+    this(emlClient, iamClient, null);
   }
 
-  private ObjectMapper initializeMapper() {
-    SimpleModule module = new SimpleModule()
-        .addDeserializer(Channel.class, new ChannelDeserializer())
-        .addDeserializer(EncoderSettings.class, new EncoderSettingsDeserializer())
-        .addDeserializer(OutputGroupSettings.class, new OutputGroupSettingsDeserializer())
-        .addDeserializer(
-            MediaPackageGroupSettings.class, new MediaPackageGroupSettingsDeserializer())
-        .addDeserializer(OutputSettings.class, new OutputSettingsDeserializer())
-        .addDeserializer(
-            MediaPackageOutputSettings.class, new MediaPackageOutputSettingsDeserializer())
-        .addDeserializer(AudioCodecSettings.class, new AudioCodecSettingsDeserializer())
-        .addDeserializer(AacSettings.class, new AacSettingsDeserializer())
-        .addDeserializer(VideoCodecSettings.class, new VideoCodecSettingsDeserializer())
-        .addDeserializer(H264Settings.class, new H264SettingsDeserializer())
-        .addDeserializer(InputSpecification.class, new InputSpecificationDeserializer())
-        .addDeserializer(TimecodeConfig.class, new TimecodeConfigDeserializer());
+  /**
+   * @param requestJournal journal of created resources; {@code null} for the one at
+   *     {@code IDEMPOTENCY_JOURNAL_FILE}
+   */
+  ElementalMediaLiveProcessor(MediaLiveClient emlClient, IamClient iamClient,
+      RequestJournal requestJournal) {
+    this.emlClient = emlClient;
+    this.iamClient = iamClient;
 
+    mapper = initializeMapper();
+    channelStreamReader = new ChannelStreamReader(mapper);
+    channelReaders = new EnumMap<>(TemplateFormat.class);
+    lazyChannelReaders = new EnumMap<>(TemplateFormat.class);
+    ParallelArrayReader parallelArrays = parallelArrayReader();
+    for (TemplateFormat format : TemplateFormat.values()) {
+      JsonFactory factory = format.newFactory();
+      ObjectReader reader = mapper.readerFor(Channel.class).with(factory);
+      channelReaders.put(format,
+          Objects.nonNull(parallelArrays) ? parallelArrays.enable(reader) : reader);
+      lazyChannelReaders.put(format, mapper.readerFor(LazyChannel.class).with(factory));
+    }
+    templateCache = new WeightedLruCache<>(templateCacheMaxBytes());
+    mergePatch = new MergePatch(mapper);
+    roleReadinessWaiter = settings.roleReadinessWaiter(iamClient);
+    roleArnCache = new RoleArnCache(Duration.ofSeconds(ROLE_ARN_CACHE_TTL_SECONDS),
+        Objects.nonNull(ROLE_ARN_CACHE_FILE) ? Paths.get(ROLE_ARN_CACHE_FILE) : null);
+    inventory = new MediaLiveInventory(emlClient, Duration.ofSeconds(INVENTORY_REFRESH_SECONDS));
+    inputSecurityGroupPool = new InputSecurityGroupPool(inventory,
+        this::createInputSecurityGroup, Duration.ofSeconds(INPUT_SG_POOL_REFRESH_SECONDS));
+    rtmpInputPool = RTMP_INPUT_POOL_SIZE > 0
+        ? new RtmpInputPool(this::createPooledRtmpInput, this::pooledRtmpInputsLeftBehind,
+            RTMP_INPUT_POOL_SIZE)
+        : null;
+    this.requestJournal = Objects.nonNull(requestJournal) ? requestJournal
+        : new RequestJournal(Paths.get(IDEMPOTENCY_JOURNAL_FILE),
+            Duration.ofHours(IDEMPOTENCY_JOURNAL_RETENTION_HOURS));
+  }
+
+  /**
+   * Channels are read with the generated deserializers, or with the metadata-driven ones if the
+   * {@code CHANNEL_BINDING} environment variable is {@code schema}.
+   */
+  static ObjectMapper initializeMapper() {
+    boolean schemaBinding = "schema".equalsIgnoreCase(
+        ResourceUtils.getInstance().getEnv("CHANNEL_BINDING", "generated").trim());
     ObjectMapper mapper = new ObjectMapper();
-    mapper.registerModule(module);
+    mapper.registerModule(new ChannelModule(schemaBinding));
 
     return mapper;
   }
 
+  /**
+   * Model arrays longer than {@code PARALLEL_ARRAY_THRESHOLD} elements are deserialized on the
+   * common ForkJoin pool; unset or 0 reads them sequentially.
+   */
+  private ParallelArrayReader parallelArrayReader() {
+    if (Objects.isNull(PARALLEL_ARRAY_THRESHOLD)
+        || Integer.parseInt(PARALLEL_ARRAY_THRESHOLD.trim()) <= 0) {
+      return null;
+    }
+    logger.info("Reading model arrays in parallel above {} elements.", PARALLEL_ARRAY_THRESHOLD);
+    return new ParallelArrayReader(
+        ForkJoinPool.commonPool(), Integer.parseInt(PARALLEL_ARRAY_THRESHOLD.trim()));
+  }
+
+  /**
+   * Bounds the template cache by {@link #TEMPLATE_CACHE_MEMORY_PERCENT} of the function memory
+   * ({@code MemorySize} in template.yaml) and of the JVM heap, whichever is smaller. The
+   * {@code TEMPLATE_CACHE_MAX_BYTES} environment variable overrides the bound; 0 disables the
+   * cache. Entries are weighed by the retained size of the parsed model as estimated by
+   * {@link ModelSize}, which is several times the payload length.
+   */
+  private long templateCacheMaxBytes() {
+    if (Objects.nonNull(TEMPLATE_CACHE_MAX_BYTES)) {
+      return Long.parseLong(TEMPLATE_CACHE_MAX_BYTES.trim());
+    }
+    long functionMemory = FUNCTION_MEMORY_SIZE_MB * 1024 * 1024;
+    long maxMemory = Math.min(functionMemory, Runtime.getRuntime().maxMemory());
+    return maxMemory / 100 * TEMPLATE_CACHE_MEMORY_PERCENT;
+  }
+
+  /**
+   * @return the ARNs of resolved roles, kept for {@code ROLE_ARN_CACHE_TTL_SECONDS} (default
+   *     3600, 0 disables the cache) and persisted to {@code ROLE_ARN_CACHE_FILE} if set
+   */
+  public RoleArnCache getRoleArnCache() {
+    return roleArnCache;
+  }
+
+  /**
+   * @return the pool of default RTMP inputs kept ready, {@code null} unless
+   *     {@code RTMP_INPUT_POOL_SIZE} is positive
+   */
+  public RtmpInputPool getRtmpInputPool() {
+    return rtmpInputPool;
+  }
+
+  /**
+   * @return the index of channels, inputs and input security groups, loaded by its first query
+   *     and refreshed every {@code INVENTORY_REFRESH_SECONDS} (default 60)
+   */
+  public MediaLiveInventory getInventory() {
+    return inventory;
+  }
+
+  /**
+   * @return the channels named {@code name}, answered from the inventory
+   */
+  public List<ChannelSummary> findChannels(String name) {
+    return inventory.channelsByName(name);
+  }
+
+  /**
+   * @return the channels tagged {@code key}={@code value}, answered from the inventory
+   */
+  public List<ChannelSummary> findChannels(String key, String value) {
+    return inventory.channelsByTag(key, value);
+  }
+
+  /**
+   * @return the channels that {@code inputId} is attached to, answered from the inventory
+   */
+  public List<ChannelSummary> findChannelsUsingInput(String inputId) {
+    return inventory.channelsByInput(inputId);
+  }
+
+  /**
+   * @return the cache of parsed channel templates, keyed by a hash of the payload bytes
+   */
+  public WeightedLruCache<?, Channel> getTemplateCache() {
+    return templateCache;
+  }
+
+  /**
+   * Reads and writes the bundled {@link #PRIMING_TEMPLATE} once so that the deserializers,
+   * serializers and the Jackson classes they use are loaded and linked before the first request.
+   * The template cache is bypassed.
+   */
+  public void prime() throws IOException {
+    logger.info("Priming channel mapper with '{}'...", PRIMING_TEMPLATE);
+    byte[] payload;
+    try (InputStream input = ResourceUtils.getInstance().getInputStream(PRIMING_TEMPLATE)) {
+      payload = ResourceUtils.getInstance().readBytes(input);
+    }
+    Channel channel = channelReaders.get(TemplateFormat.JSON).readValue(payload);
+    lazyChannelReaders.get(TemplateFormat.JSON).<LazyChannel>readValue(payload).channel();
+    writeChannel(channel, new ByteArrayOutputStream(payload.length));
+  }
+
   public Channel parseChannel(InputStream input) throws JsonProcessingException, IOException {
+    byte[] payload = ResourceUtils.getInstance().readBytes(input);
+    return parseChannel(payload, 0, payload.length);
+  }
+
+  public Channel parseChannel(byte[] payload) throws IOException {
+    return parseChannel(payload, 0, payload.length);
+  }
+
+  /**
+   * Identical payloads are parsed once and then served from the template cache; the SDK models
+   * are immutable so the same {@link Channel} can be returned to every caller. The payload may
+   * be JSON, Smile or CBOR; the format is detected from its leading bytes.
+   */
+  public Channel parseChannel(byte[] payload, int offset, int length) throws IOException {
+    TemplateKey key = new TemplateKey(ContentHash.hash64(payload, offset, length), length);
+    ObjectReader reader = channelReaders.get(TemplateFormat.detect(payload, offset, length));
+    return parseChannel(key, () -> reader.readValue(payload, offset, length));
+  }
+
+  /**
+   * Parses the remaining bytes of {@code buffer}. Heap buffers are handed to Jackson as arrays;
+   * direct and memory-mapped buffers are streamed from without copying them as a whole. The
+   * buffer position is not changed.
+   */
+  public Channel parseChannel(ByteBuffer buffer) throws IOException {
+    if (buffer.hasArray()) {
+      return parseChannel(
+          buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+    }
+    TemplateKey key = new TemplateKey(ContentHash.hash64(buffer), buffer.remaining());
+    ObjectReader reader = channelReaders.get(TemplateFormat.detect(buffer));
+    return parseChannel(key, () ->
+        reader.readValue(new ByteBufferBackedInputStream(buffer.duplicate())));
+  }
+
+  /**
+   * Parses a channel template file. Files of at least {@link #MEMORY_MAP_THRESHOLD_BYTES} are
+   * memory-mapped instead of being read onto the heap.
+   */
+  public Channel parseChannel(Path path) throws IOException {
+    try (FileChannel file = FileChannel.open(path, StandardOpenOption.READ)) {
+      long size = file.size();
+      if (size < MEMORY_MAP_THRESHOLD_BYTES) {
+        return parseChannel(Files.readAllBytes(path));
+      }
+      logger.info("Memory-mapping channel template '{}' of {} bytes...", path, size);
+      return parseChannel(file.map(FileChannel.MapMode.READ_ONLY, 0, size));
+    }
+  }
+
+  private Channel parseChannel(TemplateKey key, ChannelParser parser) throws IOException {
+    Channel channel = templateCache.get(key);
+    if (Objects.nonNull(channel)) {
+      logger.info("Using cached channel template '{}'.", channel.name());
+      return channel;
+    }
+
     logger.info("Parsing channel JSON payload...");
-    return mapper.readValue(input, Channel.class);
+    channel = parser.parse();
+    templateCache.put(key, channel, ModelSize.estimate(channel));
+    return channel;
+  }
+
+  /**
+   * Parses a channel but keeps its {@code encoderSettings} as buffered tokens until
+   * {@link LazyChannel#channel()} is called, for callers that may reject the request on its
+   * name, tags or class. Templates already in the template cache are returned materialized.
+   */
+  public LazyChannel parseLazyChannel(InputStream input) throws IOException {
+    byte[] payload = ResourceUtils.getInstance().readBytes(input);
+    Channel cached = templateCache.get(
+        new TemplateKey(ContentHash.hash64(payload, 0, payload.length), payload.length));
+    if (Objects.nonNull(cached)) {
+      logger.info("Using cached channel template '{}'.", cached.name());
+      return LazyChannel.of(cached);
+    }
+
+    logger.info("Parsing channel JSON payload lazily...");
+    return lazyChannelReaders.get(TemplateFormat.detect(payload, 0, payload.length))
+        .readValue(payload);
+  }
+
+  /**
+   * Parses a JSON array or newline-delimited manifest of channels, handing each channel to the
+   * consumer as soon as it has been read.
+   *
+   * @return number of channels parsed
+   */
+  public int parseChannels(InputStream input, Consumer<Channel> consumer) throws IOException {
+    logger.info("Parsing channel JSON manifest...");
+    return channelStreamReader.read(input, consumer);
+  }
+
+  /**
+   * Parses a channel manifest file, memory-mapping it when it is at least
+   * {@link #MEMORY_MAP_THRESHOLD_BYTES} long.
+   *
+   * @return number of channels parsed
+   */
+  public int parseChannels(Path path, Consumer<Channel> consumer) throws IOException {
+    try (FileChannel file = FileChannel.open(path, StandardOpenOption.READ)) {
+      long size = file.size();
+      if (size < MEMORY_MAP_THRESHOLD_BYTES) {
+        return parseChannels(new ByteArrayInputStream(Files.readAllBytes(path)), consumer);
+      }
+      logger.info("Memory-mapping channel manifest '{}' of {} bytes...", path, size);
+      ByteBuffer buffer = file.map(FileChannel.MapMode.READ_ONLY, 0, size);
+      return parseChannels(new ByteBufferBackedInputStream(buffer), consumer);
+    }
+  }
+
+  /**
+   * Writes {@code channel} as a template that {@link #parseChannel(InputStream)} reads back.
+   * Members are written in a fixed order, so equal channels produce identical bytes. The
+   * stream is left open.
+   */
+  public void writeChannel(Channel channel, OutputStream output) throws IOException {
+    mapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET).writeValue(output, channel);
+  }
+
+  /**
+   * Exports the configuration of a provisioned channel as a template.
+   */
+  public void exportChannel(String channelId, OutputStream output) throws IOException {
+    logger.info("Exporting channel '{}'...", channelId);
+    writeChannel(describeChannel(channelId).toBuilder()
+        .id(null)
+        .arn(null)
+        .state((String) null)
+        .build(), output);
+  }
+
+  /**
+   * Applies a JSON Merge Patch overlay, e.g. a new name, destinations or tags, to a pre-parsed
+   * base channel. Only the patched members are read; all other parts of {@code base} are shared
+   * with the returned channel.
+   */
+  public Channel patchChannel(Channel base, InputStream patch) throws IOException {
+    return mergePatch.apply(base, mapper.readTree(patch));
   }
 
   public Channel createChannel(InputStream input) throws JsonProcessingException, IOException {
     return createChannel(parseChannel(input));
   }
 
+  /**
+   * @param roleDeadline latest time to wait for a newly created MediaLive access role to
+   *     propagate, e.g. derived from the remaining time of the Lambda invocation
+   */
+  public Channel createChannel(InputStream input, Instant roleDeadline) throws IOException {
+    return createChannel(parseChannel(input), roleDeadline);
+  }
+
+  /**
+   * @param idempotencyKey identifies the caller's request, e.g. the Lambda request id, which
+   *     stays the same when an invocation is retried
+   * @see #createChannel(Channel, Instant, String)
+   */
+  public Channel createChannel(InputStream input, Instant roleDeadline, String idempotencyKey)
+      throws IOException {
+    return createChannel(parseChannel(input), roleDeadline, idempotencyKey);
+  }
+
+  /**
+   * Creates a channel from a base template and a JSON Merge Patch overlay.
+   *
+   * @see #patchChannel(Channel, InputStream)
+   */
+  public Channel createChannel(Channel base, InputStream patch) throws IOException {
+    return createChannel(patchChannel(base, patch));
+  }
+
+  /**
+   * Materializes the buffered {@code encoderSettings} of {@code channel} and creates it.
+   */
+  public Channel createChannel(LazyChannel channel) throws IOException {
+    return createChannel(channel.channel());
+  }
+
+  /**
+   * Creates every channel of a manifest. Each channel is submitted to {@code executor} as soon
+   * as it has been parsed, so provisioning overlaps with parsing of the following channels.
+   *
+   * @param input JSON array or newline-delimited manifest of channels
+   * @param executor runs the channel creations
+   * @return one future per channel, in manifest order
+   */
+  public List<CompletableFuture<Channel>> createChannels(InputStream input, Executor executor)
+      throws IOException {
+    List<CompletableFuture<Channel>> channels = new ArrayList<>();
+    parseChannels(input, channel ->
+        channels.add(CompletableFuture.supplyAsync(() -> createChannel(channel), executor)));
+    return channels;
+  }
+
+  /**
+   * Creates a batch of channels, at most {@code CHANNEL_BATCH_CONCURRENCY} (default 10) at a
+   * time.
+   *
+   * @see #createChannels(List, int)
+   */
+  public ChannelBatchResult createChannels(List<Channel> channels) {
+    return createChannels(channels, CHANNEL_BATCH_CONCURRENCY);
+  }
+
+  /**
+   * Creates a batch of channels with at most {@code concurrency} creations in flight. The
+   * MediaLive access role is resolved once for all channels without a role ARN. A channel that
+   * fails is recorded in the result and does not stop the others.
+   *
+   * @return one entry per channel, in the order of {@code channels}
+   */
+  public ChannelBatchResult createChannels(List<Channel> channels, int concurrency) {
+    logger.info("Creating {} channels, {} at a time...", channels.size(), concurrency);
+    long start = System.nanoTime();
+    Supplier<String> roleArn = sharedRoleArn(channels);
+
+    ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+    List<ChannelBatchResult.Entry> entries = new ArrayList<>();
+    try {
+      List<CompletableFuture<ChannelBatchResult.Entry>> futures = new ArrayList<>();
+      for (Channel channel : channels) {
+        futures.add(CompletableFuture.supplyAsync(
+            () -> createBatchEntry(channel, roleArn), executor));
+      }
+      for (CompletableFuture<ChannelBatchResult.Entry> future : futures) {
+        entries.add(future.join());
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    ChannelBatchResult result = new ChannelBatchResult(entries, System.nanoTime() - start);
+    logger.info("Channel batch done: {}", result.summary());
+    return result;
+  }
+
+  /**
+   * Looks the role up before the batch starts if any channel needs it. A failed lookup fails
+   * only the channels that depend on it.
+   */
+  private Supplier<String> sharedRoleArn(List<Channel> channels) {
+    if (channels.stream().allMatch(channel -> Objects.nonNull(channel.roleArn()))) {
+      return () -> {
+        throw new IllegalStateException("No shared role was resolved");
+      };
+    }
+    try {
+      String arn = resolveRoleArn(defaultRoleDeadline());
+      return () -> arn;
+    } catch (RuntimeException e) {
+      logger.error("Could not resolve role '{}' for the batch", MEDIA_LIVE_ACCESS_ROLE, e);
+      return () -> {
+        throw e;
+      };
+    }
+  }
+
+  private ChannelBatchResult.Entry createBatchEntry(Channel channel, Supplier<String> roleArn) {
+    long start = System.nanoTime();
+    try {
+      Channel withRole = Objects.nonNull(channel.roleArn())
+          ? channel : channel.toBuilder().roleArn(roleArn.get()).build();
+      Channel created = createChannel(withRole);
+      return new ChannelBatchResult.Entry(
+          channel.name(), created, null, System.nanoTime() - start);
+    } catch (RuntimeException e) {
+      logger.error("Failed to create channel '{}'", channel.name(), e);
+      return new ChannelBatchResult.Entry(channel.name(), null, e, System.nanoTime() - start);
+    }
+  }
+
+  /**
+   * @throws com.amazonaws.examples.validation.InvalidChannelException if the channel contains
+   *     broken references; nothing has been provisioned for it at that point
+   */
   public Channel createChannel(Channel channel) {
+    return createChannel(channel, defaultRoleDeadline());
+  }
+
+  /**
+   * @param roleDeadline latest time to wait for a newly created MediaLive access role to
+   *     propagate
+   * @see #createChannel(Channel)
+   */
+  public Channel createChannel(Channel channel, Instant roleDeadline) {
+    return createChannel(channel, roleDeadline, null);
+  }
+
+  /**
+   * Creates the channel idempotently: the default input and the channel are requested with
+   * tokens derived from {@code idempotencyKey} and a hash of the channel, and their ids are
+   * recorded in the request journal. A retry with the same key and channel returns the channel
+   * created before without creating anything.
+   *
+   * @param idempotencyKey identifies the caller's request; {@code null} creates the channel
+   *     without idempotency tokens
+   */
+  public Channel createChannel(Channel channel, Instant roleDeadline, String idempotencyKey) {
     logger.info("Creating channel '{}'...", channel.name());
-    CreateChannelRequest.Builder builder = CreateChannelRequest
-        .builder()
-        .name(channel.name())
-        .inputAttachments(channel.inputAttachments())
-        .destinations(channel.destinations())
-        .encoderSettings(channel.encoderSettings())
-        .inputSpecification(channel.inputSpecification())
-        .logLevel(channel.logLevel())
-        .tags(channel.tags())
-        .channelClass(channel.channelClass());
+    channelValidator.check(channel);
 
-    checkRoleArn(channel, builder);
+    String key = Objects.nonNull(idempotencyKey)
+        ? idempotencyKey(mapper, idempotencyKey, channel) : null;
+    String journaledChannelId =
+        Objects.nonNull(key) ? requestJournal.lookup(key + "/channel") : null;
+    if (Objects.nonNull(journaledChannelId)) {
+      logger.info("Channel {} was already created for this request.", journaledChannelId);
+      return describeChannel(journaledChannelId);
+    }
 
-    checkInputAttachments(channel, builder);
+    CreateChannelRequest.Builder builder = createChannelRequest(channel);
+    if (Objects.nonNull(key)) {
+      builder.requestId(requestId(key, "channel"));
+    }
 
-    CreateChannelRequest createChannelRequest = builder.build();
+    checkRoleArn(channel, builder, roleDeadline);
 
-    CreateChannelResponse createChannelResponse = emlClient.createChannel(createChannelRequest);
+    checkInputAttachments(channel, builder, key);
+
+    CreateChannelResponse createChannelResponse = sendCreateChannel(channel, builder, roleDeadline);
     logger.info("New channel created.");
     logger.info("Channel ID: {}", createChannelResponse.channel().id());
     logger.info("Channel ARN: {}", createChannelResponse.channel().arn());
     logger.info("Channel Name: {}", createChannelResponse.channel().name());
     logger.info("Channel State: {}", createChannelResponse.channel().stateAsString());
+    if (Objects.nonNull(key)) {
+      requestJournal.record(key + "/channel", createChannelResponse.channel().id());
+    }
+    inventory.putChannel(channelSummary(createChannelResponse.channel()));
     return createChannelResponse.channel();
   }
 
-  private void checkInputAttachments(Channel channel, CreateChannelRequest.Builder builder) {
+  /**
+   * IAM may already answer reads for a new role that MediaLive cannot assume yet, so a request
+   * rejected because of its role is sent again with the waiter's backoff until
+   * {@code roleDeadline}. The cached role ARN is dropped and resolved again before every retry.
+   */
+  private CreateChannelResponse sendCreateChannel(Channel channel,
+      CreateChannelRequest.Builder builder, Instant roleDeadline) {
+    AtomicBoolean roleRejected = new AtomicBoolean();
+    try {
+      return roleReadinessWaiter.retry(() -> {
+        if (roleRejected.get()) {
+          checkRoleArn(channel, builder, roleDeadline);
+        }
+        CreateChannelRequest createChannelRequest = builder.build();
+        try {
+          return emlClient.createChannel(createChannelRequest);
+        } catch (MediaLiveException e) {
+          if (isRoleError(e)) {
+            roleRejected.set(true);
+            roleArnCache.invalidate(MEDIA_LIVE_ACCESS_ROLE, createChannelRequest.roleArn());
+          }
+          throw e;
+        }
+      }, ElementalMediaLiveProcessor::isRoleError, roleDeadline);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Waiting thread interrupted.", e);
+    }
+  }
+
+  static ChannelSummary channelSummary(Channel channel) {
+    return ChannelSummary.builder()
+        .id(channel.id())
+        .arn(channel.arn())
+        .name(channel.name())
+        .state(channel.stateAsString())
+        .inputAttachments(channel.inputAttachments())
+        .destinations(channel.destinations())
+        .inputSpecification(channel.inputSpecification())
+        .logLevel(channel.logLevelAsString())
+        .tags(channel.tags())
+        .channelClass(channel.channelClassAsString())
+        .roleArn(channel.roleArn())
+        .build();
+  }
+
+  /**
+   * @return {@code callerKey} qualified by a hash of the channel, so a different channel sent
+   *     under the same key is not mistaken for a retry
+   */
+  static String idempotencyKey(ObjectMapper mapper, String callerKey, Channel channel) {
+    try {
+      return callerKey + "/"
+          + Long.toHexString(ContentHash.hash64(mapper.writeValueAsBytes(channel)));
+    } catch (JsonProcessingException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * @return a request id that is the same for every attempt with {@code key}
+   */
+  static String requestId(String key, String resource) {
+    return REQUEST_ID_PREFIX + UUID.nameUUIDFromBytes(
+        (key + "/" + resource).getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * @return the provisioned channel with id, ARN and state
+   */
+  private Channel describeChannel(String channelId) {
+    DescribeChannelResponse response = emlClient.describeChannel(
+        DescribeChannelRequest.builder().channelId(channelId).build());
+    return Channel.builder()
+        .id(response.id())
+        .arn(response.arn())
+        .name(response.name())
+        .state(response.stateAsString())
+        .inputAttachments(response.inputAttachments())
+        .destinations(response.destinations())
+        .encoderSettings(response.encoderSettings())
+        .inputSpecification(response.inputSpecification())
+        .logLevel(response.logLevelAsString())
+        .tags(response.tags())
+        .channelClass(response.channelClassAsString())
+        .roleArn(response.roleArn())
+        .build();
+  }
+
+  private void checkInputAttachments(Channel channel, CreateChannelRequest.Builder builder,
+      String key) {
     List<InputAttachment> inputAttachments;
     if (channel.hasInputAttachments()) {
       inputAttachments = channel.inputAttachments();
     } else {
-      inputAttachments = createDefaultInputAttachments();
+      inputAttachments = createDefaultInputAttachments(key);
     }
     builder.inputAttachments(inputAttachments);
   }
 
-  private List<InputAttachment> createDefaultInputAttachments() {
-    List<InputAttachment> inputAttachments;
-    InputSecurityGroup inSg = createInputSecurityGroup(DEFAULT_INPUT_SG_WHITELIST_CIDR);
-    Input input = createRtmpInput(DEFAULT_RTMP_INPUT_NAME, DEFAULT_RTMP_INPUT_NAME, inSg);
-    inputAttachments = new ArrayList<>();
-    InputAttachment.Builder inputAttachmentBuilder = InputAttachment.builder()
+  /**
+   * @param key idempotency key of the channel; the input created for it is journaled and
+   *     reused by retries
+   */
+  private List<InputAttachment> createDefaultInputAttachments(String key) {
+    String journaledInputId = Objects.nonNull(key) ? requestJournal.lookup(key + "/input") : null;
+    Input input;
+    if (Objects.nonNull(journaledInputId)) {
+      logger.info("Input {} was already created for this request.", journaledInputId);
+      input = Input.builder()
+          .id(journaledInputId)
+          .name(settings.DEFAULT_RTMP_INPUT_NAME)
+          .build();
+    } else if (Objects.nonNull(rtmpInputPool)) {
+      input = rtmpInputPool.claim();
+    } else if (Objects.nonNull(key)) {
+      input = createDefaultRtmpInput(requestId(key, "input"), null);
+    } else {
+      input = createDefaultRtmpInput();
+    }
+    if (Objects.nonNull(key) && Objects.isNull(journaledInputId)) {
+      requestJournal.record(key + "/input", input.id());
+    }
+    List<InputAttachment> inputAttachments = new ArrayList<>();
+    inputAttachments.add(defaultInputAttachment(input));
+    return inputAttachments;
+  }
+
+  private Input createDefaultRtmpInput() {
+    return createDefaultRtmpInput(REQUEST_ID_PREFIX + UUID.randomUUID().toString(), null);
+  }
+
+  private Input createPooledRtmpInput() {
+    return createDefaultRtmpInput(REQUEST_ID_PREFIX + UUID.randomUUID().toString(),
+        Collections.singletonMap(RtmpInputPool.TAG, RTMP_INPUT_POOL_TAG));
+  }
+
+  private Input createDefaultRtmpInput(String requestId, Map<String, String> tags) {
+    InputSecurityGroup inSg =
+        inputSecurityGroupPool.acquire(settings.DEFAULT_INPUT_SG_WHITELIST_CIDR);
+    return createRtmpInput(settings.DEFAULT_RTMP_INPUT_NAME, settings.DEFAULT_RTMP_INPUT_NAME,
+        inSg, requestId, tags);
+  }
+
+  /**
+   * @return unattached inputs tagged by the pools of this function
+   */
+  private List<Input> pooledRtmpInputsLeftBehind() {
+    return inventory.inputsByTag(RtmpInputPool.TAG, RTMP_INPUT_POOL_TAG).stream()
+        .filter(input -> input.state() == InputState.DETACHED)
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * @return the request for {@code channel}, still without role ARN
+   */
+  static CreateChannelRequest.Builder createChannelRequest(Channel channel) {
+    return CreateChannelRequest
+        .builder()
+        .name(channel.name())
+        .inputAttachments(channel.inputAttachments())
+        .destinations(channel.destinations())
+        .encoderSettings(channel.encoderSettings())
+        .inputSpecification(channel.inputSpecification())
+        .logLevel(channel.logLevel())
+        .tags(channel.tags())
+        .channelClass(channel.channelClass());
+  }
+
+  static InputAttachment defaultInputAttachment(Input input) {
+    return InputAttachment.builder()
         .inputId(input.id())
         .inputAttachmentName(input.name())
         .inputSettings(inputSettingsBuilder -> inputSettingsBuilder
@@ -172,9 +813,23 @@ public class ElementalMediaLiveProcessor {
             .filterStrength(1)
             .deblockFilter(InputDeblockFilter.DISABLED)
             .denoiseFilter(InputDenoiseFilter.DISABLED)
-            .smpte2038DataPreference(Smpte2038DataPreference.IGNORE));
-    inputAttachments.add(inputAttachmentBuilder.build());
-    return inputAttachments;
+            .smpte2038DataPreference(Smpte2038DataPreference.IGNORE))
+        .build();
+  }
+
+  static void rtmpInputRequest(CreateInputRequest.Builder builder, String inputName,
+      String inputDestinationStreamName, InputSecurityGroup inSg, String requestId) {
+    List<InputDestinationRequest> inputDestinations = new ArrayList<>();
+    inputDestinations.add(InputDestinationRequest
+        .builder()
+        .streamName(inputDestinationStreamName)
+        .build());
+    builder
+        .name(inputName)
+        .requestId(requestId)
+        .type(InputType.RTMP_PUSH)
+        .destinations(inputDestinations)
+        .inputSecurityGroups(inSg.id());
   }
 
   /**
@@ -184,36 +839,61 @@ public class ElementalMediaLiveProcessor {
    *
    * @param channel channel object parsed from input
    * @param builder instance of {@link CreateChannelRequest.Builder}
+   * @param roleDeadline latest time to wait for a newly created role to propagate
    */
-  private void checkRoleArn(Channel channel, CreateChannelRequest.Builder builder) {
+  private void checkRoleArn(Channel channel, CreateChannelRequest.Builder builder,
+      Instant roleDeadline) {
 
     if (Objects.nonNull(channel.roleArn())) {
       builder.roleArn(channel.roleArn());
     } else {
-      Role emlRole = getOrCreateRole(MEDIA_LIVE_ACCESS_ROLE);
-      builder.roleArn(emlRole.arn());
+      builder.roleArn(resolveRoleArn(roleDeadline));
+    }
+  }
+
+  private String resolveRoleArn(Instant roleDeadline) {
+    return roleArnCache.get(MEDIA_LIVE_ACCESS_ROLE,
+        () -> getOrCreateRole(MEDIA_LIVE_ACCESS_ROLE, roleDeadline).arn());
+  }
+
+  /**
+   * MediaLive rejects a channel whose role is missing, not assumable or lacks permissions with a
+   * client error that names the role.
+   */
+  static boolean isRoleError(Throwable e) {
+    if (!(e instanceof MediaLiveException)) {
+      return false;
     }
+    int status = ((MediaLiveException) e).statusCode();
+    return (status == 400 || status == 403 || status == 422)
+        && Objects.nonNull(e.getMessage())
+        && e.getMessage().toLowerCase(Locale.ROOT).contains("role");
   }
 
   public Input createRtmpInput(String inputName, String inputDestinationStreamName,
       InputSecurityGroup inSg) {
+    return createRtmpInput(inputName, inputDestinationStreamName, inSg,
+        REQUEST_ID_PREFIX + UUID.randomUUID().toString());
+  }
+
+  /**
+   * @param requestId idempotency token; MediaLive returns the input created by an earlier
+   *     request with the same token instead of creating another one
+   */
+  public Input createRtmpInput(String inputName, String inputDestinationStreamName,
+      InputSecurityGroup inSg, String requestId) {
+    return createRtmpInput(inputName, inputDestinationStreamName, inSg, requestId, null);
+  }
+
+  private Input createRtmpInput(String inputName, String inputDestinationStreamName,
+      InputSecurityGroup inSg, String requestId, Map<String, String> tags) {
     logger.info("Creating RTMP Input with name '{}'...", inputName);
-    final String requestId = REQUEST_ID_PREFIX + UUID.randomUUID().toString();
-    CreateInputResponse createInputResponse = emlClient.createInput(builder -> {
-      List<InputDestinationRequest> inputDestinations = new ArrayList<>();
-      inputDestinations.add(InputDestinationRequest
-          .builder()
-          .streamName(inputDestinationStreamName)
-          .build());
-      builder
-          .name(inputName)
-          .requestId(requestId)
-          .type(InputType.RTMP_PUSH)
-          .destinations(inputDestinations)
-          .inputSecurityGroups(inSg.id());
-    });
+    CreateInputResponse createInputResponse = emlClient.createInput(builder ->
+        rtmpInputRequest(builder.tags(tags), inputName, inputDestinationStreamName, inSg,
+            requestId));
     Input input = createInputResponse.input();
     logger.info("Created Input - Request Id: {}, Id: {}", requestId, input.id());
+    inventory.putInput(input);
     return input;
   }
 
@@ -231,10 +911,19 @@ public class ElementalMediaLiveProcessor {
             builder -> builder.whitelistRules(inWhitelistRuleCidrsList));
     InputSecurityGroup inSg = createInputSecurityGroupResponse.securityGroup();
     logger.info("Created Security Group - Id: {}", inSg.id());
+    inventory.putSecurityGroup(inSg);
     return inSg;
   }
 
   public Role getOrCreateRole(String roleName) {
+    return getOrCreateRole(roleName, defaultRoleDeadline());
+  }
+
+  /**
+   * Looks the role up and creates it if it does not exist. A new role is returned as soon as it
+   * and its policies are visible, or at {@code deadline} at the latest.
+   */
+  public Role getOrCreateRole(String roleName, Instant deadline) {
     Role emlIamRole;
     try {
       logger.info("Checking for existing role with name '{}'...", roleName);
@@ -246,28 +935,56 @@ public class ElementalMediaLiveProcessor {
       logger.error("No Role found with name '{}'", roleName);
 
       logger.info("Creating new Role with name '{}'", roleName);
-      CreateRoleResponse createRoleResp = iamClient.createRole(builder -> builder
-          .assumeRolePolicyDocument(TRUST_DOCUMENT)
-          .roleName(roleName));
+      CreateRoleResponse createRoleResp = iamClient.createRole(builder ->
+          settings.createRoleRequest(builder, roleName));
 
-      iamClient.attachRolePolicy(builder -> builder
-          .policyArn(AMAZON_SSM_READ_ONLY_ACCESS_POLICY_ARN)
-          .roleName(createRoleResp.role().roleName()));
+      iamClient.attachRolePolicy(builder ->
+          settings.attachRolePolicyRequest(builder, createRoleResp.role().roleName()));
 
-      iamClient.putRolePolicy(builder -> builder
-          .policyDocument(POLICY_DOCUMENT)
-          .policyName(MEDIA_LIVE_CUSTOM_POLICY)
-          .roleName(createRoleResp.role().roleName()));
+      iamClient.putRolePolicy(builder ->
+          settings.putRolePolicyRequest(builder, createRoleResp.role().roleName()));
 
       emlIamRole = createRoleResp.role();
-      logger.info("Sleeping for 45 seconds to allow the IAM role and policy to propagate across regions...");
+      logger.info("Waiting until {} for the IAM role and policy to propagate...", deadline);
       try {
-        Thread.sleep(45 * 1000);
+        roleReadinessWaiter.await(roleName, MEDIA_LIVE_CUSTOM_POLICY,
+            AMAZON_SSM_READ_ONLY_ACCESS_POLICY_ARN, deadline);
       } catch (InterruptedException e1) {
+        Thread.currentThread().interrupt();
         throw new RuntimeException("Waiting thread interrupted.", e1);
       }
     }
     logger.info("Role ARN: {}", emlIamRole.arn());
     return emlIamRole;
   }
+
+  private Instant defaultRoleDeadline() {
+    return settings.defaultRoleDeadline();
+  }
+
+  @FunctionalInterface
+  private interface ChannelParser {
+    Channel parse() throws IOException;
+  }
+
+  private static final class TemplateKey {
+    private final long hash;
+    private final int length;
+
+    TemplateKey(long hash, int length) {
+      this.hash = hash;
+      this.length = length;
+    }
+
+    @Override public boolean equals(Object o) {
+      if (this == o) return true;
+      if (!(o instanceof TemplateKey)) return false;
+      TemplateKey that = (TemplateKey) o;
+      return hash == that.hash && length == that.length;
+    }
+
+    @Override public int hashCode() {
+      return Long.hashCode(hash) * 31 + length;
+    }
+  }
 }
@@ -0,0 +1,87 @@
+package com.amazonaws.examples;
+
+import static com.amazonaws.examples.ElementalMediaLiveProcessor.AMAZON_SSM_READ_ONLY_ACCESS_POLICY_ARN;
+import static com.amazonaws.examples.ElementalMediaLiveProcessor.MEDIA_LIVE_CUSTOM_POLICY;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import com.amazonaws.examples.iam.RoleReadinessWaiter;
+import com.amazonaws.examples.utils.ResourceUtils;
+
+import software.amazon.awssdk.services.iam.IamAsyncClient;
+import software.amazon.awssdk.services.iam.IamClient;
+import software.amazon.awssdk.services.iam.model.AttachRolePolicyRequest;
+import software.amazon.awssdk.services.iam.model.CreateRoleRequest;
+import software.amazon.awssdk.services.iam.model.PutRolePolicyRequest;
+
+/**
+ * Environment settings and IAM role definition shared by {@link ElementalMediaLiveProcessor}
+ * and {@link AsyncElementalMediaLiveProcessor}, so both create the same default input and role.
+ */
+class ProcessorSettings {
+  private final String TRUST_DOCUMENT =
+      ResourceUtils.getInstance().loadResource("/IamRoleTrustDocument.json");
+  private final String POLICY_DOCUMENT =
+      ResourceUtils.getInstance().loadResource("/IamRoleInlinePolicyDocument.json");
+  final String[] DEFAULT_INPUT_SG_WHITELIST_CIDR =
+      ResourceUtils.getInstance()
+          .getEnvAsArray("DEFAULT_INPUT_SG_WHITELIST_CIDR", "0.0.0.0/0");
+  final String DEFAULT_RTMP_INPUT_NAME =
+      ResourceUtils.getInstance().getEnv("DEFAULT_RTMP_INPUT_NAME", "Default_RTMP_Input");
+  private final long ROLE_PROPAGATION_TIMEOUT_SECONDS = Long.parseLong(
+      ResourceUtils.getInstance().getEnv("ROLE_PROPAGATION_TIMEOUT_SECONDS", "45"));
+  private final long ROLE_PROBE_BASE_DELAY_MILLIS = Long.parseLong(
+      ResourceUtils.getInstance().getEnv("ROLE_PROBE_BASE_DELAY_MILLIS", "250"));
+  private final long ROLE_PROBE_MAX_DELAY_MILLIS = Long.parseLong(
+      ResourceUtils.getInstance().getEnv("ROLE_PROBE_MAX_DELAY_MILLIS", "4000"));
+  private final int ROLE_PROBE_CONSECUTIVE = Integer.parseInt(
+      ResourceUtils.getInstance().getEnv("ROLE_PROBE_CONSECUTIVE", "2"));
+
+  /**
+   * Probes a new role with {@code ROLE_PROBE_BASE_DELAY_MILLIS} (default 250) growing to
+   * {@code ROLE_PROBE_MAX_DELAY_MILLIS} (4000) until {@code ROLE_PROBE_CONSECUTIVE} (2)
+   * consecutive probes see it.
+   */
+  RoleReadinessWaiter roleReadinessWaiter(IamClient iamClient) {
+    return new RoleReadinessWaiter(iamClient, Duration.ofMillis(ROLE_PROBE_BASE_DELAY_MILLIS),
+        Duration.ofMillis(ROLE_PROBE_MAX_DELAY_MILLIS), ROLE_PROBE_CONSECUTIVE);
+  }
+
+  /**
+   * @see #roleReadinessWaiter(IamClient)
+   */
+  RoleReadinessWaiter roleReadinessWaiter(IamAsyncClient iamClient) {
+    return new RoleReadinessWaiter(iamClient, Duration.ofMillis(ROLE_PROBE_BASE_DELAY_MILLIS),
+        Duration.ofMillis(ROLE_PROBE_MAX_DELAY_MILLIS), ROLE_PROBE_CONSECUTIVE);
+  }
+
+  /**
+   * Waits at most {@code ROLE_PROPAGATION_TIMEOUT_SECONDS} (default 45) for a new role.
+   */
+  Instant defaultRoleDeadline() {
+    return Instant.now().plusSeconds(ROLE_PROPAGATION_TIMEOUT_SECONDS);
+  }
+
+  CreateRoleRequest.Builder createRoleRequest(CreateRoleRequest.Builder builder,
+      String roleName) {
+    return builder
+        .assumeRolePolicyDocument(TRUST_DOCUMENT)
+        .roleName(roleName);
+  }
+
+  AttachRolePolicyRequest.Builder attachRolePolicyRequest(AttachRolePolicyRequest.Builder builder,
+      String roleName) {
+    return builder
+        .policyArn(AMAZON_SSM_READ_ONLY_ACCESS_POLICY_ARN)
+        .roleName(roleName);
+  }
+
+  PutRolePolicyRequest.Builder putRolePolicyRequest(PutRolePolicyRequest.Builder builder,
+      String roleName) {
+    return builder
+        .policyDocument(POLICY_DOCUMENT)
+        .policyName(MEDIA_LIVE_CUSTOM_POLICY)
+        .roleName(roleName);
+  }
+}
@@ -0,0 +1,483 @@
+package com.amazonaws.examples.codegen;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+/**
+ * Generates straight-line deserializers, and matching streaming serializers, for the SDK models
+ * listed in {@link GenerateDeserializers}. Fields are read from the fluent setters of each model's
+ * {@code Builder}, whose names match the MediaLive JSON member names, and are dispatched with a
+ * single {@code switch} on the interned field name. Nested models that are part of the same
+ * request are read by calling their generated deserializer directly; members whose type is not
+ * supported are skipped, and arrays of such members become empty lists. Skipped arrays are
+ * reported as compiler warnings, and logged when a non-empty one is read.
+ */
+@SupportedAnnotationTypes("com.amazonaws.examples.codegen.GenerateDeserializers")
+public class DeserializerProcessor extends AbstractProcessor {
+  private static final String JSON_UTILS = "com.amazonaws.examples.deserialize.JsonUtils";
+  private static final String WITH_STRINGS = "WithStrings";
+
+  @Override public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override public boolean process(Set<? extends TypeElement> annotations,
+      RoundEnvironment roundEnv) {
+
+    for (TypeElement annotation : annotations) {
+      for (Element site : roundEnv.getElementsAnnotatedWith(annotation)) {
+        generate((TypeElement) site, annotation);
+      }
+    }
+    return true;
+  }
+
+  private void generate(TypeElement site, TypeElement annotation) {
+    String packageName =
+        processingEnv.getElementUtils().getPackageOf(site).getQualifiedName().toString();
+    List<TypeElement> models = models(site, annotation);
+
+    Set<String> generated = new LinkedHashSet<>();
+    for (TypeElement model : models) {
+      generated.add(model.getQualifiedName().toString());
+    }
+
+    for (TypeElement model : models) {
+      TypeElement builder = builderOf(model);
+      if (Objects.isNull(builder)) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+            model.getQualifiedName() + " has no nested Builder interface", site);
+        continue;
+      }
+
+      List<Field> fields = fields(builder, generated);
+      for (Field field : fields) {
+        if (field.kind == Kind.SKIPPED_LIST) {
+          processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+              model.getQualifiedName() + "." + field.name + " is a list of "
+                  + field.type.getQualifiedName() + ", which is not supported; it is skipped",
+              site);
+        }
+      }
+      DeserializerWriter deserializer = new DeserializerWriter(packageName, model, fields);
+      write(site, deserializer.className(), deserializer.write());
+      SerializerWriter serializer = new SerializerWriter(packageName, model, fields);
+      write(site, serializer.className(), serializer.write());
+    }
+  }
+
+  private void write(TypeElement site, String simpleName, String source) {
+    String packageName =
+        processingEnv.getElementUtils().getPackageOf(site).getQualifiedName().toString();
+    String className = packageName + "." + simpleName;
+    try (Writer writer = processingEnv.getFiler().createSourceFile(className, site).openWriter()) {
+      writer.write(source);
+    } catch (IOException e) {
+      processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+          "Unable to write " + className + ": " + e.getMessage(), site);
+    }
+  }
+
+  private List<TypeElement> models(TypeElement site, TypeElement annotation) {
+    List<TypeElement> models = new ArrayList<>();
+    for (AnnotationMirror mirror : site.getAnnotationMirrors()) {
+      if (!mirror.getAnnotationType().asElement().equals(annotation)) {
+        continue;
+      }
+      for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+          : mirror.getElementValues().entrySet()) {
+
+        @SuppressWarnings("unchecked")
+        List<? extends AnnotationValue> values =
+            (List<? extends AnnotationValue>) entry.getValue().getValue();
+        for (AnnotationValue value : values) {
+          models.add((TypeElement) ((DeclaredType) value.getValue()).asElement());
+        }
+      }
+    }
+    return models;
+  }
+
+  private static TypeElement builderOf(TypeElement model) {
+    for (TypeElement nested : ElementFilter.typesIn(model.getEnclosedElements())) {
+      if (nested.getKind() == ElementKind.INTERFACE
+          && nested.getSimpleName().contentEquals("Builder")) {
+        return nested;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Picks one setter overload per member. Enum-typed overloads win over their {@code String}
+   * twins; consumer, varargs and {@code ...WithStrings} overloads are ignored.
+   */
+  private static List<Field> fields(TypeElement builder, Set<String> generated) {
+    Map<String, Field> fields = new LinkedHashMap<>();
+    for (ExecutableElement method : ElementFilter.methodsIn(builder.getEnclosedElements())) {
+      String name = method.getSimpleName().toString();
+      if (method.getModifiers().contains(Modifier.STATIC) || method.isVarArgs()
+          || method.getParameters().size() != 1 || name.endsWith(WITH_STRINGS)) {
+        continue;
+      }
+
+      Field field = classify(name, method.getParameters().get(0), generated);
+      if (Objects.isNull(field)) {
+        continue;
+      }
+      Field existing = fields.get(name);
+      if (Objects.isNull(existing) || field.kind == Kind.ENUM) {
+        fields.put(name, field);
+      }
+    }
+    return new ArrayList<>(fields.values());
+  }
+
+  private static Field classify(String name, VariableElement parameter, Set<String> generated) {
+    TypeMirror type = parameter.asType();
+    if (type.getKind() != TypeKind.DECLARED) {
+      return null;
+    }
+    DeclaredType declared = (DeclaredType) type;
+    TypeElement element = (TypeElement) declared.asElement();
+
+    switch (element.getQualifiedName().toString()) {
+      case "java.lang.String":
+        return new Field(name, Kind.STRING, null);
+      case "java.lang.Integer":
+        return new Field(name, Kind.INTEGER, null);
+      case "java.lang.Long":
+        return new Field(name, Kind.LONG, null);
+      case "java.lang.Double":
+        return new Field(name, Kind.DOUBLE, null);
+      case "java.lang.Boolean":
+        return new Field(name, Kind.BOOLEAN, null);
+      case "java.util.Collection":
+        return classifyList(name, declared.getTypeArguments().get(0), generated);
+      case "java.util.Map":
+        return isString(declared.getTypeArguments().get(0))
+            && isString(declared.getTypeArguments().get(1))
+            ? new Field(name, Kind.STRING_MAP, null) : null;
+      default:
+        break;
+    }
+
+    if (element.getKind() == ElementKind.ENUM) {
+      return new Field(name, Kind.ENUM, element);
+    }
+    if (element.getKind() == ElementKind.CLASS
+        && generated.contains(element.getQualifiedName().toString())) {
+      return new Field(name, Kind.MODEL, element);
+    }
+    return null;
+  }
+
+  private static Field classifyList(String name, TypeMirror member, Set<String> generated) {
+    if (member.getKind() != TypeKind.DECLARED) {
+      return null;
+    }
+    TypeElement element = (TypeElement) ((DeclaredType) member).asElement();
+
+    if (isString(member)) {
+      return new Field(name, Kind.STRING_LIST, null);
+    } else if (element.getKind() == ElementKind.ENUM) {
+      return new Field(name, Kind.ENUM_LIST, element);
+    } else if (generated.contains(element.getQualifiedName().toString())) {
+      return new Field(name, Kind.MODEL_LIST, element);
+    }
+    return new Field(name, Kind.SKIPPED_LIST, element);
+  }
+
+  private static boolean isString(TypeMirror type) {
+    return type.getKind() == TypeKind.DECLARED && ((TypeElement) ((DeclaredType) type).asElement())
+        .getQualifiedName().contentEquals("java.lang.String");
+  }
+
+  private enum Kind {
+    STRING("nextString", "writeString"),
+    INTEGER("nextInt", "writeNumber"),
+    LONG("nextLong", "writeNumber"),
+    DOUBLE("nextDouble", "writeNumber"),
+    BOOLEAN("nextBoolean", "writeBoolean"),
+    ENUM("nextEnum", "writeString"),
+    STRING_LIST("consumeStringArray", "writeStringArray"),
+    ENUM_LIST("consumeEnumArray", "writeStringArray"),
+    STRING_MAP("consumeStringMap", "writeStringMap"),
+    MODEL(null, "writeObject"),
+    MODEL_LIST("consumeArray", "writeArray"),
+    SKIPPED_LIST(null, null);
+
+    private final String reader;
+    private final String writer;
+
+    Kind(String reader, String writer) {
+      this.reader = reader;
+      this.writer = writer;
+    }
+  }
+
+  private static final class Field {
+    private final String name;
+    private final Kind kind;
+    private final TypeElement type;
+
+    private Field(String name, Kind kind, TypeElement type) {
+      this.name = name;
+      this.kind = kind;
+      this.type = type;
+    }
+  }
+
+  /**
+   * Import bookkeeping and class layout shared by the generated deserializers and serializers.
+   */
+  private abstract static class SourceWriter {
+    final String packageName;
+    final TypeElement model;
+    final List<Field> fields;
+    final Set<String> staticImports = new TreeSet<>();
+    final Set<String> dependencies = new LinkedHashSet<>();
+    private final Map<String, String> references = new HashMap<>();
+    private final Set<String> imports = new TreeSet<>();
+    private final String suffix;
+
+    SourceWriter(String packageName, TypeElement model, List<Field> fields, String suffix) {
+      this.packageName = packageName;
+      this.model = model;
+      this.fields = fields;
+      this.suffix = suffix;
+    }
+
+    String className() {
+      return model.getSimpleName() + suffix;
+    }
+
+    /**
+     * Renders the class; {@code body} is built first so that it can register imports.
+     */
+    String write(List<String> jacksonImports, String superType, String body) {
+      StringBuilder out = new StringBuilder();
+      out.append("package ").append(packageName).append(";\n\n");
+      for (String name : staticImports) {
+        out.append("import static ").append(JSON_UTILS).append('.').append(name).append(";\n");
+      }
+      out.append("\nimport java.io.IOException;\n\n");
+      for (String name : jacksonImports) {
+        out.append("import ").append(name).append(";\n");
+      }
+      out.append("\nimport org.slf4j.Logger;\n")
+          .append("import org.slf4j.LoggerFactory;\n\n");
+      for (String name : imports) {
+        out.append("import ").append(name).append(";\n");
+      }
+
+      out.append("\n/**\n")
+          .append(" * Generated by {@code DeserializerProcessor} from {@link ")
+          .append(reference(model)).append(".Builder}; do not edit.\n */\n")
+          .append("public class ").append(className())
+          .append(" extends ").append(superType).append(" {\n")
+          .append("  private final Logger logger = LoggerFactory.getLogger(getClass());\n");
+      for (String dependency : dependencies) {
+        out.append("  private final ").append(dependency).append(' ')
+            .append(fieldName(dependency)).append(";\n");
+      }
+
+      out.append("\n  public ").append(className()).append("() {\n")
+          .append("    logger.info(\"Loading...\");\n");
+      for (String dependency : dependencies) {
+        out.append("    ").append(fieldName(dependency)).append(" = ")
+            .append(dependency.equals(className()) ? "this" : "new " + dependency + "()")
+            .append(";\n");
+      }
+      out.append("  }\n\n")
+          .append(body)
+          .append("}\n");
+
+      return out.toString();
+    }
+
+    String dependency(TypeElement type) {
+      String dependency = type.getSimpleName() + suffix;
+      dependencies.add(dependency);
+      return fieldName(dependency);
+    }
+
+    /**
+     * Imports {@code type} unless another type with the same simple name already is.
+     */
+    String reference(TypeElement type) {
+      String qualifiedName = type.getQualifiedName().toString();
+      String simpleName = type.getSimpleName().toString();
+      if (qualifiedName.startsWith("java.lang.") && qualifiedName.indexOf('.', 10) < 0) {
+        return simpleName;
+      }
+
+      String existing = references.putIfAbsent(simpleName, qualifiedName);
+      if (Objects.nonNull(existing) && !existing.equals(qualifiedName)) {
+        return qualifiedName;
+      }
+      imports.add(qualifiedName);
+      return simpleName;
+    }
+
+    private static String fieldName(String className) {
+      return Character.toLowerCase(className.charAt(0)) + className.substring(1);
+    }
+  }
+
+  /**
+   * Renders one deserializer class in the layout of the hand-written ones it replaced.
+   */
+  private static final class DeserializerWriter extends SourceWriter {
+
+    private DeserializerWriter(String packageName, TypeElement model, List<Field> fields) {
+      super(packageName, model, fields, "Deserializer");
+    }
+
+    private String write() {
+      String modelName = reference(model);
+      staticImports.add("startObject");
+      staticImports.add("validateTokenType");
+
+      StringBuilder body = new StringBuilder()
+          .append("  @Override public ").append(modelName)
+          .append(" deserialize(JsonParser parser, DeserializationContext ctxt)\n")
+          .append("      throws IOException {\n\n")
+          .append("    startObject(parser);\n")
+          .append("    ").append(modelName).append(".Builder builder = ").append(modelName)
+          .append(".builder();\n\n")
+          .append("    JsonToken token = parser.nextToken();\n")
+          .append("    while (token == JsonToken.FIELD_NAME) {\n")
+          .append("      switch (parser.getCurrentName()) {\n");
+      for (Field field : fields) {
+        body.append("        case \"").append(field.name).append("\":\n")
+            .append("          builder.").append(field.name).append('(')
+            .append(valueOf(field)).append(");\n")
+            .append("          break;\n");
+      }
+      body.append("        default:\n")
+          .append("          parser.nextToken();\n")
+          .append("          parser.skipChildren();\n")
+          .append("          break;\n")
+          .append("      }\n\n")
+          .append("      token = parser.nextToken();\n")
+          .append("    }\n\n")
+          .append("    validateTokenType(parser, token, JsonToken.END_OBJECT);\n")
+          .append("    return builder.build();\n")
+          .append("  }\n");
+
+      return write(Arrays.asList(
+          "com.fasterxml.jackson.core.JsonParser",
+          "com.fasterxml.jackson.core.JsonToken",
+          "com.fasterxml.jackson.databind.DeserializationContext",
+          "com.fasterxml.jackson.databind.JsonDeserializer"),
+          "JsonDeserializer<" + modelName + ">", body.toString());
+    }
+
+    private String valueOf(Field field) {
+      switch (field.kind) {
+        case ENUM:
+        case ENUM_LIST:
+          staticImports.add(field.kind.reader);
+          return field.kind.reader + "(parser, " + reference(field.type) + ".class)";
+        case MODEL:
+          return dependency(field.type) + ".deserialize(parser, ctxt)";
+        case MODEL_LIST:
+          staticImports.add(field.kind.reader);
+          return field.kind.reader + "(parser, ctxt, " + dependency(field.type) + ")";
+        case SKIPPED_LIST:
+          String utils = JSON_UTILS.equals(packageName + ".JsonUtils") ? "JsonUtils" : JSON_UTILS;
+          return utils + ".<" + reference(field.type) + ">skipArray(parser)";
+        default:
+          staticImports.add(field.kind.reader);
+          return field.kind.reader + "(parser)";
+      }
+    }
+  }
+
+  /**
+   * Renders the serializer counterpart of {@link DeserializerWriter}. Members are written sorted
+   * by name, not in the setter order the compiler reports, so that equal models produce identical
+   * bytes on every JDK; unset members are omitted and members the deserializer skips are not
+   * written.
+   */
+  private static final class SerializerWriter extends SourceWriter {
+
+    private SerializerWriter(String packageName, TypeElement model, List<Field> fields) {
+      super(packageName, model, fields, "Serializer");
+    }
+
+    private String write() {
+      String modelName = reference(model);
+
+      StringBuilder body = new StringBuilder()
+          .append("  @Override public void serialize(").append(modelName)
+          .append(" value, JsonGenerator gen, SerializerProvider provider)\n")
+          .append("      throws IOException {\n\n")
+          .append("    gen.writeStartObject();\n");
+      List<Field> sorted = new ArrayList<>(fields);
+      sorted.sort(Comparator.comparing(field -> field.name));
+      for (Field field : sorted) {
+        if (Objects.isNull(field.kind.writer)) {
+          continue;
+        }
+        staticImports.add(field.kind.writer);
+        body.append("    ").append(field.kind.writer).append('(')
+            .append(argumentsOf(field)).append(");\n");
+      }
+      body.append("    gen.writeEndObject();\n")
+          .append("  }\n");
+
+      return write(Arrays.asList(
+          "com.fasterxml.jackson.core.JsonGenerator",
+          "com.fasterxml.jackson.databind.JsonSerializer",
+          "com.fasterxml.jackson.databind.SerializerProvider"),
+          "JsonSerializer<" + modelName + ">", body.toString());
+    }
+
+    private String argumentsOf(Field field) {
+      String name = "\"" + field.name + "\"";
+      switch (field.kind) {
+        case ENUM:
+          return "gen, " + name + ", value." + field.name + "AsString()";
+        case ENUM_LIST:
+          return "gen, " + name + ", value." + field.name + "AsStrings()";
+        case MODEL:
+        case MODEL_LIST:
+          return "gen, provider, " + name + ", value." + field.name + "(), "
+              + dependency(field.type);
+        default:
+          return "gen, " + name + ", value." + field.name + "()";
+      }
+    }
+  }
+}
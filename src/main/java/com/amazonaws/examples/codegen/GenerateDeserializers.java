@@ -0,0 +1,16 @@
+package com.amazonaws.examples.codegen;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Requests a generated {@code <Model>Deserializer} and {@code <Model>Serializer} for each listed
+ * SDK model, in the package of the annotated type. See {@link DeserializerProcessor}.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface GenerateDeserializers {
+  Class<?>[] value();
+}
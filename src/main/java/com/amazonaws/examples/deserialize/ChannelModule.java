@@ -0,0 +1,104 @@
+package com.amazonaws.examples.deserialize;
+
+import com.amazonaws.examples.codegen.GenerateDeserializers;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import software.amazon.awssdk.services.medialive.model.AacSettings;
+import software.amazon.awssdk.services.medialive.model.AudioCodecSettings;
+import software.amazon.awssdk.services.medialive.model.AudioDescription;
+import software.amazon.awssdk.services.medialive.model.Channel;
+import software.amazon.awssdk.services.medialive.model.EncoderSettings;
+import software.amazon.awssdk.services.medialive.model.H264Settings;
+import software.amazon.awssdk.services.medialive.model.InputAttachment;
+import software.amazon.awssdk.services.medialive.model.InputSettings;
+import software.amazon.awssdk.services.medialive.model.InputSpecification;
+import software.amazon.awssdk.services.medialive.model.MediaPackageGroupSettings;
+import software.amazon.awssdk.services.medialive.model.MediaPackageOutputDestinationSettings;
+import software.amazon.awssdk.services.medialive.model.MediaPackageOutputSettings;
+import software.amazon.awssdk.services.medialive.model.Output;
+import software.amazon.awssdk.services.medialive.model.OutputDestination;
+import software.amazon.awssdk.services.medialive.model.OutputGroup;
+import software.amazon.awssdk.services.medialive.model.OutputGroupSettings;
+import software.amazon.awssdk.services.medialive.model.OutputLocationRef;
+import software.amazon.awssdk.services.medialive.model.OutputSettings;
+import software.amazon.awssdk.services.medialive.model.PipelineDetail;
+import software.amazon.awssdk.services.medialive.model.TimecodeConfig;
+import software.amazon.awssdk.services.medialive.model.VideoCodecSettings;
+import software.amazon.awssdk.services.medialive.model.VideoDescription;
+
+/**
+ * Registers the channel deserializers and serializers that are looked up through the
+ * {@code ObjectMapper}. Both are generated at build time for the models listed below. With schema
+ * binding the models are read by the {@link SdkPojoModule} instead, which picks up members added
+ * by an SDK upgrade at the cost of slower parsing; the serializers stay the generated ones.
+ */
+@GenerateDeserializers({
+    AacSettings.class,
+    AudioCodecSettings.class,
+    AudioDescription.class,
+    Channel.class,
+    EncoderSettings.class,
+    H264Settings.class,
+    InputAttachment.class,
+    InputSettings.class,
+    InputSpecification.class,
+    MediaPackageGroupSettings.class,
+    MediaPackageOutputDestinationSettings.class,
+    MediaPackageOutputSettings.class,
+    Output.class,
+    OutputDestination.class,
+    OutputGroup.class,
+    OutputGroupSettings.class,
+    OutputLocationRef.class,
+    OutputSettings.class,
+    PipelineDetail.class,
+    TimecodeConfig.class,
+    VideoCodecSettings.class,
+    VideoDescription.class})
+public class ChannelModule extends SimpleModule {
+  private final boolean schemaBinding;
+
+  public ChannelModule() {
+    this(false);
+  }
+
+  /**
+   * @param schemaBinding read the models with {@link SdkPojoDeserializer} rather than with the
+   *     generated deserializers
+   */
+  public ChannelModule(boolean schemaBinding) {
+    super(ChannelModule.class.getSimpleName());
+    this.schemaBinding = schemaBinding;
+    addDeserializer(LazyChannel.class, new LazyChannelDeserializer());
+    if (!schemaBinding) {
+      addGeneratedDeserializers();
+    }
+
+    addSerializer(Channel.class, new ChannelSerializer());
+    addSerializer(EncoderSettings.class, new EncoderSettingsSerializer());
+    addSerializer(InputSpecification.class, new InputSpecificationSerializer());
+  }
+
+  @Override public void setupModule(SetupContext context) {
+    super.setupModule(context);
+    if (schemaBinding) {
+      new SdkPojoModule().setupModule(context);
+    }
+  }
+
+  private void addGeneratedDeserializers() {
+    addDeserializer(Channel.class, new ChannelDeserializer());
+    addDeserializer(EncoderSettings.class, new EncoderSettingsDeserializer());
+    addDeserializer(OutputGroupSettings.class, new OutputGroupSettingsDeserializer());
+    addDeserializer(MediaPackageGroupSettings.class, new MediaPackageGroupSettingsDeserializer());
+    addDeserializer(OutputSettings.class, new OutputSettingsDeserializer());
+    addDeserializer(
+        MediaPackageOutputSettings.class, new MediaPackageOutputSettingsDeserializer());
+    addDeserializer(AudioCodecSettings.class, new AudioCodecSettingsDeserializer());
+    addDeserializer(AacSettings.class, new AacSettingsDeserializer());
+    addDeserializer(VideoCodecSettings.class, new VideoCodecSettingsDeserializer());
+    addDeserializer(H264Settings.class, new H264SettingsDeserializer());
+    addDeserializer(InputSpecification.class, new InputSpecificationDeserializer());
+    addDeserializer(TimecodeConfig.class, new TimecodeConfigDeserializer());
+  }
+}
@@ -0,0 +1,60 @@
+package com.amazonaws.examples.deserialize;
+
+import static com.amazonaws.examples.deserialize.JsonUtils.validateTokenType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import software.amazon.awssdk.services.medialive.model.Channel;
+
+/**
+ * Reads a manifest of channels through a single {@link JsonParser}. The manifest is either a
+ * top-level JSON array of channels or a sequence of channel objects separated by whitespace,
+ * such as newline-delimited JSON. Each channel is handed to the consumer as soon as its closing
+ * brace has been read, so only one channel is held in memory at a time.
+ */
+public class ChannelStreamReader {
+  private final Logger logger = LoggerFactory.getLogger(getClass());
+  private final ObjectMapper mapper;
+  private final ObjectReader reader;
+
+  public ChannelStreamReader(ObjectMapper mapper) {
+    this.mapper = mapper;
+    this.reader = mapper.readerFor(Channel.class);
+  }
+
+  /**
+   * @return number of channels read
+   */
+  public int read(InputStream input, Consumer<Channel> consumer) throws IOException {
+    int count = 0;
+    try (JsonParser parser = mapper.getFactory().createParser(input)) {
+      JsonToken token = parser.nextToken();
+      JsonToken end = null;
+      if (token == JsonToken.START_ARRAY) {
+        end = JsonToken.END_ARRAY;
+        token = parser.nextToken();
+      }
+
+      while (token != end) {
+        validateTokenType(parser, token, JsonToken.START_OBJECT);
+        Channel channel = reader.readValue(parser);
+        count++;
+        logger.debug("Read channel #{} '{}'", count, channel.name());
+        consumer.accept(channel);
+
+        token = parser.nextToken();
+      }
+    }
+    return count;
+  }
+}
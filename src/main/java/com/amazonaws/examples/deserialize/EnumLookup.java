@@ -0,0 +1,122 @@
+package com.amazonaws.examples.deserialize;
+
+import static com.amazonaws.examples.deserialize.JsonUtils.validateTokenType;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Precomputed wire value to constant table for a MediaLive model enum. Values are matched
+ * directly against the parser's character buffer so resolving an enum field does not
+ * materialize a {@link String}. Values that are not known to this SDK version resolve to
+ * {@code UNKNOWN_TO_SDK_VERSION}, like the generated {@code fromValue} methods do.
+ *
+ * @param <E> model enum type
+ */
+public final class EnumLookup<E extends Enum<E>> {
+  static final String UNKNOWN_CONSTANT = "UNKNOWN_TO_SDK_VERSION";
+
+  private static final ClassValue<EnumLookup<?>> LOOKUPS = new ClassValue<EnumLookup<?>>() {
+    @Override protected EnumLookup<?> computeValue(Class<?> type) {
+      return create(type.asSubclass(Enum.class));
+    }
+  };
+
+  private final char[][] keys;
+  private final E[] constants;
+  private final int mask;
+  private final E unknown;
+
+  private EnumLookup(Class<E> type) {
+    E[] values = type.getEnumConstants();
+    // At most half full, so probe sequences stay short.
+    int capacity = Integer.highestOneBit(Math.max(values.length, 1) * 2) << 1;
+    keys = new char[capacity][];
+    constants = newArray(type, capacity);
+    mask = capacity - 1;
+
+    E unknownConstant = null;
+    for (E value : values) {
+      if (UNKNOWN_CONSTANT.equals(value.name())) {
+        unknownConstant = value;
+        continue;
+      }
+      char[] key = value.toString().toCharArray();
+      int slot = hash(key, 0, key.length) & mask;
+      while (keys[slot] != null) {
+        slot = (slot + 1) & mask;
+      }
+      keys[slot] = key;
+      constants[slot] = value;
+    }
+    unknown = unknownConstant;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <E> E[] newArray(Class<E> type, int length) {
+    return (E[]) Array.newInstance(type, length);
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static EnumLookup<?> create(Class<? extends Enum> type) {
+    return new EnumLookup(type);
+  }
+
+  /**
+   * Returns the shared lookup for {@code type}; tables are built once per enum class.
+   */
+  @SuppressWarnings("unchecked")
+  public static <E extends Enum<E>> EnumLookup<E> of(Class<E> type) {
+    return (EnumLookup<E>) LOOKUPS.get(type);
+  }
+
+  /**
+   * Advances to the next token, which must be a string, and resolves it. The parser is left on
+   * the value token.
+   */
+  public E next(JsonParser parser) throws IOException {
+    JsonToken token = parser.nextToken();
+    validateTokenType(parser, token, JsonToken.VALUE_STRING);
+
+    return resolve(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+  }
+
+  public E resolve(char[] text, int offset, int length) {
+    int slot = hash(text, offset, length) & mask;
+    char[] key;
+    while ((key = keys[slot]) != null) {
+      if (matches(key, text, offset, length)) {
+        return constants[slot];
+      }
+      slot = (slot + 1) & mask;
+    }
+    return unknown;
+  }
+
+  public E resolve(String value) {
+    return value == null ? null : resolve(value.toCharArray(), 0, value.length());
+  }
+
+  private static boolean matches(char[] key, char[] text, int offset, int length) {
+    if (key.length != length) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      if (key[i] != text[offset + i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int hash(char[] text, int offset, int length) {
+    int hash = 0;
+    for (int i = offset, end = offset + length; i < end; i++) {
+      hash = 31 * hash + text[i];
+    }
+    return hash ^ (hash >>> 16);
+  }
+}
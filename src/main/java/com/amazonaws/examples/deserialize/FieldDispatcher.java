@@ -0,0 +1,85 @@
+package com.amazonaws.examples.deserialize;
+
+import static com.amazonaws.examples.deserialize.JsonUtils.startObject;
+import static com.amazonaws.examples.deserialize.JsonUtils.validateTokenType;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+
+/**
+ * Field name to handler table shared by the channel deserializers. Every field of an object is
+ * looked up once by its canonical name; fields without a registered handler are skipped together
+ * with their children.
+ *
+ * @param <B> model builder populated by the handlers
+ */
+public class FieldDispatcher<B> {
+  private final Map<String, FieldHandler<B>> handlers;
+
+  private FieldDispatcher(Map<String, FieldHandler<B>> handlers) {
+    this.handlers = Collections.unmodifiableMap(new HashMap<>(handlers));
+  }
+
+  public static <B> Builder<B> builder() {
+    return new Builder<>();
+  }
+
+  /**
+   * Reads one JSON object into {@code builder}. The parser may be positioned either on the
+   * object's {@code START_OBJECT} or on the field name that precedes it, and is left on the
+   * matching {@code END_OBJECT}.
+   */
+  public void dispatch(JsonParser parser, DeserializationContext ctxt, B builder)
+      throws IOException {
+    startObject(parser);
+
+    JsonToken token = parser.nextToken();
+    while (token == JsonToken.FIELD_NAME) {
+      FieldHandler<B> handler = handlers.get(parser.getCurrentName());
+      if (Objects.isNull(handler)) {
+        parser.nextToken();
+        parser.skipChildren();
+      } else {
+        handler.consume(parser, ctxt, builder);
+      }
+
+      token = parser.nextToken();
+    }
+
+    validateTokenType(parser, token, JsonToken.END_OBJECT);
+  }
+
+  /**
+   * Consumes the value of a single field. It is invoked with the parser on the
+   * {@code FIELD_NAME} token and must leave it on the last token of the value.
+   */
+  @FunctionalInterface
+  public interface FieldHandler<B> {
+    void consume(JsonParser parser, DeserializationContext ctxt, B builder) throws IOException;
+  }
+
+  public static class Builder<B> {
+    private final Map<String, FieldHandler<B>> handlers = new HashMap<>();
+
+    private Builder() {
+    }
+
+    public Builder<B> field(String name, FieldHandler<B> handler) {
+      if (Objects.nonNull(handlers.putIfAbsent(name, handler))) {
+        throw new IllegalStateException("Duplicate handler for field '" + name + "'");
+      }
+      return this;
+    }
+
+    public FieldDispatcher<B> build() {
+      return new FieldDispatcher<>(handlers);
+    }
+  }
+}
@@ -1,15 +1,24 @@
 package com.amazonaws.examples.deserialize;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.core.util.SdkAutoConstructList;
+import software.amazon.awssdk.core.util.SdkAutoConstructMap;
 
 public class JsonUtils {
   private static final Logger LOGGER = LoggerFactory.getLogger(JsonUtils.class);
@@ -23,8 +32,155 @@ public class JsonUtils {
     }
   }
 
+  /**
+   * Moves the parser onto the start of an object, stepping over the field name when the caller
+   * is still positioned on it.
+   */
+  public static void startObject(JsonParser parser) throws IOException {
+    JsonToken token = parser.currentToken();
+    if (token == JsonToken.FIELD_NAME) {
+      token = parser.nextToken();
+    }
+    validateTokenType(parser, token, JsonToken.START_OBJECT);
+  }
+
+  public static String nextString(JsonParser parser) throws IOException {
+    JsonToken token = parser.nextToken();
+    validateTokenType(parser, token, JsonToken.VALUE_STRING);
+
+    return parser.getText();
+  }
+
+  /**
+   * Resolves the next string value through the shared {@link EnumLookup} of {@code type}.
+   */
+  public static <E extends Enum<E>> E nextEnum(JsonParser parser, Class<E> type)
+      throws IOException {
+    return EnumLookup.of(type).next(parser);
+  }
+
+  public static int nextInt(JsonParser parser) throws IOException {
+    JsonToken token = parser.nextToken();
+    validateTokenType(parser, token, JsonToken.VALUE_NUMBER_INT);
+
+    return parser.getIntValue();
+  }
+
+  public static long nextLong(JsonParser parser) throws IOException {
+    JsonToken token = parser.nextToken();
+    validateTokenType(parser, token, JsonToken.VALUE_NUMBER_INT);
+
+    return parser.getLongValue();
+  }
+
+  public static boolean nextBoolean(JsonParser parser) throws IOException {
+    JsonToken token = parser.nextToken();
+    if (token != JsonToken.VALUE_TRUE) {
+      validateTokenType(parser, token, JsonToken.VALUE_FALSE);
+    }
+
+    return token == JsonToken.VALUE_TRUE;
+  }
+
+  public static double nextDouble(JsonParser parser) throws IOException {
+    JsonToken token = parser.nextToken();
+    if (token != JsonToken.VALUE_NUMBER_FLOAT) {
+      validateTokenType(parser, token, JsonToken.VALUE_NUMBER_INT);
+    }
+
+    return parser.getDoubleValue();
+  }
+
+  public static List<String> consumeStringArray(JsonParser parser) throws IOException {
+    JsonToken token = parser.nextToken();
+    validateTokenType(parser, token, JsonToken.START_ARRAY);
+
+    List<String> list = new ArrayList<>();
+    token = parser.nextToken();
+    while (token != JsonToken.END_ARRAY) {
+      validateTokenType(parser, token, JsonToken.VALUE_STRING);
+      list.add(parser.getText());
+
+      token = parser.nextToken();
+    }
+
+    return list;
+  }
+
+  public static <E extends Enum<E>> List<E> consumeEnumArray(JsonParser parser, Class<E> type)
+      throws IOException {
+    JsonToken token = parser.nextToken();
+    validateTokenType(parser, token, JsonToken.START_ARRAY);
+
+    EnumLookup<E> lookup = EnumLookup.of(type);
+    List<E> list = new ArrayList<>();
+    token = parser.nextToken();
+    while (token != JsonToken.END_ARRAY) {
+      validateTokenType(parser, token, JsonToken.VALUE_STRING);
+      list.add(lookup.resolve(parser.getTextCharacters(), parser.getTextOffset(),
+          parser.getTextLength()));
+
+      token = parser.nextToken();
+    }
+
+    return list;
+  }
+
+  public static Map<String, String> consumeStringMap(JsonParser parser) throws IOException {
+    JsonToken token = parser.nextToken();
+    validateTokenType(parser, token, JsonToken.START_OBJECT);
+
+    Map<String, String> map = new HashMap<>();
+    token = parser.nextToken();
+    while (token != JsonToken.END_OBJECT) {
+      validateTokenType(parser, token, JsonToken.FIELD_NAME);
+      String key = parser.getCurrentName();
+      map.put(key, nextString(parser));
+
+      token = parser.nextToken();
+    }
+
+    return map;
+  }
+
+  /**
+   * Skips an array whose elements are not modelled yet and returns an empty list in its place.
+   * Dropping elements is logged as a warning.
+   */
+  public static <T> List<T> skipArray(JsonParser parser) throws IOException {
+    JsonToken token = parser.nextToken();
+    validateTokenType(parser, token, JsonToken.START_ARRAY);
+    String name = parser.getCurrentName();
+
+    int skipped = 0;
+    token = parser.nextToken();
+    while (token != JsonToken.END_ARRAY) {
+      if (Objects.isNull(token)) {
+        validateTokenType(parser, token, JsonToken.END_ARRAY);
+      }
+      parser.skipChildren();
+      skipped++;
+
+      token = parser.nextToken();
+    }
+    if (skipped > 0) {
+      LOGGER.warn("Skipped {} element(s) of \"{}\", whose type is not supported", skipped, name);
+    }
+
+    return new ArrayList<>();
+  }
+
+  /**
+   * Reads an array of models, in parallel when a {@link ParallelArrayReader} is enabled on the
+   * reader that created {@code ctxt}.
+   */
   public static <T> List<T> consumeArray(JsonParser parser, DeserializationContext ctxt,
       JsonDeserializer<T> deserializer) throws IOException {
+    ParallelArrayReader parallel = ParallelArrayReader.of(ctxt);
+    if (Objects.nonNull(parallel)) {
+      return parallel.consumeArray(parser, ctxt, deserializer);
+    }
+
     JsonToken token = parser.nextToken();
     validateTokenType(parser, token, JsonToken.START_ARRAY);
 
@@ -39,4 +195,92 @@ public class JsonUtils {
 
     return list;
   }
+
+  public static void writeString(JsonGenerator gen, String name, String value)
+      throws IOException {
+    if (Objects.nonNull(value)) {
+      gen.writeStringField(name, value);
+    }
+  }
+
+  public static void writeNumber(JsonGenerator gen, String name, Integer value)
+      throws IOException {
+    if (Objects.nonNull(value)) {
+      gen.writeNumberField(name, value);
+    }
+  }
+
+  public static void writeNumber(JsonGenerator gen, String name, Long value) throws IOException {
+    if (Objects.nonNull(value)) {
+      gen.writeNumberField(name, value);
+    }
+  }
+
+  public static void writeNumber(JsonGenerator gen, String name, Double value)
+      throws IOException {
+    if (Objects.nonNull(value)) {
+      gen.writeNumberField(name, value);
+    }
+  }
+
+  public static void writeBoolean(JsonGenerator gen, String name, Boolean value)
+      throws IOException {
+    if (Objects.nonNull(value)) {
+      gen.writeBooleanField(name, value);
+    }
+  }
+
+  /**
+   * Writes {@code values} unless the SDK reports the member as unset.
+   */
+  public static void writeStringArray(JsonGenerator gen, String name, List<String> values)
+      throws IOException {
+    if (isUnset(values)) {
+      return;
+    }
+    gen.writeArrayFieldStart(name);
+    for (String value : values) {
+      gen.writeString(value);
+    }
+    gen.writeEndArray();
+  }
+
+  /**
+   * Writes {@code values} with its keys sorted, so equal maps always serialize identically.
+   */
+  public static void writeStringMap(JsonGenerator gen, String name, Map<String, String> values)
+      throws IOException {
+    if (Objects.isNull(values) || values instanceof SdkAutoConstructMap) {
+      return;
+    }
+    gen.writeObjectFieldStart(name);
+    for (Map.Entry<String, String> entry : new TreeMap<>(values).entrySet()) {
+      gen.writeStringField(entry.getKey(), entry.getValue());
+    }
+    gen.writeEndObject();
+  }
+
+  public static <T> void writeObject(JsonGenerator gen, SerializerProvider provider, String name,
+      T value, JsonSerializer<T> serializer) throws IOException {
+    if (Objects.nonNull(value)) {
+      gen.writeFieldName(name);
+      serializer.serialize(value, gen, provider);
+    }
+  }
+
+  public static <T> void writeArray(JsonGenerator gen, SerializerProvider provider, String name,
+      List<T> values, JsonSerializer<T> serializer) throws IOException {
+    if (isUnset(values)) {
+      return;
+    }
+    gen.writeArrayFieldStart(name);
+    for (T value : values) {
+      serializer.serialize(value, gen, provider);
+    }
+    gen.writeEndArray();
+  }
+
+  private static boolean isUnset(List<?> values) {
+    return Objects.isNull(values) || values instanceof SdkAutoConstructList;
+  }
 }
@@ -0,0 +1,78 @@
+package com.amazonaws.examples.deserialize;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import software.amazon.awssdk.services.medialive.model.Channel;
+import software.amazon.awssdk.services.medialive.model.ChannelClass;
+import software.amazon.awssdk.services.medialive.model.EncoderSettings;
+
+/**
+ * A channel whose {@code encoderSettings} are kept as buffered JSON tokens until
+ * {@link #channel()} is called. Routing, tag and duplicate checks can use the eagerly read
+ * fields without paying for the largest subtree of the template.
+ */
+public class LazyChannel {
+  private final Channel shell;
+  private TokenBuffer encoderSettings;
+  private Channel channel;
+
+  LazyChannel(Channel shell, TokenBuffer encoderSettings) {
+    this.shell = shell;
+    this.encoderSettings = encoderSettings;
+    if (Objects.isNull(encoderSettings)) {
+      channel = shell;
+    }
+  }
+
+  /**
+   * Wraps a channel that has already been fully deserialized.
+   */
+  public static LazyChannel of(Channel channel) {
+    return new LazyChannel(channel, null);
+  }
+
+  public String name() {
+    return shell.name();
+  }
+
+  public Map<String, String> tags() {
+    return shell.tags();
+  }
+
+  public ChannelClass channelClass() {
+    return shell.channelClass();
+  }
+
+  /**
+   * @return the channel without its {@code encoderSettings}, unless they have been materialized
+   */
+  public Channel shell() {
+    return shell;
+  }
+
+  public synchronized boolean isMaterialized() {
+    return Objects.nonNull(channel);
+  }
+
+  /**
+   * Deserializes the buffered {@code encoderSettings} on first use and returns the complete
+   * channel; the token buffer is released afterwards.
+   */
+  public synchronized Channel channel() throws IOException {
+    if (Objects.isNull(channel)) {
+      try (JsonParser parser = encoderSettings.asParser()) {
+        parser.nextToken();
+        channel = shell.toBuilder()
+            .encoderSettings(parser.readValueAs(EncoderSettings.class))
+            .build();
+      }
+      encoderSettings = null;
+    }
+    return channel;
+  }
+}
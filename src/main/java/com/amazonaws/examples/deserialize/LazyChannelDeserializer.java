@@ -0,0 +1,63 @@
+package com.amazonaws.examples.deserialize;
+
+import static com.amazonaws.examples.deserialize.JsonUtils.startObject;
+import static com.amazonaws.examples.deserialize.JsonUtils.validateTokenType;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import software.amazon.awssdk.services.medialive.model.Channel;
+
+/**
+ * Reads a {@link LazyChannel}: the {@code encoderSettings} subtree is copied into a
+ * {@link TokenBuffer} and every other field is deserialized through the registered
+ * {@link Channel} deserializer.
+ */
+public class LazyChannelDeserializer extends JsonDeserializer<LazyChannel> {
+  private static final String ENCODER_SETTINGS = "encoderSettings";
+
+  private final Logger logger = LoggerFactory.getLogger(getClass());
+
+  public LazyChannelDeserializer() {
+    logger.info("Loading...");
+  }
+
+  @Override public LazyChannel deserialize(JsonParser parser, DeserializationContext ctxt)
+      throws IOException {
+
+    startObject(parser);
+    TokenBuffer shell = new TokenBuffer(parser, ctxt);
+    TokenBuffer encoderSettings = null;
+
+    shell.writeStartObject();
+    JsonToken token = parser.nextToken();
+    while (token == JsonToken.FIELD_NAME) {
+      String name = parser.getCurrentName();
+      parser.nextToken();
+      if (ENCODER_SETTINGS.equals(name)) {
+        encoderSettings = new TokenBuffer(parser, ctxt);
+        encoderSettings.copyCurrentStructure(parser);
+      } else {
+        shell.writeFieldName(name);
+        shell.copyCurrentStructure(parser);
+      }
+
+      token = parser.nextToken();
+    }
+    validateTokenType(parser, token, JsonToken.END_OBJECT);
+    shell.writeEndObject();
+
+    try (JsonParser shellParser = shell.asParser()) {
+      shellParser.nextToken();
+      return new LazyChannel(ctxt.readValue(shellParser, Channel.class), encoderSettings);
+    }
+  }
+}
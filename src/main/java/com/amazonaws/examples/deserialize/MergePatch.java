@@ -0,0 +1,194 @@
+package com.amazonaws.examples.deserialize;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * Applies a JSON Merge Patch (RFC 7396) to an SDK model without re-reading the unchanged parts.
+ * Only the models on a patched path are rebuilt through {@code toBuilder()}; every other member
+ * keeps referring to the instance of the base model. Nested objects are merged into nested
+ * models and maps, {@code null} removes a member or map entry, and any other value, arrays
+ * included, replaces the member and is read with the mapper's deserializers.
+ *
+ * <p>A patch that sets a member the model or the mapper's deserializers do not know, or an array
+ * of which the deserializers drop elements, is rejected with a {@link JsonMappingException}
+ * instead of being applied in part.
+ */
+public class MergePatch {
+  private static final Logger LOGGER = LoggerFactory.getLogger(MergePatch.class);
+  private static final ClassValue<Map<String, SdkField<?>>> FIELDS =
+      new ClassValue<Map<String, SdkField<?>>>() {
+        @Override protected Map<String, SdkField<?>> computeValue(Class<?> type) {
+          return payloadFields(type);
+        }
+      };
+
+  private final ObjectMapper mapper;
+
+  public MergePatch(ObjectMapper mapper) {
+    this.mapper = mapper;
+  }
+
+  /**
+   * @param base model the patch is applied to, left unchanged
+   * @param patch merge patch document; anything but an object replaces the model as a whole
+   * @return the patched model, or {@code base} itself when the patch is empty
+   */
+  @SuppressWarnings("unchecked")
+  public <T extends SdkPojo> T apply(T base, JsonNode patch) throws JsonProcessingException {
+    if (!patch.isObject()) {
+      return patch.isNull() ? null : (T) mapper.treeToValue(patch, base.getClass());
+    }
+    return (T) applyObject(base, (ObjectNode) patch);
+  }
+
+  private SdkPojo applyObject(SdkPojo base, ObjectNode patch) throws JsonProcessingException {
+    if (patch.size() == 0) {
+      return base;
+    }
+    Map<String, SdkField<?>> fields = FIELDS.get(base.getClass());
+    CopyableBuilder<?, ?> builder = ((ToCopyableBuilder<?, ?>) base).toBuilder();
+
+    ObjectNode replaced = null;
+    Iterator<Map.Entry<String, JsonNode>> members = patch.fields();
+    while (members.hasNext()) {
+      Map.Entry<String, JsonNode> member = members.next();
+      SdkField<?> field = fields.get(member.getKey());
+      JsonNode value = member.getValue();
+      if (Objects.isNull(field) && value.isNull()) {
+        LOGGER.debug("Ignoring removal of unknown member '{}' of {}", member.getKey(),
+            base.getClass());
+      } else if (Objects.isNull(field)) {
+        throw unset(base, member.getKey());
+      } else if (value.isNull()) {
+        field.set(builder, null);
+      } else if (value.isObject() && field.marshallingType() == MarshallingType.SDK_POJO
+          && Objects.nonNull(field.getValueOrDefault(base))) {
+        field.set(builder,
+            applyObject((SdkPojo) field.getValueOrDefault(base), (ObjectNode) value));
+      } else if (value.isObject() && field.marshallingType() == MarshallingType.MAP) {
+        field.set(builder, applyMap(base, field, (ObjectNode) value));
+      } else {
+        if (Objects.isNull(replaced)) {
+          replaced = mapper.createObjectNode();
+        }
+        replaced.set(member.getKey(), value);
+      }
+    }
+
+    if (Objects.nonNull(replaced)) {
+      SdkPojo values = mapper.treeToValue(replaced, base.getClass());
+      Iterator<String> names = replaced.fieldNames();
+      while (names.hasNext()) {
+        String name = names.next();
+        SdkField<?> field = fields.get(name);
+        Object value = field.getValueOrDefault(values);
+        if (!isRead(replaced.get(name), value)) {
+          throw unset(base, name);
+        }
+        field.set(builder, value);
+      }
+    }
+    return (SdkPojo) builder.build();
+  }
+
+  /**
+   * Map entries are merged one level deep: {@code null} removes a key and any other value
+   * replaces the entry.
+   */
+  private Map<?, ?> applyMap(SdkPojo base, SdkField<?> field, ObjectNode patch)
+      throws JsonProcessingException {
+    Map<Object, Object> merged = new HashMap<>();
+    Map<?, ?> current = (Map<?, ?>) field.getValueOrDefault(base);
+    if (Objects.nonNull(current)) {
+      merged.putAll(current);
+    }
+
+    ObjectNode entries = mapper.createObjectNode();
+    List<String> removed = new ArrayList<>();
+    Iterator<Map.Entry<String, JsonNode>> members = patch.fields();
+    while (members.hasNext()) {
+      Map.Entry<String, JsonNode> member = members.next();
+      if (member.getValue().isNull()) {
+        removed.add(member.getKey());
+      } else {
+        entries.set(member.getKey(), member.getValue());
+      }
+    }
+    merged.keySet().removeAll(removed);
+
+    if (entries.size() > 0) {
+      ObjectNode wrapper = mapper.createObjectNode();
+      wrapper.set(field.locationName(), entries);
+      Map<?, ?> read = (Map<?, ?>) field.getValueOrDefault(
+          mapper.treeToValue(wrapper, base.getClass()));
+      Iterator<String> keys = entries.fieldNames();
+      while (keys.hasNext()) {
+        String key = keys.next();
+        if (Objects.isNull(read) || Objects.isNull(read.get(key))) {
+          throw unset(base, field.locationName() + "." + key);
+        }
+      }
+      merged.putAll(read);
+    }
+    return merged;
+  }
+
+  /**
+   * @return whether {@code read} holds everything of the patch {@code value}: it is set and, for
+   *     arrays, has one element per array element
+   */
+  private static boolean isRead(JsonNode value, Object read) {
+    if (Objects.isNull(read)) {
+      return false;
+    }
+    return !value.isArray() || !(read instanceof Collection)
+        || ((Collection<?>) read).size() == value.size();
+  }
+
+  private static JsonMappingException unset(SdkPojo base, String member) {
+    return JsonMappingException.from((JsonParser) null,
+        "Cannot patch '" + member + "' of " + base.getClass().getSimpleName()
+            + ": the member is not modelled or not supported");
+  }
+
+  private static Map<String, SdkField<?>> payloadFields(Class<?> type) {
+    SdkPojo model;
+    try {
+      model = (SdkPojo) type.getMethod("builder").invoke(null);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalArgumentException(type.getName() + " has no static builder()", e);
+    }
+
+    Map<String, SdkField<?>> fields = new HashMap<>();
+    for (SdkField<?> field : model.sdkFields()) {
+      if (field.location() == MarshallLocation.PAYLOAD) {
+        fields.put(field.locationName(), field);
+      }
+    }
+    return Collections.unmodifiableMap(fields);
+  }
+}
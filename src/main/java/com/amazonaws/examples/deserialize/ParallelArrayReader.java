@@ -0,0 +1,116 @@
+package com.amazonaws.examples.deserialize;
+
+import static com.amazonaws.examples.deserialize.JsonUtils.validateTokenType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+/**
+ * Opt-in parallel reading of model arrays, enabled per {@link ObjectReader} with
+ * {@link #enable(ObjectReader)}. The first {@code threshold} elements of an array are read in
+ * place like {@link JsonUtils#consumeArray} does; every following element is copied into a
+ * {@link TokenBuffer} and deserialized on the pool while the caller keeps tokenizing. Results
+ * are joined in document order, so the list is the same as the one read sequentially.
+ */
+public class ParallelArrayReader {
+  private final ForkJoinPool pool;
+  private final int threshold;
+
+  /**
+   * @param pool runs the element deserialization
+   * @param threshold number of elements read in place before the rest of an array is forked
+   */
+  public ParallelArrayReader(ForkJoinPool pool, int threshold) {
+    if (threshold < 1) {
+      throw new IllegalArgumentException("threshold must be positive: " + threshold);
+    }
+    this.pool = pool;
+    this.threshold = threshold;
+  }
+
+  /**
+   * @return {@code reader} configured to read model arrays through this instance
+   */
+  public ObjectReader enable(ObjectReader reader) {
+    return reader.withAttribute(ParallelArrayReader.class, this);
+  }
+
+  /**
+   * @return the instance enabled on the reader that created {@code ctxt}, if any
+   */
+  public static ParallelArrayReader of(DeserializationContext ctxt) {
+    return Objects.isNull(ctxt) ? null
+        : (ParallelArrayReader) ctxt.getAttribute(ParallelArrayReader.class);
+  }
+
+  /**
+   * Reads the array that follows the current token, like {@link JsonUtils#consumeArray}.
+   */
+  public <T> List<T> consumeArray(JsonParser parser, DeserializationContext ctxt,
+      JsonDeserializer<T> deserializer) throws IOException {
+    JsonToken token = parser.nextToken();
+    validateTokenType(parser, token, JsonToken.START_ARRAY);
+
+    List<T> list = new ArrayList<>();
+    token = parser.nextToken();
+    while (token != JsonToken.END_ARRAY && list.size() < threshold) {
+      list.add(deserializer.deserialize(parser, ctxt));
+
+      token = parser.nextToken();
+    }
+    if (token == JsonToken.END_ARRAY) {
+      return list;
+    }
+
+    List<ForkJoinTask<T>> tasks = new ArrayList<>();
+    while (token != JsonToken.END_ARRAY) {
+      TokenBuffer buffer = new TokenBuffer(parser, ctxt);
+      buffer.copyCurrentStructure(parser);
+      tasks.add(pool.submit(() -> deserialize(buffer, ctxt, deserializer)));
+
+      token = parser.nextToken();
+    }
+    for (ForkJoinTask<T> task : tasks) {
+      list.add(join(task));
+    }
+    return list;
+  }
+
+  /**
+   * Deserialization contexts are not thread-safe, so each element gets its own one that shares
+   * the configuration and deserializer cache of {@code ctxt}.
+   */
+  private static <T> T deserialize(TokenBuffer buffer, DeserializationContext ctxt,
+      JsonDeserializer<T> deserializer) {
+    try (JsonParser parser = buffer.asParser()) {
+      parser.nextToken();
+      DeserializationContext elementCtxt = ctxt instanceof DefaultDeserializationContext
+          ? ((DefaultDeserializationContext) ctxt).createInstance(ctxt.getConfig(), parser, null)
+          : ctxt;
+      return deserializer.deserialize(parser, elementCtxt);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static <T> T join(ForkJoinTask<T> task) throws IOException {
+    try {
+      return task.join();
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+}
@@ -0,0 +1,230 @@
+package com.amazonaws.examples.deserialize;
+
+import static com.amazonaws.examples.deserialize.JsonUtils.validateTokenType;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.utils.builder.SdkBuilder;
+
+/**
+ * Deserializes any SDK model from the {@link SdkPojo#sdkFields()} metadata of its builder. The
+ * field table of a builder class is derived the first time the class is seen and then shared by
+ * all instances; nested models, lists and maps are read recursively from the same metadata.
+ * Enum members are modelled as strings by the SDK and are passed to the builder as such.
+ *
+ * @param <T> model type
+ */
+public class SdkPojoDeserializer<T extends SdkPojo> extends JsonDeserializer<T> {
+  private static final Logger LOGGER = LoggerFactory.getLogger(SdkPojoDeserializer.class);
+  private static final ConcurrentMap<Class<?>, FieldDispatcher<SdkPojo>> SCHEMAS =
+      new ConcurrentHashMap<>();
+
+  private final Supplier<SdkPojo> constructor;
+
+  public SdkPojoDeserializer(Supplier<SdkPojo> constructor) {
+    this.constructor = constructor;
+  }
+
+  /**
+   * Creates a deserializer for a model class that exposes the generated static
+   * {@code builder()} factory.
+   */
+  public static <T extends SdkPojo> SdkPojoDeserializer<T> forModel(Class<T> type) {
+    MethodHandle builder;
+    try {
+      builder = MethodHandles.lookup().unreflect(type.getMethod("builder"))
+          .asType(MethodType.methodType(SdkPojo.class));
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalArgumentException(type.getName() + " has no static builder()", e);
+    }
+
+    return new SdkPojoDeserializer<>(() -> {
+      try {
+        return (SdkPojo) builder.invokeExact();
+      } catch (RuntimeException | Error e) {
+        throw e;
+      } catch (Throwable e) {
+        throw new IllegalStateException(e);
+      }
+    });
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override public T deserialize(JsonParser parser, DeserializationContext ctxt)
+      throws IOException {
+
+    return (T) readPojo(parser, ctxt, constructor);
+  }
+
+  private static Object readPojo(JsonParser parser, DeserializationContext ctxt,
+      Supplier<SdkPojo> constructor) throws IOException {
+
+    SdkPojo builder = constructor.get();
+    schema(builder).dispatch(parser, ctxt, builder);
+
+    return ((SdkBuilder<?, ?>) builder).build();
+  }
+
+  private static FieldDispatcher<SdkPojo> schema(SdkPojo builder) {
+    FieldDispatcher<SdkPojo> schema = SCHEMAS.get(builder.getClass());
+    if (Objects.isNull(schema)) {
+      schema = SCHEMAS.computeIfAbsent(builder.getClass(), type -> createSchema(builder));
+    }
+    return schema;
+  }
+
+  private static FieldDispatcher<SdkPojo> createSchema(SdkPojo builder) {
+    LOGGER.debug("Deriving field table for {}...", builder.getClass().getName());
+
+    FieldDispatcher.Builder<SdkPojo> fields = FieldDispatcher.builder();
+    for (SdkField<?> field : builder.sdkFields()) {
+      if (field.location() == MarshallLocation.PAYLOAD) {
+        fields.field(field.locationName(), handler(field));
+      }
+    }
+    return fields.build();
+  }
+
+  private static FieldDispatcher.FieldHandler<SdkPojo> handler(SdkField<?> field) {
+    ValueReader reader = reader(field);
+
+    return (parser, ctxt, builder) -> {
+      JsonToken token = parser.nextToken();
+      if (token == JsonToken.VALUE_NULL) {
+        return;
+      }
+      Object value = reader.read(parser, ctxt);
+      if (Objects.nonNull(value)) {
+        field.set(builder, value);
+      }
+    };
+  }
+
+  private static ValueReader reader(SdkField<?> field) {
+    MarshallingType<?> type = field.marshallingType();
+
+    if (type == MarshallingType.STRING) {
+      return (parser, ctxt) -> {
+        validateTokenType(parser, parser.currentToken(), JsonToken.VALUE_STRING);
+        return parser.getText();
+      };
+    } else if (type == MarshallingType.INTEGER) {
+      return (parser, ctxt) -> {
+        validateTokenType(parser, parser.currentToken(), JsonToken.VALUE_NUMBER_INT);
+        return parser.getIntValue();
+      };
+    } else if (type == MarshallingType.LONG) {
+      return (parser, ctxt) -> {
+        validateTokenType(parser, parser.currentToken(), JsonToken.VALUE_NUMBER_INT);
+        return parser.getLongValue();
+      };
+    } else if (type == MarshallingType.DOUBLE) {
+      return (parser, ctxt) -> parser.getDoubleValue();
+    } else if (type == MarshallingType.FLOAT) {
+      return (parser, ctxt) -> parser.getFloatValue();
+    } else if (type == MarshallingType.BIG_DECIMAL) {
+      return (parser, ctxt) -> parser.getDecimalValue();
+    } else if (type == MarshallingType.BOOLEAN) {
+      return (parser, ctxt) -> parser.getBooleanValue();
+    } else if (type == MarshallingType.INSTANT) {
+      return SdkPojoDeserializer::readInstant;
+    } else if (type == MarshallingType.SDK_BYTES) {
+      return (parser, ctxt) -> SdkBytes.fromByteArray(parser.getBinaryValue());
+    } else if (type == MarshallingType.SDK_POJO) {
+      Supplier<SdkPojo> constructor = field.constructor();
+      return (parser, ctxt) -> readPojo(parser, ctxt, constructor);
+    } else if (type == MarshallingType.LIST) {
+      return listReader(reader(field.getTrait(ListTrait.class).memberFieldInfo()));
+    } else if (type == MarshallingType.MAP) {
+      return mapReader(reader(field.getTrait(MapTrait.class).valueFieldInfo()));
+    }
+
+    LOGGER.warn("Skipping field '{}' of unsupported type {}", field.locationName(), type);
+    return (parser, ctxt) -> {
+      parser.skipChildren();
+      return null;
+    };
+  }
+
+  private static ValueReader listReader(ValueReader member) {
+    return (parser, ctxt) -> {
+      validateTokenType(parser, parser.currentToken(), JsonToken.START_ARRAY);
+
+      List<Object> list = new ArrayList<>();
+      JsonToken token = parser.nextToken();
+      while (token != JsonToken.END_ARRAY) {
+        list.add(token == JsonToken.VALUE_NULL ? null : member.read(parser, ctxt));
+
+        token = parser.nextToken();
+      }
+
+      return list;
+    };
+  }
+
+  private static ValueReader mapReader(ValueReader value) {
+    return (parser, ctxt) -> {
+      validateTokenType(parser, parser.currentToken(), JsonToken.START_OBJECT);
+
+      Map<String, Object> map = new HashMap<>();
+      JsonToken token = parser.nextToken();
+      while (token != JsonToken.END_OBJECT) {
+        validateTokenType(parser, token, JsonToken.FIELD_NAME);
+        String key = parser.getCurrentName();
+        token = parser.nextToken();
+        map.put(key, token == JsonToken.VALUE_NULL ? null : value.read(parser, ctxt));
+
+        token = parser.nextToken();
+      }
+
+      return map;
+    };
+  }
+
+  /**
+   * Timestamps are either ISO-8601 strings or epoch seconds with an optional fraction.
+   */
+  private static Instant readInstant(JsonParser parser, DeserializationContext ctxt)
+      throws IOException {
+
+    if (parser.currentToken() == JsonToken.VALUE_STRING) {
+      return Instant.parse(parser.getText());
+    }
+    return Instant.ofEpochMilli(parser.getDecimalValue().movePointRight(3).longValue());
+  }
+
+  /**
+   * Reads the value the parser is positioned on and leaves it on the value's last token.
+   */
+  @FunctionalInterface
+  private interface ValueReader {
+    Object read(JsonParser parser, DeserializationContext ctxt) throws IOException;
+  }
+}
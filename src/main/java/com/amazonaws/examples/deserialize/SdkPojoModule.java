@@ -0,0 +1,52 @@
+package com.amazonaws.examples.deserialize;
+
+import java.lang.reflect.Modifier;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.Deserializers;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import software.amazon.awssdk.core.SdkPojo;
+
+/**
+ * Binds every SDK model class, MediaLive or otherwise, to a {@link SdkPojoDeserializer}. Unlike
+ * {@link ChannelModule} it needs no per-model code, so new service fields are picked up by
+ * upgrading the SDK.
+ */
+public class SdkPojoModule extends SimpleModule {
+
+  public SdkPojoModule() {
+    super(SdkPojoModule.class.getSimpleName());
+  }
+
+  @Override public void setupModule(SetupContext context) {
+    super.setupModule(context);
+    context.addDeserializers(new Deserializers.Base() {
+      @SuppressWarnings({"unchecked", "rawtypes"})
+      @Override public JsonDeserializer<?> findBeanDeserializer(JavaType type,
+          DeserializationConfig config, BeanDescription beanDesc) {
+
+        Class<?> raw = type.getRawClass();
+        if (!SdkPojo.class.isAssignableFrom(raw) || !hasBuilderFactory(raw)) {
+          return null;
+        }
+        return SdkPojoDeserializer.forModel((Class) raw);
+      }
+    });
+  }
+
+  /**
+   * Models have a static {@code builder()}; their builder implementations, which are
+   * {@link SdkPojo}s as well, do not.
+   */
+  private static boolean hasBuilderFactory(Class<?> type) {
+    try {
+      return Modifier.isStatic(type.getMethod("builder").getModifiers());
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+}
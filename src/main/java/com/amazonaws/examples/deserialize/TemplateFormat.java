@@ -0,0 +1,89 @@
+package com.amazonaws.examples.deserialize;
+
+import java.nio.ByteBuffer;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileConstants;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+
+/**
+ * Encodings accepted for channel templates. All of them are read by the same deserializers; the
+ * binary ones skip text tokenization and are smaller on disk.
+ */
+public enum TemplateFormat {
+  JSON("json"),
+  SMILE("smile"),
+  CBOR("cbor");
+
+  /** CBOR self-describe tag 55799. */
+  private static final int CBOR_TAG_0 = 0xD9;
+  private static final int CBOR_TAG_1 = 0xD9;
+  private static final int CBOR_TAG_2 = 0xF7;
+  /** Major type 5 (map) occupies the initial bytes 0xA0 to 0xBF. */
+  private static final int CBOR_MAP_MASK = 0xE0;
+  private static final int CBOR_MAP = 0xA0;
+
+  private final String extension;
+
+  TemplateFormat(String extension) {
+    this.extension = extension;
+  }
+
+  public String extension() {
+    return extension;
+  }
+
+  /**
+   * Creates a factory for the format. Smile templates also share repeated string values, which
+   * are common in channel templates (codec and enum values).
+   */
+  public JsonFactory newFactory() {
+    switch (this) {
+      case SMILE:
+        return SmileFactory.builder()
+            .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+            .build();
+      case CBOR:
+        return new CBORFactory();
+      default:
+        return new JsonFactory();
+    }
+  }
+
+  /**
+   * Detects the format from the leading bytes: the Smile {@code :)\n} header, or a CBOR
+   * self-describe tag or map; anything else is treated as JSON.
+   */
+  public static TemplateFormat detect(byte[] payload, int offset, int length) {
+    int b0 = length > 0 ? payload[offset] & 0xFF : -1;
+    int b1 = length > 1 ? payload[offset + 1] & 0xFF : -1;
+    int b2 = length > 2 ? payload[offset + 2] & 0xFF : -1;
+    return detect(b0, b1, b2);
+  }
+
+  /**
+   * Detects the format of the remaining bytes of {@code buffer} without moving its position.
+   */
+  public static TemplateFormat detect(ByteBuffer buffer) {
+    int position = buffer.position();
+    int remaining = buffer.remaining();
+    int b0 = remaining > 0 ? buffer.get(position) & 0xFF : -1;
+    int b1 = remaining > 1 ? buffer.get(position + 1) & 0xFF : -1;
+    int b2 = remaining > 2 ? buffer.get(position + 2) & 0xFF : -1;
+    return detect(b0, b1, b2);
+  }
+
+  private static TemplateFormat detect(int b0, int b1, int b2) {
+    if (b0 == SmileConstants.HEADER_BYTE_1 && b1 == SmileConstants.HEADER_BYTE_2
+        && b2 == SmileConstants.HEADER_BYTE_3) {
+      return SMILE;
+    }
+    if ((b0 == CBOR_TAG_0 && b1 == CBOR_TAG_1 && b2 == CBOR_TAG_2)
+        || (b0 >= 0 && (b0 & CBOR_MAP_MASK) == CBOR_MAP)) {
+      return CBOR;
+    }
+    return JSON;
+  }
+}
@@ -0,0 +1,182 @@
+package com.amazonaws.examples.iam;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import com.amazonaws.examples.utils.PropertiesFile;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Remembers resolved role ARNs by role name for {@code ttl}, so warm invocations skip the
+ * lookup against the global IAM endpoint. Concurrent misses for the same role share one lookup.
+ *
+ * <p>With a {@code file}, entries are also written to and read from a properties file, e.g.
+ * under {@code /tmp}, which survives as long as the execution environment does.
+ */
+public class RoleArnCache {
+  private final Logger logger = LoggerFactory.getLogger(getClass());
+  private final Duration ttl;
+  private final Path file;
+  private final Clock clock;
+  private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, CompletableFuture<String>> lookups =
+      new ConcurrentHashMap<>();
+
+  /**
+   * @param ttl how long a resolved ARN is used; zero disables caching
+   * @param file properties file the entries persist to, {@code null} to keep them in memory only
+   */
+  public RoleArnCache(Duration ttl, Path file) {
+    this(ttl, file, Clock.systemUTC());
+  }
+
+  RoleArnCache(Duration ttl, Path file, Clock clock) {
+    this.ttl = ttl;
+    this.file = file;
+    this.clock = clock;
+    load();
+  }
+
+  /**
+   * @param loader resolves the ARN on a miss; its exceptions are rethrown to every caller that
+   *     waited for it and nothing is cached
+   * @return the cached or freshly resolved ARN of {@code roleName}
+   */
+  public String get(String roleName, Supplier<String> loader) {
+    if (ttl.isZero()) {
+      return loader.get();
+    }
+    Entry entry = entries.get(roleName);
+    if (Objects.nonNull(entry) && clock.instant().isBefore(entry.expiresAt)) {
+      return entry.arn;
+    }
+
+    CompletableFuture<String> lookup = new CompletableFuture<>();
+    CompletableFuture<String> inFlight = lookups.putIfAbsent(roleName, lookup);
+    if (Objects.nonNull(inFlight)) {
+      logger.debug("Joining the in-flight lookup of role '{}'", roleName);
+      return join(inFlight);
+    }
+    try {
+      // another lookup may have completed between the miss and claiming this one
+      entry = entries.get(roleName);
+      String arn;
+      if (Objects.nonNull(entry) && clock.instant().isBefore(entry.expiresAt)) {
+        arn = entry.arn;
+      } else {
+        arn = loader.get();
+        put(roleName, arn);
+      }
+      lookup.complete(arn);
+      return arn;
+    } catch (RuntimeException e) {
+      lookup.completeExceptionally(e);
+      throw e;
+    } finally {
+      lookups.remove(roleName, lookup);
+    }
+  }
+
+  /**
+   * Drops the entry of {@code roleName}, e.g. after a call using its ARN failed because of the
+   * role.
+   */
+  public void invalidate(String roleName) {
+    if (Objects.nonNull(entries.remove(roleName))) {
+      logger.info("Invalidated cached ARN of role '{}'", roleName);
+      store();
+    }
+  }
+
+  /**
+   * Drops the entry of {@code roleName} only if it still maps to {@code arn}.
+   */
+  public void invalidate(String roleName, String arn) {
+    Entry entry = entries.get(roleName);
+    if (Objects.nonNull(entry) && entry.arn.equals(arn) && entries.remove(roleName, entry)) {
+      logger.info("Invalidated cached ARN of role '{}'", roleName);
+      store();
+    }
+  }
+
+  private void put(String roleName, String arn) {
+    entries.put(roleName, new Entry(arn, clock.instant().plus(ttl)));
+    store();
+  }
+
+  private static String join(CompletableFuture<String> lookup) {
+    try {
+      return lookup.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  private void load() {
+    if (Objects.isNull(file) || !Files.isRegularFile(file)) {
+      return;
+    }
+    Properties properties;
+    try {
+      properties = PropertiesFile.load(file);
+    } catch (IOException e) {
+      logger.warn("Ignoring unreadable role ARN cache {}", file, e);
+      return;
+    }
+    for (String roleName : properties.stringPropertyNames()) {
+      String[] value = properties.getProperty(roleName).split(" ", 2);
+      try {
+        Entry entry = new Entry(value[1], Instant.ofEpochMilli(Long.parseLong(value[0])));
+        if (clock.instant().isBefore(entry.expiresAt)) {
+          entries.put(roleName, entry);
+        }
+      } catch (RuntimeException e) {
+        logger.warn("Ignoring malformed role ARN cache entry '{}'", roleName);
+      }
+    }
+    logger.info("Loaded {} role ARN(s) from {}", entries.size(), file);
+  }
+
+  private synchronized void store() {
+    if (Objects.isNull(file)) {
+      return;
+    }
+    Properties properties = new Properties();
+    for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+      properties.setProperty(entry.getKey(),
+          entry.getValue().expiresAt.toEpochMilli() + " " + entry.getValue().arn);
+    }
+    try {
+      PropertiesFile.storeAtomically(file, properties);
+    } catch (IOException e) {
+      logger.warn("Could not persist role ARN cache to {}", file, e);
+    }
+  }
+
+  private static final class Entry {
+    private final String arn;
+    private final Instant expiresAt;
+
+    private Entry(String arn, Instant expiresAt) {
+      this.arn = arn;
+      this.expiresAt = expiresAt;
+    }
+  }
+}
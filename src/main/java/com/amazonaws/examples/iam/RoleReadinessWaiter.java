@@ -0,0 +1,307 @@
+package com.amazonaws.examples.iam;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import com.amazonaws.examples.utils.Metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import software.amazon.awssdk.services.iam.IamAsyncClient;
+import software.amazon.awssdk.services.iam.IamClient;
+import software.amazon.awssdk.services.iam.model.AttachedPolicy;
+import software.amazon.awssdk.services.iam.model.NoSuchEntityException;
+
+/**
+ * Waits for a newly created role to become usable instead of sleeping for a fixed time. A probe
+ * reads the role, its inline policy and its attached managed policy; IAM is eventually
+ * consistent and reads may be served by replicas that have not seen the writes yet, so the role
+ * counts as ready only after {@code requiredProbes} consecutive successful probes. Probes are
+ * spaced by exponential backoff with full jitter and stop at the caller's deadline.
+ *
+ * <p>IAM answering reads does not prove that MediaLive can assume the role yet, so callers also
+ * pass the call that uses the role to {@link #retry} or {@link #retryAsync}, which repeat it with
+ * the same backoff while it fails because of the role.
+ *
+ * <p>The observed propagation time is emitted as the {@code RolePropagationTime} metric.
+ */
+public class RoleReadinessWaiter {
+  public static final String PROPAGATION_TIME_METRIC = "RolePropagationTime";
+  public static final String PROPAGATION_TIMEOUT_METRIC = "RolePropagationTimeout";
+
+  private static final ScheduledExecutorService SCHEDULER =
+      Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "role-readiness-waiter");
+        thread.setDaemon(true);
+        return thread;
+      });
+
+  private final Logger logger = LoggerFactory.getLogger(getClass());
+  private final Probe probe;
+  private final Duration baseDelay;
+  private final Duration maxDelay;
+  private final int requiredProbes;
+
+  /**
+   * @param baseDelay delay before the second probe; doubled after every probe
+   * @param maxDelay upper bound of the delay between probes
+   * @param requiredProbes consecutive successful probes after which the role is ready
+   */
+  public RoleReadinessWaiter(IamClient iamClient, Duration baseDelay, Duration maxDelay,
+      int requiredProbes) {
+    this(baseDelay, maxDelay, requiredProbes,
+        (roleName, inlinePolicyName, managedPolicyArn) -> CompletableFuture.completedFuture(
+            probe(iamClient, roleName, inlinePolicyName, managedPolicyArn)));
+  }
+
+  /**
+   * Probes through the async client, for {@link #awaitAsync}.
+   *
+   * @see #RoleReadinessWaiter(IamClient, Duration, Duration, int)
+   */
+  public RoleReadinessWaiter(IamAsyncClient iamClient, Duration baseDelay, Duration maxDelay,
+      int requiredProbes) {
+    this(baseDelay, maxDelay, requiredProbes, (roleName, inlinePolicyName, managedPolicyArn) ->
+        probe(iamClient, roleName, inlinePolicyName, managedPolicyArn));
+  }
+
+  private RoleReadinessWaiter(Duration baseDelay, Duration maxDelay, int requiredProbes,
+      Probe probe) {
+    if (baseDelay.isNegative() || maxDelay.compareTo(baseDelay) < 0 || requiredProbes < 1) {
+      throw new IllegalArgumentException("Invalid delays or probe count");
+    }
+    this.probe = probe;
+    this.baseDelay = baseDelay;
+    this.maxDelay = maxDelay;
+    this.requiredProbes = requiredProbes;
+  }
+
+  /**
+   * Blocks until {@code roleName} carries {@code inlinePolicyName} and {@code managedPolicyArn},
+   * or until {@code deadline}.
+   *
+   * @return {@code true} if the role is ready, {@code false} if the deadline passed first
+   */
+  public boolean await(String roleName, String inlinePolicyName, String managedPolicyArn,
+      Instant deadline) throws InterruptedException {
+    Wait wait = new Wait(roleName, deadline);
+    long sleepMillis;
+    while ((sleepMillis = wait.next(
+        probe.probe(roleName, inlinePolicyName, managedPolicyArn).join())) >= 0) {
+      TimeUnit.MILLISECONDS.sleep(sleepMillis);
+    }
+    return wait.ready;
+  }
+
+  /**
+   * Like {@link #await} without holding a thread: the probes are scheduled on a shared daemon
+   * thread in between.
+   *
+   * @return completes with {@code true} if the role is ready, {@code false} if the deadline
+   *     passed first
+   */
+  public CompletableFuture<Boolean> awaitAsync(String roleName, String inlinePolicyName,
+      String managedPolicyArn, Instant deadline) {
+    CompletableFuture<Boolean> ready = new CompletableFuture<>();
+    probeAsync(new Wait(roleName, deadline), inlinePolicyName, managedPolicyArn, ready);
+    return ready;
+  }
+
+  /**
+   * Calls {@code call} until it succeeds, backing off between attempts while it fails with an
+   * exception that {@code notReady} accepts and {@code deadline} leaves time for another one.
+   */
+  public <T> T retry(Supplier<T> call, Predicate<? super RuntimeException> notReady,
+      Instant deadline) throws InterruptedException {
+    for (int attempt = 0; ; attempt++) {
+      try {
+        return call.get();
+      } catch (RuntimeException e) {
+        long sleepMillis = backoffMillis(attempt);
+        if (!notReady.test(e) || !canWait(deadline, sleepMillis)) {
+          throw e;
+        }
+        logger.warn("Role not usable yet, retrying in {} ms: {}", sleepMillis, e.getMessage());
+        TimeUnit.MILLISECONDS.sleep(sleepMillis);
+      }
+    }
+  }
+
+  /**
+   * Like {@link #retry} for a call that completes a future; completes with the cause of the last
+   * failure.
+   */
+  public <T> CompletableFuture<T> retryAsync(Supplier<CompletableFuture<T>> call,
+      Predicate<? super Throwable> notReady, Instant deadline) {
+    CompletableFuture<T> result = new CompletableFuture<>();
+    retryAsync(call, notReady, deadline, 0, result);
+    return result;
+  }
+
+  /**
+   * Full jitter: a uniformly random delay between 0 and {@code min(maxDelay, baseDelay * 2^n)}.
+   */
+  long backoffMillis(int attempt) {
+    long ceiling = baseDelay.toMillis() << Math.min(attempt, 20);
+    ceiling = Math.min(maxDelay.toMillis(), ceiling);
+    return ThreadLocalRandom.current().nextLong(ceiling + 1);
+  }
+
+  private <T> void retryAsync(Supplier<CompletableFuture<T>> call,
+      Predicate<? super Throwable> notReady, Instant deadline, int attempt,
+      CompletableFuture<T> result) {
+    CompletableFuture<T> future;
+    try {
+      future = call.get();
+    } catch (RuntimeException e) {
+      result.completeExceptionally(e);
+      return;
+    }
+    future.whenComplete((value, e) -> {
+      if (Objects.isNull(e)) {
+        result.complete(value);
+        return;
+      }
+      Throwable cause = unwrap(e);
+      long sleepMillis = backoffMillis(attempt);
+      if (!notReady.test(cause) || !canWait(deadline, sleepMillis)) {
+        result.completeExceptionally(cause);
+        return;
+      }
+      logger.warn("Role not usable yet, retrying in {} ms: {}", sleepMillis, cause.getMessage());
+      SCHEDULER.schedule(() -> retryAsync(call, notReady, deadline, attempt + 1, result),
+          sleepMillis, TimeUnit.MILLISECONDS);
+    });
+  }
+
+  private void probeAsync(Wait wait, String inlinePolicyName, String managedPolicyArn,
+      CompletableFuture<Boolean> ready) {
+    CompletableFuture<Boolean> probed;
+    try {
+      probed = probe.probe(wait.roleName, inlinePolicyName, managedPolicyArn);
+    } catch (RuntimeException e) {
+      ready.completeExceptionally(e);
+      return;
+    }
+    probed.whenComplete((visible, e) -> {
+      if (Objects.nonNull(e)) {
+        ready.completeExceptionally(unwrap(e));
+        return;
+      }
+      long sleepMillis = wait.next(visible);
+      if (sleepMillis < 0) {
+        ready.complete(wait.ready);
+        return;
+      }
+      SCHEDULER.schedule(() -> probeAsync(wait, inlinePolicyName, managedPolicyArn, ready),
+          sleepMillis, TimeUnit.MILLISECONDS);
+    });
+  }
+
+  private static boolean canWait(Instant deadline, long sleepMillis) {
+    return Duration.between(Instant.now(), deadline).toMillis() > sleepMillis;
+  }
+
+  private static boolean probe(IamClient iamClient, String roleName, String inlinePolicyName,
+      String managedPolicyArn) {
+    try {
+      iamClient.getRole(builder -> builder.roleName(roleName));
+      iamClient.getRolePolicy(builder -> builder
+          .roleName(roleName)
+          .policyName(inlinePolicyName));
+      return iamClient.listAttachedRolePolicies(builder -> builder.roleName(roleName))
+          .attachedPolicies().stream()
+          .map(AttachedPolicy::policyArn)
+          .anyMatch(managedPolicyArn::equals);
+    } catch (NoSuchEntityException e) {
+      return false;
+    }
+  }
+
+  private static CompletableFuture<Boolean> probe(IamAsyncClient iamClient, String roleName,
+      String inlinePolicyName, String managedPolicyArn) {
+    return iamClient.getRole(builder -> builder.roleName(roleName))
+        .thenCompose(ignored -> iamClient.getRolePolicy(builder -> builder
+            .roleName(roleName)
+            .policyName(inlinePolicyName)))
+        .thenCompose(ignored -> iamClient.listAttachedRolePolicies(builder -> builder
+            .roleName(roleName)))
+        .thenApply(response -> response.attachedPolicies().stream()
+            .map(AttachedPolicy::policyArn)
+            .anyMatch(managedPolicyArn::equals))
+        .exceptionally(e -> {
+          if (unwrap(e) instanceof NoSuchEntityException) {
+            return false;
+          }
+          throw e instanceof CompletionException
+              ? (CompletionException) e : new CompletionException(e);
+        });
+  }
+
+  private static Throwable unwrap(Throwable e) {
+    return e instanceof CompletionException && Objects.nonNull(e.getCause()) ? e.getCause() : e;
+  }
+
+  @FunctionalInterface
+  private interface Probe {
+    CompletableFuture<Boolean> probe(String roleName, String inlinePolicyName,
+        String managedPolicyArn);
+  }
+
+  /**
+   * Progress of one wait, shared by the blocking and the scheduled probes.
+   */
+  private final class Wait {
+    private final String roleName;
+    private final Instant deadline;
+    private final long start = System.nanoTime();
+    private int attempt;
+    private int successes;
+    private boolean ready;
+
+    private Wait(String roleName, Instant deadline) {
+      this.roleName = roleName;
+      this.deadline = deadline;
+    }
+
+    /**
+     * @return the delay before the next probe, or {@code -1} once the role is ready or the
+     *     deadline leaves no time for another probe
+     */
+    private long next(boolean visible) {
+      if (visible) {
+        successes++;
+      } else {
+        logger.debug("Role '{}' not visible yet.", roleName);
+        successes = 0;
+      }
+      long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+      if (successes >= requiredProbes) {
+        logger.info("Role '{}' is ready after {} ms and {} probe(s).",
+            roleName, elapsedMillis, attempt + 1);
+        Metrics.getInstance().emit(PROPAGATION_TIME_METRIC, elapsedMillis, "Milliseconds");
+        ready = true;
+        return -1;
+      }
+
+      long sleepMillis = backoffMillis(attempt++);
+      if (!canWait(deadline, sleepMillis)) {
+        logger.warn("Role '{}' not confirmed ready after {} ms; proceeding at the deadline.",
+            roleName, elapsedMillis);
+        Metrics.getInstance().emit(PROPAGATION_TIMEOUT_METRIC, 1, "Count");
+        return -1;
+      }
+      return sleepMillis;
+    }
+  }
+}
@@ -0,0 +1,124 @@
+package com.amazonaws.examples.idempotency;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+
+import com.amazonaws.examples.utils.PropertiesFile;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Records the id of every resource created under an idempotency key, so a retried invocation
+ * finds what the first attempt already created. Entries are kept for {@code retention}.
+ *
+ * <p>With a {@code file}, e.g. under {@code /tmp}, the journal also survives a restart of the
+ * runtime after a timeout, which is exactly when Lambda retries an invocation. The file is read
+ * on the first lookup or record, so a journal that is never used never touches it.
+ */
+public class RequestJournal {
+  private final Logger logger = LoggerFactory.getLogger(getClass());
+  private final Path file;
+  private final Duration retention;
+  private final Clock clock;
+  private final Map<String, Entry> entries = new LinkedHashMap<>();
+  private boolean loaded;
+
+  /**
+   * @param file properties file the journal persists to, {@code null} to keep it in memory only
+   * @param retention how long an entry is kept
+   */
+  public RequestJournal(Path file, Duration retention) {
+    this(file, retention, Clock.systemUTC());
+  }
+
+  RequestJournal(Path file, Duration retention, Clock clock) {
+    this.file = file;
+    this.retention = retention;
+    this.clock = clock;
+  }
+
+  /**
+   * @return the id recorded for {@code key}, {@code null} if there is none or it expired
+   */
+  public synchronized String lookup(String key) {
+    load();
+    Entry entry = entries.get(key);
+    return Objects.nonNull(entry) && clock.instant().isBefore(entry.expiresAt) ? entry.id : null;
+  }
+
+  /**
+   * Records that {@code id} was created under {@code key} and persists the journal.
+   */
+  public synchronized void record(String key, String id) {
+    load();
+    Instant now = clock.instant();
+    entries.values().removeIf(entry -> !now.isBefore(entry.expiresAt));
+    entries.put(key, new Entry(id, now.plus(retention)));
+    store();
+  }
+
+  private void load() {
+    if (loaded) {
+      return;
+    }
+    loaded = true;
+    if (Objects.isNull(file) || !Files.isRegularFile(file)) {
+      return;
+    }
+    Properties properties;
+    try {
+      properties = PropertiesFile.load(file);
+    } catch (IOException e) {
+      logger.warn("Ignoring unreadable request journal {}", file, e);
+      return;
+    }
+    Instant now = clock.instant();
+    for (String key : properties.stringPropertyNames()) {
+      String[] value = properties.getProperty(key).split(" ", 2);
+      try {
+        Entry entry = new Entry(value[1], Instant.ofEpochMilli(Long.parseLong(value[0])));
+        if (now.isBefore(entry.expiresAt)) {
+          entries.put(key, entry);
+        }
+      } catch (RuntimeException e) {
+        logger.warn("Ignoring malformed request journal entry '{}'", key);
+      }
+    }
+    logger.info("Loaded {} request journal entries from {}", entries.size(), file);
+  }
+
+  private void store() {
+    if (Objects.isNull(file)) {
+      return;
+    }
+    Properties properties = new Properties();
+    for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+      properties.setProperty(entry.getKey(),
+          entry.getValue().expiresAt.toEpochMilli() + " " + entry.getValue().id);
+    }
+    try {
+      PropertiesFile.storeAtomically(file, properties);
+    } catch (IOException e) {
+      logger.warn("Could not persist request journal to {}", file, e);
+    }
+  }
+
+  private static final class Entry {
+    private final String id;
+    private final Instant expiresAt;
+
+    private Entry(String id, Instant expiresAt) {
+      this.id = id;
+      this.expiresAt = expiresAt;
+    }
+  }
+}
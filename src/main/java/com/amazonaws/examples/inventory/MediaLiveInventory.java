@@ -0,0 +1,424 @@
+package com.amazonaws.examples.inventory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import software.amazon.awssdk.services.medialive.MediaLiveClient;
+import software.amazon.awssdk.services.medialive.model.ChannelSummary;
+import software.amazon.awssdk.services.medialive.model.Input;
+import software.amazon.awssdk.services.medialive.model.InputAttachment;
+import software.amazon.awssdk.services.medialive.model.InputSecurityGroup;
+import software.amazon.awssdk.services.medialive.model.ListChannelsRequest;
+import software.amazon.awssdk.services.medialive.model.ListChannelsResponse;
+import software.amazon.awssdk.services.medialive.model.ListInputSecurityGroupsRequest;
+import software.amazon.awssdk.services.medialive.model.ListInputSecurityGroupsResponse;
+import software.amazon.awssdk.services.medialive.model.ListInputsRequest;
+import software.amazon.awssdk.services.medialive.model.ListInputsResponse;
+
+/**
+ * In-memory index of the channels, inputs and input security groups of the account, so lookups
+ * by name, id, tag or attached input do not page through the list APIs on every call.
+ *
+ * <p>The inventory is loaded by the first query, which blocks until then, and reloaded every
+ * {@code refreshInterval} on a background daemon thread. Resources created in between are added
+ * with the {@code put} methods. Readers always see a consistent snapshot and never wait for a
+ * refresh; a refresh swaps in new snapshots and re-applies puts made while it was listing.
+ * Refreshes run one at a time, so an explicit {@link #refresh()} waits for a background one.
+ */
+public class MediaLiveInventory implements AutoCloseable {
+  private static final Keys<ChannelSummary> CHANNEL_KEYS = new Keys<>(ChannelSummary::id,
+      ChannelSummary::name, ChannelSummary::tags, channel -> channel.inputAttachments().stream()
+          .map(InputAttachment::inputId)
+          .collect(Collectors.toList()));
+  private static final Keys<Input> INPUT_KEYS = new Keys<>(Input::id, Input::name, Input::tags,
+      Input::securityGroups);
+  private static final Keys<InputSecurityGroup> SECURITY_GROUP_KEYS = new Keys<>(
+      InputSecurityGroup::id, inSg -> null, InputSecurityGroup::tags, InputSecurityGroup::inputs);
+
+  private final Logger logger = LoggerFactory.getLogger(getClass());
+  private final MediaLiveClient emlClient;
+  private final long refreshIntervalMillis;
+  private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+      runnable -> {
+        Thread thread = new Thread(runnable, "medialive-inventory");
+        thread.setDaemon(true);
+        return thread;
+      });
+
+  private volatile Index<ChannelSummary> channels;
+  private volatile Index<Input> inputs;
+  private volatile Index<InputSecurityGroup> securityGroups;
+  /** Held for a whole refresh, so no two refreshes share {@code recentPuts}. */
+  private final Object refreshLock = new Object();
+  /** Puts since the current refresh started; guarded by {@code this}. */
+  private final List<Object> recentPuts = new ArrayList<>();
+  private boolean refreshing;
+
+  public MediaLiveInventory(MediaLiveClient emlClient, Duration refreshInterval) {
+    this.emlClient = emlClient;
+    this.refreshIntervalMillis = refreshInterval.toMillis();
+  }
+
+  public ChannelSummary channel(String id) {
+    return channelIndex().byId.get(id);
+  }
+
+  public List<ChannelSummary> channelsByName(String name) {
+    return channelIndex().byName.getOrDefault(name, Collections.emptyList());
+  }
+
+  public List<ChannelSummary> channelsByTag(String key, String value) {
+    return channelIndex().byTag.getOrDefault(tag(key, value), Collections.emptyList());
+  }
+
+  /**
+   * @return channels with an attachment of {@code inputId}
+   */
+  public List<ChannelSummary> channelsByInput(String inputId) {
+    return channelIndex().byReference.getOrDefault(inputId, Collections.emptyList());
+  }
+
+  public Input input(String id) {
+    return inputIndex().byId.get(id);
+  }
+
+  public List<Input> inputsByName(String name) {
+    return inputIndex().byName.getOrDefault(name, Collections.emptyList());
+  }
+
+  public List<Input> inputsByTag(String key, String value) {
+    return inputIndex().byTag.getOrDefault(tag(key, value), Collections.emptyList());
+  }
+
+  /**
+   * @return inputs behind the input security group {@code securityGroupId}
+   */
+  public List<Input> inputsBySecurityGroup(String securityGroupId) {
+    return inputIndex().byReference.getOrDefault(securityGroupId, Collections.emptyList());
+  }
+
+  public List<InputSecurityGroup> securityGroups() {
+    return new ArrayList<>(securityGroupIndex().byId.values());
+  }
+
+  public InputSecurityGroup securityGroup(String id) {
+    return securityGroupIndex().byId.get(id);
+  }
+
+  public List<InputSecurityGroup> securityGroupsByTag(String key, String value) {
+    return securityGroupIndex().byTag.getOrDefault(tag(key, value), Collections.emptyList());
+  }
+
+  /**
+   * @return input security groups that contain {@code inputId}
+   */
+  public List<InputSecurityGroup> securityGroupsByInput(String inputId) {
+    return securityGroupIndex().byReference.getOrDefault(inputId, Collections.emptyList());
+  }
+
+  public synchronized void putChannel(ChannelSummary channel) {
+    if (Objects.nonNull(channels)) {
+      channels = channels.with(channel);
+    }
+    rememberPut(channel);
+  }
+
+  public synchronized void putInput(Input input) {
+    if (Objects.nonNull(inputs)) {
+      inputs = inputs.with(input);
+    }
+    rememberPut(input);
+  }
+
+  public synchronized void putSecurityGroup(InputSecurityGroup inSg) {
+    if (Objects.nonNull(securityGroups)) {
+      securityGroups = securityGroups.with(inSg);
+    }
+    rememberPut(inSg);
+  }
+
+  /**
+   * Lists all resources and replaces the indexes, keeping the puts made meanwhile.
+   */
+  public void refresh() {
+    synchronized (refreshLock) {
+      refreshExclusively();
+    }
+  }
+
+  private void refreshExclusively() {
+    synchronized (this) {
+      refreshing = true;
+      recentPuts.clear();
+    }
+    long start = System.nanoTime();
+    try {
+      Index<ChannelSummary> listedChannels = new Index<>(CHANNEL_KEYS, listChannels());
+      Index<Input> listedInputs = new Index<>(INPUT_KEYS, listInputs());
+      Index<InputSecurityGroup> listedSecurityGroups =
+          new Index<>(SECURITY_GROUP_KEYS, listSecurityGroups());
+      synchronized (this) {
+        for (Object put : recentPuts) {
+          if (put instanceof ChannelSummary) {
+            listedChannels = listedChannels.with((ChannelSummary) put);
+          } else if (put instanceof Input) {
+            listedInputs = listedInputs.with((Input) put);
+          } else {
+            listedSecurityGroups = listedSecurityGroups.with((InputSecurityGroup) put);
+          }
+        }
+        channels = listedChannels;
+        inputs = listedInputs;
+        securityGroups = listedSecurityGroups;
+      }
+      logger.info("Inventory refreshed in {} ms: {} channel(s), {} input(s), {} security group(s)",
+          TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), listedChannels.byId.size(),
+          listedInputs.byId.size(), listedSecurityGroups.byId.size());
+    } finally {
+      synchronized (this) {
+        refreshing = false;
+        recentPuts.clear();
+      }
+    }
+  }
+
+  @Override public void close() {
+    scheduler.shutdownNow();
+  }
+
+  private void rememberPut(Object resource) {
+    if (refreshing) {
+      recentPuts.add(resource);
+    }
+  }
+
+  private Index<ChannelSummary> channelIndex() {
+    ensureLoaded();
+    return channels;
+  }
+
+  private Index<Input> inputIndex() {
+    ensureLoaded();
+    return inputs;
+  }
+
+  private Index<InputSecurityGroup> securityGroupIndex() {
+    ensureLoaded();
+    return securityGroups;
+  }
+
+  private void ensureLoaded() {
+    if (Objects.nonNull(securityGroups)) {
+      return;
+    }
+    synchronized (scheduler) {
+      if (Objects.isNull(securityGroups)) {
+        refresh();
+        scheduler.scheduleWithFixedDelay(this::backgroundRefresh,
+            refreshIntervalMillis, refreshIntervalMillis, TimeUnit.MILLISECONDS);
+      }
+    }
+  }
+
+  private void backgroundRefresh() {
+    try {
+      refresh();
+    } catch (RuntimeException e) {
+      // keep serving the previous snapshot; the next run retries
+      logger.warn("Inventory refresh failed", e);
+    }
+  }
+
+  private List<ChannelSummary> listChannels() {
+    List<ChannelSummary> listed = new ArrayList<>();
+    ListChannelsRequest.Builder requestBuilder = ListChannelsRequest.builder();
+    String nextToken;
+    do {
+      ListChannelsResponse response = emlClient.listChannels(requestBuilder.build());
+      listed.addAll(response.channels());
+      nextToken = response.nextToken();
+      requestBuilder.nextToken(nextToken);
+    } while (Objects.nonNull(nextToken));
+    return listed;
+  }
+
+  private List<Input> listInputs() {
+    List<Input> listed = new ArrayList<>();
+    ListInputsRequest.Builder requestBuilder = ListInputsRequest.builder();
+    String nextToken;
+    do {
+      ListInputsResponse response = emlClient.listInputs(requestBuilder.build());
+      listed.addAll(response.inputs());
+      nextToken = response.nextToken();
+      requestBuilder.nextToken(nextToken);
+    } while (Objects.nonNull(nextToken));
+    return listed;
+  }
+
+  private List<InputSecurityGroup> listSecurityGroups() {
+    List<InputSecurityGroup> listed = new ArrayList<>();
+    ListInputSecurityGroupsRequest.Builder requestBuilder =
+        ListInputSecurityGroupsRequest.builder();
+    String nextToken;
+    do {
+      ListInputSecurityGroupsResponse response =
+          emlClient.listInputSecurityGroups(requestBuilder.build());
+      listed.addAll(response.inputSecurityGroups());
+      nextToken = response.nextToken();
+      requestBuilder.nextToken(nextToken);
+    } while (Objects.nonNull(nextToken));
+    return listed;
+  }
+
+  private static String tag(String key, String value) {
+    return key + "=" + value;
+  }
+
+  /**
+   * How to index one kind of resource.
+   */
+  private static final class Keys<T> {
+    private final Function<T, String> id;
+    private final Function<T, String> name;
+    private final Function<T, Map<String, String>> tags;
+    private final Function<T, Collection<String>> references;
+
+    private Keys(Function<T, String> id, Function<T, String> name,
+        Function<T, Map<String, String>> tags, Function<T, Collection<String>> references) {
+      this.id = id;
+      this.name = name;
+      this.tags = tags;
+      this.references = references;
+    }
+
+    /**
+     * @return the name key of {@code resource}, none if it is null
+     */
+    private Set<String> names(T resource) {
+      String value = Objects.nonNull(resource) ? name.apply(resource) : null;
+      return Objects.nonNull(value) ? Collections.singleton(value) : Collections.emptySet();
+    }
+
+    private Set<String> tags(T resource) {
+      Set<String> keys = new LinkedHashSet<>();
+      Map<String, String> values = Objects.nonNull(resource) ? tags.apply(resource) : null;
+      if (Objects.nonNull(values)) {
+        values.forEach((key, value) -> keys.add(tag(key, value)));
+      }
+      return keys;
+    }
+
+    private Set<String> references(T resource) {
+      Collection<String> values =
+          Objects.nonNull(resource) ? references.apply(resource) : null;
+      return Objects.nonNull(values) ? new LinkedHashSet<>(values) : Collections.emptySet();
+    }
+  }
+
+  /**
+   * Immutable index of one kind of resource. {@link #with} copies the maps but only rebuilds the
+   * lists under the keys of the replaced and the added resource; all other lists are shared.
+   */
+  private static final class Index<T> {
+    private final Keys<T> keys;
+    private final Map<String, T> byId;
+    private final Map<String, List<T>> byName;
+    private final Map<String, List<T>> byTag;
+    private final Map<String, List<T>> byReference;
+
+    private Index(Keys<T> keys, Collection<T> resources) {
+      this.keys = keys;
+      Map<String, T> ids = new LinkedHashMap<>();
+      for (T resource : resources) {
+        ids.put(keys.id.apply(resource), resource);
+      }
+      this.byId = Collections.unmodifiableMap(ids);
+      Map<String, List<T>> names = new HashMap<>();
+      Map<String, List<T>> tags = new HashMap<>();
+      Map<String, List<T>> references = new HashMap<>();
+      for (T resource : byId.values()) {
+        keys.names(resource).forEach(key -> add(names, key, resource));
+        keys.tags(resource).forEach(key -> add(tags, key, resource));
+        keys.references(resource).forEach(key -> add(references, key, resource));
+      }
+      this.byName = freeze(names);
+      this.byTag = freeze(tags);
+      this.byReference = freeze(references);
+    }
+
+    private Index(Keys<T> keys, Map<String, T> byId, Map<String, List<T>> byName,
+        Map<String, List<T>> byTag, Map<String, List<T>> byReference) {
+      this.keys = keys;
+      this.byId = byId;
+      this.byName = byName;
+      this.byTag = byTag;
+      this.byReference = byReference;
+    }
+
+    /**
+     * @return a copy with {@code resource} added or replacing the one with the same id
+     */
+    private Index<T> with(T resource) {
+      Map<String, T> ids = new LinkedHashMap<>(byId);
+      T replaced = ids.remove(keys.id.apply(resource));
+      ids.put(keys.id.apply(resource), resource);
+      return new Index<>(keys, Collections.unmodifiableMap(ids),
+          patch(byName, replaced, keys.names(replaced), resource, keys.names(resource)),
+          patch(byTag, replaced, keys.tags(replaced), resource, keys.tags(resource)),
+          patch(byReference, replaced, keys.references(replaced), resource,
+              keys.references(resource)));
+    }
+
+    /**
+     * @return a copy of {@code index} with {@code replaced} removed from the lists under
+     *     {@code replacedKeys} and {@code resource} appended to the lists under
+     *     {@code resourceKeys}
+     */
+    private static <T> Map<String, List<T>> patch(Map<String, List<T>> index, T replaced,
+        Set<String> replacedKeys, T resource, Set<String> resourceKeys) {
+      Map<String, List<T>> patched = new HashMap<>(index);
+      Set<String> affected = new HashSet<>(replacedKeys);
+      affected.addAll(resourceKeys);
+      for (String key : affected) {
+        List<T> resources = new ArrayList<>(index.getOrDefault(key, Collections.emptyList()));
+        resources.removeIf(existing -> existing == replaced);
+        if (resourceKeys.contains(key)) {
+          resources.add(resource);
+        }
+        if (resources.isEmpty()) {
+          patched.remove(key);
+        } else {
+          patched.put(key, Collections.unmodifiableList(resources));
+        }
+      }
+      return Collections.unmodifiableMap(patched);
+    }
+
+    private static <T> void add(Map<String, List<T>> index, String key, T resource) {
+      index.computeIfAbsent(key, k -> new ArrayList<>()).add(resource);
+    }
+
+    private static <T> Map<String, List<T>> freeze(Map<String, List<T>> index) {
+      index.replaceAll((key, resources) -> Collections.unmodifiableList(resources));
+      return Collections.unmodifiableMap(index);
+    }
+  }
+}
@@ -0,0 +1,147 @@
+package com.amazonaws.examples.pool;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+import com.amazonaws.examples.inventory.MediaLiveInventory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import software.amazon.awssdk.services.medialive.model.InputSecurityGroup;
+import software.amazon.awssdk.services.medialive.model.InputSecurityGroupState;
+import software.amazon.awssdk.services.medialive.model.InputWhitelistRule;
+
+/**
+ * Reuses existing input security groups instead of creating one per channel. Groups are indexed
+ * by their normalized whitelist, i.e. the sorted set of CIDRs, so {@code 10.0.0.1, 0.0.0.0/0}
+ * and {@code 0.0.0.0/0, 10.0.0.1/32} share a group.
+ *
+ * <p>The index is filled from the groups of a {@link MediaLiveInventory} at most once per
+ * {@code refreshInterval}, so the pool never lists the groups itself. A refresh merges the
+ * inventory's snapshot into the index, adding new groups and dropping deleted ones, so lookups
+ * keep being served while it runs. Misses on the same whitelist
+ * are serialized, so concurrent callers in this JVM create at most one group per whitelist.
+ */
+public class InputSecurityGroupPool {
+  private final Logger logger = LoggerFactory.getLogger(getClass());
+  private final MediaLiveInventory inventory;
+  private final Function<String[], InputSecurityGroup> creator;
+  private final long refreshIntervalNanos;
+  private final ConcurrentMap<String, InputSecurityGroup> index = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, Object> locks = new ConcurrentHashMap<>();
+  /** Creation time of the groups created through this pool, by id. */
+  private final ConcurrentMap<String, Long> created = new ConcurrentHashMap<>();
+
+  private volatile long refreshedAt;
+  private volatile boolean refreshed;
+
+  /**
+   * @param creator creates a group for a whitelist on a miss
+   * @param refreshInterval minimum time between two listings
+   */
+  public InputSecurityGroupPool(MediaLiveInventory inventory,
+      Function<String[], InputSecurityGroup> creator, Duration refreshInterval) {
+    this.inventory = inventory;
+    this.creator = creator;
+    this.refreshIntervalNanos = refreshInterval.toNanos();
+  }
+
+  /**
+   * @return an existing group whitelisting exactly {@code cidrs}, or a new one
+   */
+  public InputSecurityGroup acquire(String... cidrs) {
+    String key = key(cidrs);
+    refreshIfStale();
+    InputSecurityGroup inSg = index.get(key);
+    if (Objects.nonNull(inSg)) {
+      logger.info("Reusing Input Security Group - Id: {}", inSg.id());
+      return inSg;
+    }
+
+    synchronized (locks.computeIfAbsent(key, k -> new Object())) {
+      inSg = index.get(key);
+      if (Objects.isNull(inSg)) {
+        inSg = creator.apply(cidrs);
+        created.put(inSg.id(), System.nanoTime());
+        index.put(key, inSg);
+      } else {
+        logger.info("Reusing Input Security Group - Id: {}", inSg.id());
+      }
+      return inSg;
+    }
+  }
+
+  /**
+   * @return the number of distinct whitelists with a known group
+   */
+  public int size() {
+    return index.size();
+  }
+
+  private void refreshIfStale() {
+    if (!refreshed || System.nanoTime() - refreshedAt >= refreshIntervalNanos) {
+      synchronized (this) {
+        if (!refreshed || System.nanoTime() - refreshedAt >= refreshIntervalNanos) {
+          refresh();
+        }
+      }
+    }
+  }
+
+  /**
+   * Merges the groups known to the inventory into the index.
+   */
+  public synchronized void refresh() {
+    long start = System.nanoTime();
+    Set<String> listedIds = new HashSet<>();
+    for (InputSecurityGroup inSg : inventory.securityGroups()) {
+      if (inSg.state() == InputSecurityGroupState.DELETED || !inSg.hasWhitelistRules()) {
+        continue;
+      }
+      listedIds.add(inSg.id());
+      index.putIfAbsent(key(inSg), inSg);
+    }
+
+    // a group created recently may not be listed yet, so it is only dropped once it is older
+    // than one refresh interval
+    index.values().removeIf(inSg -> !listedIds.contains(inSg.id()) && !isRecent(inSg.id()));
+    created.keySet().removeIf(id -> !isRecent(id));
+    refreshedAt = start;
+    refreshed = true;
+    logger.info("Indexed {} Input Security Group whitelist(s).", index.size());
+  }
+
+  private boolean isRecent(String id) {
+    Long createdAt = created.get(id);
+    return Objects.nonNull(createdAt) && System.nanoTime() - createdAt < refreshIntervalNanos;
+  }
+
+  private static String key(InputSecurityGroup inSg) {
+    return key(inSg.whitelistRules().stream()
+        .map(InputWhitelistRule::cidr)
+        .toArray(String[]::new));
+  }
+
+  /**
+   * @return the sorted, de-duplicated CIDRs with an explicit prefix length
+   */
+  static String key(String... cidrs) {
+    Set<String> normalized = new TreeSet<>();
+    for (String cidr : cidrs) {
+      String value = cidr.trim().toLowerCase(Locale.ROOT);
+      if (!value.contains("/")) {
+        value += value.contains(":") ? "/128" : "/32";
+      }
+      normalized.add(value);
+    }
+    return String.join(",", normalized);
+  }
+}
@@ -0,0 +1,224 @@
+package com.amazonaws.examples.pool;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import com.amazonaws.examples.utils.Metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import software.amazon.awssdk.services.medialive.model.Input;
+
+/**
+ * Keeps up to {@code targetSize} unattached inputs ready so that channel creation does not wait
+ * for {@code CreateInput}. Each input is handed out once; after every claim the pool is topped
+ * up again on a background thread. When the pool is empty, e.g. during a spike, the claim
+ * creates an input on the spot.
+ *
+ * <p>Claims emit the {@code RtmpInputPoolDepth} and {@code RtmpInputClaimLatency} metrics and
+ * refills emit {@code RtmpInputRefillLatency}. The pool lives as long as the execution
+ * environment; inputs still pooled when it is recycled remain in the account unattached. The
+ * creator is expected to tag its inputs with {@link #TAG}, so that the next pool adopts those
+ * leftovers before it creates any inputs of its own. Execution environments that run at the
+ * same time may adopt the same leftover input, in which case the second channel to attach it
+ * is rejected by MediaLive.
+ */
+public class RtmpInputPool {
+  /** Tag key of pooled inputs; the value names the function that pooled them. */
+  public static final String TAG = "eml-pool";
+  public static final String DEPTH_METRIC = "RtmpInputPoolDepth";
+  public static final String CLAIM_LATENCY_METRIC = "RtmpInputClaimLatency";
+  public static final String REFILL_LATENCY_METRIC = "RtmpInputRefillLatency";
+
+  private final Logger logger = LoggerFactory.getLogger(getClass());
+  private final Supplier<Input> creator;
+  private final int targetSize;
+  private final ExecutorService refiller = Executors.newSingleThreadExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "rtmp-input-pool-refill");
+    thread.setDaemon(true);
+    return thread;
+  });
+  private final BlockingQueue<Input> ready = new LinkedBlockingQueue<>();
+  /** Refills queued or running; guarded by {@code this} together with additions to ready. */
+  private int pending;
+  /** Whether leftovers are still being looked up; refills wait for that. */
+  private boolean adopting;
+
+  private final AtomicLong claims = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  private final AtomicLong claimNanos = new AtomicLong();
+  private final AtomicLong refills = new AtomicLong();
+  private final AtomicLong refillFailures = new AtomicLong();
+  private final AtomicLong adopted = new AtomicLong();
+
+  /**
+   * Starts filling the pool right away.
+   *
+   * @param creator creates one unattached input
+   * @param targetSize number of inputs kept ready
+   */
+  public RtmpInputPool(Supplier<Input> creator, int targetSize) {
+    this(creator, Collections::emptyList, targetSize);
+  }
+
+  /**
+   * Starts filling the pool right away, first with up to {@code targetSize} of the inputs
+   * {@code leftovers} returns and then with new ones for the shortfall.
+   *
+   * @param leftovers looks up unattached inputs an earlier pool left behind; called once on the
+   *     refill thread
+   */
+  public RtmpInputPool(Supplier<Input> creator, Supplier<List<Input>> leftovers, int targetSize) {
+    if (targetSize < 1) {
+      throw new IllegalArgumentException("Target size must be positive");
+    }
+    this.creator = creator;
+    this.targetSize = targetSize;
+    adopting = true;
+    refiller.execute(() -> adopt(leftovers));
+  }
+
+  /**
+   * @return a pooled input that no other caller receives, or a newly created one if the pool
+   *     is empty
+   */
+  public Input claim() {
+    long start = System.nanoTime();
+    Input input = ready.poll();
+    if (Objects.isNull(input)) {
+      misses.incrementAndGet();
+      logger.info("RTMP input pool is empty, creating an input on demand...");
+      input = creator.get();
+    } else {
+      logger.info("Claimed pooled RTMP Input - Id: {}", input.id());
+    }
+    long elapsed = System.nanoTime() - start;
+    claims.incrementAndGet();
+    claimNanos.addAndGet(elapsed);
+    Metrics.getInstance().emit(DEPTH_METRIC, ready.size(), "Count");
+    Metrics.getInstance().emit(
+        CLAIM_LATENCY_METRIC, elapsed / 1_000_000.0, "Milliseconds");
+
+    replenish();
+    return input;
+  }
+
+  /**
+   * Schedules as many refills as needed to reach the target size. Failed refills are not
+   * retried until the next claim or call.
+   */
+  public synchronized void replenish() {
+    if (adopting) {
+      return;
+    }
+    while (ready.size() + pending < targetSize) {
+      pending++;
+      refiller.execute(this::refill);
+    }
+  }
+
+  private void adopt(Supplier<List<Input>> leftovers) {
+    List<Input> inputs;
+    try {
+      inputs = leftovers.get();
+    } catch (RuntimeException e) {
+      logger.warn("Could not look up pooled RTMP inputs left behind", e);
+      inputs = Collections.emptyList();
+    }
+    synchronized (this) {
+      for (Input input : inputs) {
+        if (ready.size() >= targetSize) {
+          break;
+        }
+        ready.add(input);
+        adopted.incrementAndGet();
+      }
+      adopting = false;
+    }
+    logger.info("Adopted {} pooled RTMP input(s) left behind.", adopted.get());
+    replenish();
+  }
+
+  private void refill() {
+    long start = System.nanoTime();
+    Input input;
+    try {
+      input = creator.get();
+    } catch (RuntimeException e) {
+      synchronized (this) {
+        pending--;
+        refillFailures.incrementAndGet();
+      }
+      logger.warn("Could not refill the RTMP input pool", e);
+      return;
+    }
+    synchronized (this) {
+      pending--;
+      refills.incrementAndGet();
+      ready.add(input);
+    }
+    Metrics.getInstance().emit(REFILL_LATENCY_METRIC,
+        (System.nanoTime() - start) / 1_000_000.0, "Milliseconds");
+    logger.info("Pooled RTMP Input - Id: {}, depth {}", input.id(), ready.size());
+  }
+
+  /**
+   * @return inputs ready to be claimed
+   */
+  public int getDepth() {
+    return ready.size();
+  }
+
+  public int getTargetSize() {
+    return targetSize;
+  }
+
+  public long getClaims() {
+    return claims.get();
+  }
+
+  /**
+   * @return claims that found the pool empty and created an input themselves
+   */
+  public long getMisses() {
+    return misses.get();
+  }
+
+  /**
+   * @return mean time a claim took
+   */
+  public long getMeanClaimLatency(TimeUnit unit) {
+    long count = claims.get();
+    return count == 0 ? 0 : unit.convert(claimNanos.get() / count, TimeUnit.NANOSECONDS);
+  }
+
+  public long getRefills() {
+    return refills.get();
+  }
+
+  public long getRefillFailures() {
+    return refillFailures.get();
+  }
+
+  /**
+   * @return inputs left behind by an earlier pool that this one took over
+   */
+  public long getAdopted() {
+    return adopted.get();
+  }
+
+  @Override public String toString() {
+    return String.format(
+        "depth %d/%d, claims %d (%d missed), refills %d (%d failed), adopted %d", getDepth(),
+        targetSize, getClaims(), getMisses(), getRefills(), getRefillFailures(), getAdopted());
+  }
+}
@@ -0,0 +1,165 @@
+package com.amazonaws.examples.throttle;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket whose refill rate follows additive-increase/multiplicative-decrease. Every
+ * successful call raises the rate by {@code increase / rate}, i.e. by about {@code increase}
+ * permits per second per second of successful traffic; a throttled call multiplies it by
+ * {@code decrease}. Decreases are applied at most once per second, so a burst of throttling
+ * responses caused by the same overshoot only backs off once and the rate settles just below
+ * the service's real limit instead of collapsing and oscillating.
+ *
+ * <p>Callers that find the bucket empty take a token on credit and wait until it would have
+ * been refilled, so waiters are served in arrival order. {@link #acquire} sleeps for that time;
+ * {@link #acquireAsync} returns a future that a shared daemon thread completes instead.
+ */
+public class AimdRateLimiter {
+  private static final long DECREASE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+  private static final ScheduledExecutorService PERMITS =
+      Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "rate-limit-permits");
+        thread.setDaemon(true);
+        return thread;
+      });
+
+  private final double minRate;
+  private final double maxRate;
+  private final double increase;
+  private final double decrease;
+  private final double capacity;
+  private final LongSupplier nanoTime;
+
+  private final AtomicInteger queued = new AtomicInteger();
+  private final AtomicLong throttleEvents = new AtomicLong();
+
+  private double rate;
+  private double tokens;
+  private long refilledAt;
+  private long decreasedAt;
+
+  /**
+   * @param initialRate permits per second to start with
+   * @param minRate lower bound of the rate
+   * @param maxRate upper bound of the rate
+   * @param capacity permits that may accumulate while the limiter is idle
+   */
+  public AimdRateLimiter(double initialRate, double minRate, double maxRate, double capacity) {
+    this(initialRate, minRate, maxRate, capacity, 1.0, 0.5, System::nanoTime);
+  }
+
+  AimdRateLimiter(double initialRate, double minRate, double maxRate, double capacity,
+      double increase, double decrease, LongSupplier nanoTime) {
+    if (minRate <= 0 || minRate > maxRate || capacity < 1) {
+      throw new IllegalArgumentException("Invalid rate bounds or capacity");
+    }
+    this.minRate = minRate;
+    this.maxRate = maxRate;
+    this.increase = increase;
+    this.decrease = decrease;
+    this.capacity = capacity;
+    this.nanoTime = nanoTime;
+    this.rate = Math.max(minRate, Math.min(maxRate, initialRate));
+    this.tokens = capacity;
+    this.refilledAt = nanoTime.getAsLong();
+    this.decreasedAt = refilledAt - DECREASE_INTERVAL_NANOS;
+  }
+
+  /**
+   * Blocks until a permit is available.
+   */
+  public void acquire() throws InterruptedException {
+    long waitNanos = reserve();
+    if (waitNanos > 0) {
+      queued.incrementAndGet();
+      try {
+        TimeUnit.NANOSECONDS.sleep(waitNanos);
+      } finally {
+        queued.decrementAndGet();
+      }
+    }
+  }
+
+  /**
+   * Takes a permit without blocking.
+   *
+   * @return completes once the permit is available; callers issue their call from it
+   */
+  public CompletableFuture<Void> acquireAsync() {
+    long waitNanos = reserve();
+    if (waitNanos <= 0) {
+      return CompletableFuture.completedFuture(null);
+    }
+    queued.incrementAndGet();
+    CompletableFuture<Void> permit = new CompletableFuture<>();
+    PERMITS.schedule(() -> {
+      queued.decrementAndGet();
+      permit.complete(null);
+    }, waitNanos, TimeUnit.NANOSECONDS);
+    return permit;
+  }
+
+  /**
+   * Takes a permit, on credit if the bucket is empty.
+   *
+   * @return nanoseconds until the permit is covered by the refill
+   */
+  synchronized long reserve() {
+    refill();
+    tokens -= 1;
+    return tokens >= 0 ? 0 : (long) (-tokens / rate * TimeUnit.SECONDS.toNanos(1));
+  }
+
+  public synchronized void onSuccess() {
+    refill();
+    rate = Math.min(maxRate, rate + increase / rate);
+  }
+
+  public synchronized void onThrottle() {
+    throttleEvents.incrementAndGet();
+    refill();
+    long now = nanoTime.getAsLong();
+    if (now - decreasedAt >= DECREASE_INTERVAL_NANOS) {
+      rate = Math.max(minRate, rate * decrease);
+      decreasedAt = now;
+    }
+  }
+
+  /**
+   * @return current refill rate in permits per second
+   */
+  public synchronized double getRate() {
+    return rate;
+  }
+
+  /**
+   * @return callers currently waiting for a permit
+   */
+  public int getQueued() {
+    return queued.get();
+  }
+
+  /**
+   * @return throttling responses reported so far
+   */
+  public long getThrottleEvents() {
+    return throttleEvents.get();
+  }
+
+  private void refill() {
+    long now = nanoTime.getAsLong();
+    tokens = Math.min(capacity, tokens + (now - refilledAt) * rate / TimeUnit.SECONDS.toNanos(1));
+    refilledAt = now;
+  }
+
+  @Override public String toString() {
+    return String.format("rate %.2f/s, queued %d, throttled %d",
+        getRate(), getQueued(), getThrottleEvents());
+  }
+}
@@ -0,0 +1,163 @@
+package com.amazonaws.examples.throttle;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.amazonaws.examples.utils.ResourceUtils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import software.amazon.awssdk.core.exception.AbortedException;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.core.retry.RetryUtils;
+
+/**
+ * Paces every attempt, retries included, through an {@link AimdRateLimiter} per API, e.g.
+ * {@code MediaLive:CreateInput}. HTTP 429 and 503 responses count as throttling for the attempt
+ * that received them; other throttling errors, such as IAM's {@code Throttling} code, are seen
+ * once the call has failed. The limiters are shared by all clients the interceptor is added to.
+ *
+ * <p>Only {@link #shared()} waits for permits, by blocking the calling thread, and is meant for
+ * the sync clients. Async clients get {@link #sharedAsync()}, which only adjusts the same
+ * limiters to the responses; their callers take a permit with {@link #acquireAsync} before
+ * issuing a call. Retries of async calls are not paced and rely on the retry backoff.
+ *
+ * <p>Rates start at {@code API_RATE_LIMIT_INITIAL} (default 5) permits per second and stay
+ * between {@code API_RATE_LIMIT_MIN} (0.5) and {@code API_RATE_LIMIT_MAX} (50).
+ */
+public class RateLimitingInterceptor implements ExecutionInterceptor {
+  /** Service name the SDK reports for MediaLive calls. */
+  public static final String MEDIA_LIVE = "MediaLive";
+  /** Service name the SDK reports for IAM calls. */
+  public static final String IAM = "Iam";
+
+  private static final RateLimitingInterceptor SHARED =
+      new RateLimitingInterceptor(new ConcurrentHashMap<>(), true);
+  private static final RateLimitingInterceptor SHARED_ASYNC =
+      new RateLimitingInterceptor(SHARED.limiters, false);
+
+  private final double INITIAL_RATE = Double.parseDouble(
+      ResourceUtils.getInstance().getEnv("API_RATE_LIMIT_INITIAL", "5"));
+  private final double MIN_RATE = Double.parseDouble(
+      ResourceUtils.getInstance().getEnv("API_RATE_LIMIT_MIN", "0.5"));
+  private final double MAX_RATE = Double.parseDouble(
+      ResourceUtils.getInstance().getEnv("API_RATE_LIMIT_MAX", "50"));
+
+  private final Logger logger = LoggerFactory.getLogger(getClass());
+  private final ConcurrentMap<String, AimdRateLimiter> limiters;
+  private final boolean blocking;
+
+  private RateLimitingInterceptor(ConcurrentMap<String, AimdRateLimiter> limiters,
+      boolean blocking) {
+    this.limiters = limiters;
+    this.blocking = blocking;
+  }
+
+  /**
+   * @return the instance added to the sync clients built by
+   *     {@link com.amazonaws.examples.DependencyFactory}
+   */
+  public static RateLimitingInterceptor shared() {
+    return SHARED;
+  }
+
+  /**
+   * @return the instance added to the async clients built by
+   *     {@link com.amazonaws.examples.AsyncDependencyFactory}; it shares the limiters of
+   *     {@link #shared()} but never blocks
+   */
+  public static RateLimitingInterceptor sharedAsync() {
+    return SHARED_ASYNC;
+  }
+
+  /**
+   * @param service service name as reported by the SDK, e.g. {@link #MEDIA_LIVE}
+   * @param operation operation name, e.g. {@code CreateChannel}
+   * @return the name of the limiter of the API, e.g. {@code MediaLive:CreateChannel}
+   */
+  public static String key(String service, String operation) {
+    return service + ":" + operation;
+  }
+
+  /**
+   * @param api name built by {@link #key}
+   * @return the limiter of {@code api}, created on first use
+   */
+  public AimdRateLimiter limiter(String api) {
+    return limiters.computeIfAbsent(api,
+        key -> new AimdRateLimiter(INITIAL_RATE, MIN_RATE, MAX_RATE, Math.max(1, INITIAL_RATE)));
+  }
+
+  /**
+   * @return the limiters used so far by API name, exposing rate, queued waiters and throttle
+   *     events
+   */
+  public Map<String, AimdRateLimiter> metrics() {
+    return Collections.unmodifiableMap(new TreeMap<>(limiters));
+  }
+
+  /**
+   * @param api name built by {@link #key}
+   * @return completes once a permit for {@code api} is available
+   */
+  public CompletableFuture<Void> acquireAsync(String api) {
+    return limiter(api).acquireAsync();
+  }
+
+  @Override public void beforeTransmission(Context.BeforeTransmission context,
+      ExecutionAttributes executionAttributes) {
+    if (!blocking) {
+      return;
+    }
+    try {
+      limiter(api(executionAttributes)).acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw AbortedException.builder().message("Interrupted waiting for a rate limit permit")
+          .cause(e).build();
+    }
+  }
+
+  @Override public void afterTransmission(Context.AfterTransmission context,
+      ExecutionAttributes executionAttributes) {
+    int status = context.httpResponse().statusCode();
+    AimdRateLimiter limiter = limiter(api(executionAttributes));
+    if (isThrottlingStatus(status)) {
+      limiter.onThrottle();
+      logger.warn("Throttled on {}: {}", api(executionAttributes), limiter);
+    } else if (status < 400) {
+      limiter.onSuccess();
+    }
+  }
+
+  @Override public void onExecutionFailure(Context.FailedExecution context,
+      ExecutionAttributes executionAttributes) {
+    if (context.exception() instanceof SdkException
+        && RetryUtils.isThrottlingException((SdkException) context.exception())
+        && !(context.exception() instanceof SdkServiceException
+            && isThrottlingStatus(((SdkServiceException) context.exception()).statusCode()))) {
+      AimdRateLimiter limiter = limiter(api(executionAttributes));
+      limiter.onThrottle();
+      logger.warn("Throttled on {}: {}", api(executionAttributes), limiter);
+    }
+  }
+
+  private static boolean isThrottlingStatus(int status) {
+    return status == 429 || status == 503;
+  }
+
+  private static String api(ExecutionAttributes executionAttributes) {
+    return key(executionAttributes.getAttribute(SdkExecutionAttribute.SERVICE_NAME),
+        executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME));
+  }
+}
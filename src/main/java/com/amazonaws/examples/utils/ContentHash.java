@@ -0,0 +1,104 @@
+package com.amazonaws.examples.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Non-cryptographic 64-bit hash of byte content, using the xxHash64 algorithm with seed 0. It is
+ * meant for cache keys, not for integrity checks.
+ */
+public class ContentHash {
+  private static final long PRIME64_1 = 0x9E3779B185EBCA87L;
+  private static final long PRIME64_2 = 0xC2B2AE3D27D4EB4FL;
+  private static final long PRIME64_3 = 0x165667B19E3779F9L;
+  private static final long PRIME64_4 = 0x85EBCA77C2B2AE63L;
+  private static final long PRIME64_5 = 0x27D4EB2F165667C5L;
+
+  private ContentHash() {
+  }
+
+  public static long hash64(byte[] data) {
+    return hash64(data, 0, data.length);
+  }
+
+  public static long hash64(byte[] data, int offset, int length) {
+    return hash64(ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN), offset, offset + length);
+  }
+
+  /**
+   * Hashes the remaining bytes of {@code buffer} without copying them, which also works for
+   * direct and memory-mapped buffers. The buffer position is not changed.
+   */
+  public static long hash64(ByteBuffer buffer) {
+    ByteBuffer data = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    return hash64(data, data.position(), data.limit());
+  }
+
+  /**
+   * Hashes bytes {@code position} to {@code end} of {@code data}, reading them by absolute index
+   * from a little-endian buffer.
+   */
+  private static long hash64(ByteBuffer data, int position, int end) {
+    int length = end - position;
+    long hash;
+
+    if (length >= 32) {
+      long v1 = PRIME64_1 + PRIME64_2;
+      long v2 = PRIME64_2;
+      long v3 = 0;
+      long v4 = -PRIME64_1;
+      for (int limit = end - 32; position <= limit; position += 32) {
+        v1 = round(v1, data.getLong(position));
+        v2 = round(v2, data.getLong(position + 8));
+        v3 = round(v3, data.getLong(position + 16));
+        v4 = round(v4, data.getLong(position + 24));
+      }
+      hash = Long.rotateLeft(v1, 1) + Long.rotateLeft(v2, 7)
+          + Long.rotateLeft(v3, 12) + Long.rotateLeft(v4, 18);
+      hash = mergeRound(hash, v1);
+      hash = mergeRound(hash, v2);
+      hash = mergeRound(hash, v3);
+      hash = mergeRound(hash, v4);
+    } else {
+      hash = PRIME64_5;
+    }
+
+    hash += length;
+
+    for (; position + 8 <= end; position += 8) {
+      hash ^= round(0, data.getLong(position));
+      hash = Long.rotateLeft(hash, 27) * PRIME64_1 + PRIME64_4;
+    }
+    if (position + 4 <= end) {
+      hash ^= (data.getInt(position) & 0xFFFFFFFFL) * PRIME64_1;
+      hash = Long.rotateLeft(hash, 23) * PRIME64_2 + PRIME64_3;
+      position += 4;
+    }
+    for (; position < end; position++) {
+      hash ^= (data.get(position) & 0xFFL) * PRIME64_5;
+      hash = Long.rotateLeft(hash, 11) * PRIME64_1;
+    }
+
+    return avalanche(hash);
+  }
+
+  private static long avalanche(long hash) {
+    hash ^= hash >>> 33;
+    hash *= PRIME64_2;
+    hash ^= hash >>> 29;
+    hash *= PRIME64_3;
+    hash ^= hash >>> 32;
+    return hash;
+  }
+
+  private static long round(long acc, long input) {
+    acc += input * PRIME64_2;
+    acc = Long.rotateLeft(acc, 31);
+    return acc * PRIME64_1;
+  }
+
+  private static long mergeRound(long acc, long value) {
+    acc ^= round(0, value);
+    return acc * PRIME64_1 + PRIME64_4;
+  }
+}
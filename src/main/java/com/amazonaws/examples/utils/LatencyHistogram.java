@@ -0,0 +1,69 @@
+package com.amazonaws.examples.utils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe histogram of durations with power-of-two millisecond buckets, from 1 ms up to
+ * about 35 minutes. Percentiles are reported as the upper bound of their bucket, so they are
+ * accurate to within a factor of two, which is enough to tell a 20 second transition from a two
+ * minute one.
+ */
+public class LatencyHistogram {
+  private static final int BUCKETS = 32;
+
+  /** Bucket i counts durations of at most 2^i ms. */
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+  private final AtomicLong count = new AtomicLong();
+  private final AtomicLong totalMillis = new AtomicLong();
+  private final AtomicLong maxMillis = new AtomicLong();
+
+  public void record(long duration, TimeUnit unit) {
+    long millis = Math.max(0, unit.toMillis(duration));
+    int bucket = millis <= 1 ? 0 : 64 - Long.numberOfLeadingZeros(millis - 1);
+    counts.incrementAndGet(Math.min(bucket, BUCKETS - 1));
+    count.incrementAndGet();
+    totalMillis.addAndGet(millis);
+    maxMillis.accumulateAndGet(millis, Math::max);
+  }
+
+  public long getCount() {
+    return count.get();
+  }
+
+  public long getMaxMillis() {
+    return maxMillis.get();
+  }
+
+  public long getMeanMillis() {
+    long n = count.get();
+    return n == 0 ? 0 : totalMillis.get() / n;
+  }
+
+  /**
+   * @param percentile between 0 and 100
+   * @return upper bound in ms of the bucket holding the percentile, at most the maximum
+   */
+  public long getPercentileMillis(double percentile) {
+    long n = count.get();
+    if (n == 0) {
+      return 0;
+    }
+    long rank = Math.max(1, (long) Math.ceil(n * percentile / 100));
+    long seen = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      seen += counts.get(i);
+      if (seen >= rank) {
+        return Math.min(1L << i, maxMillis.get());
+      }
+    }
+    return maxMillis.get();
+  }
+
+  @Override public String toString() {
+    return String.format("count %d, mean %d / p50 %d / p90 %d / p99 %d / max %d ms", getCount(),
+        getMeanMillis(), getPercentileMillis(50), getPercentileMillis(90),
+        getPercentileMillis(99), getMaxMillis());
+  }
+}
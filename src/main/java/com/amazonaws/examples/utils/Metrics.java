@@ -0,0 +1,37 @@
+package com.amazonaws.examples.utils;
+
+import java.io.PrintStream;
+
+/**
+ * Emits metrics as CloudWatch embedded metric format (EMF) log lines. Lambda forwards standard
+ * output to CloudWatch Logs, which extracts the metrics without any API call. The namespace is
+ * taken from the {@code METRICS_NAMESPACE} environment variable.
+ */
+public class Metrics {
+  private static final Metrics INSTANCE = new Metrics(System.out);
+
+  private final String NAMESPACE =
+      ResourceUtils.getInstance().getEnv("METRICS_NAMESPACE", "EmlCreateChannel");
+
+  private final PrintStream out;
+
+  Metrics(PrintStream out) {
+    this.out = out;
+  }
+
+  public static Metrics getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * @param name metric name, also used as the log field holding the value
+   * @param value observed value
+   * @param unit CloudWatch unit, e.g. {@code Milliseconds} or {@code Count}
+   */
+  public void emit(String name, double value, String unit) {
+    out.println("{\"_aws\":{\"Timestamp\":" + System.currentTimeMillis()
+        + ",\"CloudWatchMetrics\":[{\"Namespace\":\"" + NAMESPACE + "\",\"Dimensions\":[[]],"
+        + "\"Metrics\":[{\"Name\":\"" + name + "\",\"Unit\":\"" + unit + "\"}]}]},"
+        + "\"" + name + "\":" + value + "}");
+  }
+}
@@ -0,0 +1,92 @@
+package com.amazonaws.examples.utils;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+
+/**
+ * Estimates the heap retained by an SDK model graph, for weighing cache entries. The members are
+ * walked through their {@link SdkField}s, assuming a 64-bit JVM with compressed references:
+ * 12-byte object headers, 4-byte references and 8-byte alignment. Instances shared between
+ * models, such as interned strings or cached boxes, are counted at every use, so the estimate
+ * errs on the high side.
+ */
+public class ModelSize {
+  private static final int HEADER = 12;
+  private static final int REFERENCE = 4;
+  /** {@code String} instance, without its array. */
+  private static final int STRING = 24;
+  /** Unmodifiable wrapper and {@code ArrayList}, without the element array. */
+  private static final int LIST = 16 + 24;
+  /** Unmodifiable wrapper and {@code HashMap}, without the table. */
+  private static final int MAP = 24 + 48;
+  /** {@code HashMap} node. */
+  private static final int MAP_ENTRY = 32;
+  /** Boxed number or boolean, or any other leaf value. */
+  private static final int BOX = 16;
+
+  private ModelSize() {
+  }
+
+  /**
+   * @return the estimated number of bytes retained by {@code value} and everything it references
+   */
+  public static long estimate(Object value) {
+    if (Objects.isNull(value)) {
+      return 0;
+    } else if (value instanceof SdkPojo) {
+      List<SdkField<?>> fields = ((SdkPojo) value).sdkFields();
+      long size = align(HEADER + (long) REFERENCE * fields.size());
+      for (SdkField<?> field : fields) {
+        size += estimate(field.getValueOrDefault(value));
+      }
+      return size;
+    } else if (value instanceof String) {
+      // UTF-16 on Java 8; compact Latin-1 strings of later JVMs are over-counted.
+      return STRING + array((long) ((String) value).length() * 2);
+    } else if (value instanceof List) {
+      List<?> values = (List<?>) value;
+      long size = LIST + array((long) REFERENCE * values.size());
+      for (Object element : values) {
+        size += estimate(element);
+      }
+      return size;
+    } else if (value instanceof Map) {
+      Map<?, ?> values = (Map<?, ?>) value;
+      long size = MAP + array((long) REFERENCE * tableSize(values.size()));
+      for (Map.Entry<?, ?> entry : values.entrySet()) {
+        size += MAP_ENTRY + estimate(entry.getKey()) + estimate(entry.getValue());
+      }
+      return size;
+    } else if (value instanceof SdkBytes) {
+      return BOX + array(((SdkBytes) value).asByteBuffer().remaining());
+    } else if (value instanceof Instant) {
+      return 24;
+    }
+    return BOX;
+  }
+
+  private static long array(long payloadBytes) {
+    return align(HEADER + 4 + payloadBytes);
+  }
+
+  private static long align(long bytes) {
+    return (bytes + 7) & ~7L;
+  }
+
+  /**
+   * Smallest power of two table that holds {@code size} entries at the default load factor.
+   */
+  private static int tableSize(int size) {
+    int table = 16;
+    while (table * 3 / 4 < size) {
+      table <<= 1;
+    }
+    return table;
+  }
+}
@@ -0,0 +1,48 @@
+package com.amazonaws.examples.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+
+/**
+ * Reads and writes the properties files that caches and journals keep, e.g. under {@code /tmp}.
+ */
+public class PropertiesFile {
+
+  private PropertiesFile() {
+  }
+
+  /**
+   * @throws IOException if {@code file} cannot be read or contains a malformed escape
+   */
+  public static Properties load(Path file) throws IOException {
+    Properties properties = new Properties();
+    try (InputStream in = Files.newInputStream(file)) {
+      properties.load(in);
+    } catch (IllegalArgumentException e) {
+      throw new IOException("Malformed properties file " + file, e);
+    }
+    return properties;
+  }
+
+  /**
+   * Rewrites the whole file through a temporary file next to it, so readers never see a partial
+   * write. The temporary file is removed if the write fails.
+   */
+  public static void storeAtomically(Path file, Properties properties) throws IOException {
+    Path tmp = Files.createTempFile(file.toAbsolutePath().getParent(),
+        file.getFileName().toString(), ".tmp");
+    try {
+      try (OutputStream out = Files.newOutputStream(tmp)) {
+        properties.store(out, null);
+      }
+      Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(tmp);
+    }
+  }
+}
@@ -1,6 +1,8 @@
 package com.amazonaws.examples.utils;
 
+import java.io.ByteArrayOutputStream;
 import java.io.CharArrayWriter;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.util.ArrayList;
@@ -44,6 +46,15 @@ public class ResourceUtils {
     return getClass().getResourceAsStream(name);
   }
 
+  public byte[] readBytes(InputStream in) throws IOException {
+    byte[] buff = new byte[MAX_SIZE];
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    for (int c; (c = in.read(buff, 0, MAX_SIZE)) != -1; ) {
+      out.write(buff, 0, c);
+    }
+    return out.toByteArray();
+  }
+
   public String getEnv(String name, String def) {
     String val;
     if ((Objects.isNull(name) || name.isEmpty())) {
@@ -0,0 +1,109 @@
+package com.amazonaws.examples.utils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+
+import com.amazonaws.examples.deserialize.TemplateFormat;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Converts JSON channel templates into a binary {@link TemplateFormat}. The token stream is
+ * copied as is, so fields the deserializers do not model survive the conversion.
+ *
+ * <pre>
+ * TemplateConverter &lt;smile|cbor&gt; &lt;template.json or directory&gt; &lt;output directory&gt;
+ * </pre>
+ */
+public class TemplateConverter {
+  private static final String JSON_GLOB = "*.json";
+
+  private final Logger logger = LoggerFactory.getLogger(getClass());
+  private final JsonFactory jsonFactory = TemplateFormat.JSON.newFactory();
+  private final TemplateFormat format;
+  private final JsonFactory targetFactory;
+
+  public TemplateConverter(TemplateFormat format) {
+    this.format = format;
+    this.targetFactory = format.newFactory();
+  }
+
+  public static void main(String[] args) throws IOException {
+    if (args.length != 3) {
+      System.err.println(
+          "Usage: TemplateConverter <smile|cbor> <template.json or directory> <output directory>");
+      System.exit(2);
+    }
+
+    TemplateConverter converter =
+        new TemplateConverter(TemplateFormat.valueOf(args[0].toUpperCase(Locale.ROOT)));
+    int converted = converter.convertAll(Paths.get(args[1]), Paths.get(args[2]));
+    System.out.println("Converted " + converted + " template(s)");
+  }
+
+  /**
+   * Converts {@code source}, or every {@code *.json} file directly inside it, into
+   * {@code targetDir}, replacing the extension with the one of the target format.
+   *
+   * @return number of converted templates
+   */
+  public int convertAll(Path source, Path targetDir) throws IOException {
+    Files.createDirectories(targetDir);
+    if (!Files.isDirectory(source)) {
+      convert(source, targetDir);
+      return 1;
+    }
+
+    int converted = 0;
+    try (DirectoryStream<Path> templates = Files.newDirectoryStream(source, JSON_GLOB)) {
+      for (Path template : templates) {
+        convert(template, targetDir);
+        converted++;
+      }
+    }
+    return converted;
+  }
+
+  private void convert(Path template, Path targetDir) throws IOException {
+    String name = template.getFileName().toString();
+    int dot = name.lastIndexOf('.');
+    Path target = targetDir.resolve(
+        (dot > 0 ? name.substring(0, dot) : name) + "." + format.extension());
+
+    logger.info("Converting '{}' to '{}'...", template, target);
+    try (InputStream in = Files.newInputStream(template);
+        OutputStream out = Files.newOutputStream(target)) {
+      convert(in, out);
+    }
+  }
+
+  /**
+   * Copies one template; both streams are closed afterwards.
+   */
+  public void convert(InputStream in, OutputStream out) throws IOException {
+    try (JsonParser parser = jsonFactory.createParser(in);
+        JsonGenerator generator = targetFactory.createGenerator(out)) {
+      while (parser.nextToken() != null) {
+        generator.copyCurrentEvent(parser);
+      }
+    }
+  }
+
+  public byte[] convert(byte[] json) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(json.length);
+    convert(new ByteArrayInputStream(json), out);
+    return out.toByteArray();
+  }
+}
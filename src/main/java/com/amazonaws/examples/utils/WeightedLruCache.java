@@ -0,0 +1,105 @@
+package com.amazonaws.examples.utils;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Least-recently-used cache bounded by the total weight of its entries rather than by their
+ * count. Entries heavier than the whole budget are never stored.
+ *
+ * @param <K> key type
+ * @param <V> value type, expected to be immutable as it is shared between callers
+ */
+public class WeightedLruCache<K, V> {
+  private final long maxWeight;
+  private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  private final AtomicLong evictions = new AtomicLong();
+  private long weight;
+
+  public WeightedLruCache(long maxWeight) {
+    this.maxWeight = maxWeight;
+  }
+
+  public synchronized V get(K key) {
+    Entry<V> entry = entries.get(key);
+    if (Objects.isNull(entry)) {
+      misses.incrementAndGet();
+      return null;
+    }
+    hits.incrementAndGet();
+    return entry.value;
+  }
+
+  public synchronized void put(K key, V value, long entryWeight) {
+    if (entryWeight > maxWeight) {
+      return;
+    }
+    Entry<V> previous = entries.put(key, new Entry<>(value, entryWeight));
+    if (Objects.nonNull(previous)) {
+      weight -= previous.weight;
+    }
+    weight += entryWeight;
+
+    Iterator<Entry<V>> eldest = entries.values().iterator();
+    while (weight > maxWeight && eldest.hasNext()) {
+      weight -= eldest.next().weight;
+      eldest.remove();
+      evictions.incrementAndGet();
+    }
+  }
+
+  public synchronized void clear() {
+    entries.clear();
+    weight = 0;
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  public synchronized long weight() {
+    return weight;
+  }
+
+  public long maxWeight() {
+    return maxWeight;
+  }
+
+  public long hitCount() {
+    return hits.get();
+  }
+
+  public long missCount() {
+    return misses.get();
+  }
+
+  public long evictionCount() {
+    return evictions.get();
+  }
+
+  @Override public String toString() {
+    return "WeightedLruCache{" +
+        "size=" + size() +
+        ", weight=" + weight() +
+        ", maxWeight=" + maxWeight +
+        ", hits=" + hitCount() +
+        ", misses=" + missCount() +
+        ", evictions=" + evictionCount() +
+        '}';
+  }
+
+  private static class Entry<V> {
+    final V value;
+    final long weight;
+
+    Entry(V value, long weight) {
+      this.value = value;
+      this.weight = weight;
+    }
+  }
+}
@@ -0,0 +1,142 @@
+package com.amazonaws.examples.validation;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.services.medialive.model.AudioDescription;
+import software.amazon.awssdk.services.medialive.model.CaptionDescription;
+import software.amazon.awssdk.services.medialive.model.Channel;
+import software.amazon.awssdk.services.medialive.model.EncoderSettings;
+import software.amazon.awssdk.services.medialive.model.Output;
+import software.amazon.awssdk.services.medialive.model.OutputDestination;
+import software.amazon.awssdk.services.medialive.model.OutputGroup;
+import software.amazon.awssdk.services.medialive.model.OutputLocationRef;
+import software.amazon.awssdk.services.medialive.model.VideoDescription;
+
+/**
+ * Checks the name and id references inside a parsed channel before anything is provisioned for
+ * it. The referenced names and ids are indexed into hash sets first, then every reference is
+ * looked up once:
+ * <ul>
+ *   <li>{@code videoDescriptionName}, {@code audioDescriptionNames} and
+ *   {@code captionDescriptionNames} of each output against the encoder settings,</li>
+ *   <li>the {@code destinationRefId} of every {@link OutputLocationRef} in the output group and
+ *   output settings against the channel destinations.</li>
+ * </ul>
+ * Duplicate names and ids are reported as well. All errors are collected, not just the first.
+ */
+public class ChannelValidator {
+
+  /**
+   * @throws InvalidChannelException listing every broken reference of {@code channel}
+   */
+  public void check(Channel channel) {
+    List<String> errors = validate(channel);
+    if (!errors.isEmpty()) {
+      throw new InvalidChannelException(channel.name(), errors);
+    }
+  }
+
+  /**
+   * @return the broken references of {@code channel}, empty when it is valid
+   */
+  public List<String> validate(Channel channel) {
+    List<String> errors = new ArrayList<>();
+    Set<String> destinationIds =
+        index(channel.destinations(), OutputDestination::id, "destinations", "id", errors);
+
+    EncoderSettings encoderSettings = channel.encoderSettings();
+    if (Objects.isNull(encoderSettings)) {
+      return errors;
+    }
+    Set<String> videoNames = index(encoderSettings.videoDescriptions(), VideoDescription::name,
+        "encoderSettings.videoDescriptions", "name", errors);
+    Set<String> audioNames = index(encoderSettings.audioDescriptions(), AudioDescription::name,
+        "encoderSettings.audioDescriptions", "name", errors);
+    Set<String> captionNames = index(encoderSettings.captionDescriptions(),
+        CaptionDescription::name, "encoderSettings.captionDescriptions", "name", errors);
+
+    List<OutputGroup> outputGroups = encoderSettings.outputGroups();
+    for (int g = 0; g < outputGroups.size(); g++) {
+      OutputGroup outputGroup = outputGroups.get(g);
+      String groupPath = "encoderSettings.outputGroups[" + g + "]";
+      checkDestinations(outputGroup.outputGroupSettings(), groupPath + ".outputGroupSettings",
+          destinationIds, errors);
+
+      List<Output> outputs = outputGroup.outputs();
+      for (int o = 0; o < outputs.size(); o++) {
+        Output output = outputs.get(o);
+        String outputPath = groupPath + ".outputs[" + o + "]";
+        if (Objects.nonNull(output.videoDescriptionName())) {
+          checkReference(output.videoDescriptionName(), videoNames,
+              outputPath + ".videoDescriptionName", "encoderSettings.videoDescriptions", errors);
+        }
+        for (String name : output.audioDescriptionNames()) {
+          checkReference(name, audioNames, outputPath + ".audioDescriptionNames",
+              "encoderSettings.audioDescriptions", errors);
+        }
+        for (String name : output.captionDescriptionNames()) {
+          checkReference(name, captionNames, outputPath + ".captionDescriptionNames",
+              "encoderSettings.captionDescriptions", errors);
+        }
+        checkDestinations(output.outputSettings(), outputPath + ".outputSettings",
+            destinationIds, errors);
+      }
+    }
+    return errors;
+  }
+
+  private static <T> Set<String> index(List<T> values, Function<T, String> key, String path,
+      String keyName, List<String> errors) {
+    Set<String> keys = new HashSet<>();
+    for (T value : values) {
+      String k = key.apply(value);
+      if (Objects.nonNull(k) && !keys.add(k)) {
+        errors.add(path + " contains " + keyName + " '" + k + "' more than once");
+      }
+    }
+    return keys;
+  }
+
+  private static void checkReference(String name, Set<String> names, String path,
+      String target, List<String> errors) {
+    if (!names.contains(name)) {
+      errors.add(path + " '" + name + "' does not match any of " + target);
+    }
+  }
+
+  /**
+   * Walks the members of {@code value} through their {@link SdkField}s, so that every setting
+   * type holding an {@link OutputLocationRef} is covered.
+   */
+  private static void checkDestinations(Object value, String path, Set<String> destinationIds,
+      List<String> errors) {
+    if (value instanceof OutputLocationRef) {
+      String refId = ((OutputLocationRef) value).destinationRefId();
+      if (Objects.nonNull(refId) && !destinationIds.contains(refId)) {
+        errors.add(path + ".destinationRefId '" + refId + "' does not match any of destinations");
+      }
+    } else if (value instanceof SdkPojo) {
+      for (SdkField<?> field : ((SdkPojo) value).sdkFields()) {
+        checkDestinations(field.getValueOrDefault(value), path + "." + field.locationName(),
+            destinationIds, errors);
+      }
+    } else if (value instanceof List) {
+      List<?> values = (List<?>) value;
+      for (int i = 0; i < values.size(); i++) {
+        checkDestinations(values.get(i), path + "[" + i + "]", destinationIds, errors);
+      }
+    } else if (value instanceof Map) {
+      for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+        checkDestinations(entry.getValue(), path + "." + entry.getKey(), destinationIds, errors);
+      }
+    }
+  }
+}
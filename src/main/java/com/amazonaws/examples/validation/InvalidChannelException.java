@@ -0,0 +1,26 @@
+package com.amazonaws.examples.validation;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Thrown when a channel template contains references that MediaLive would reject.
+ */
+public class InvalidChannelException extends IllegalArgumentException {
+  private static final long serialVersionUID = 1L;
+
+  private final List<String> errors;
+
+  public InvalidChannelException(String channelName, List<String> errors) {
+    super("Channel '" + channelName + "' has " + errors.size() + " invalid reference(s):\n  "
+        + String.join("\n  ", errors));
+    this.errors = Collections.unmodifiableList(errors);
+  }
+
+  /**
+   * @return every error found, in document order
+   */
+  public List<String> getErrors() {
+    return errors;
+  }
+}
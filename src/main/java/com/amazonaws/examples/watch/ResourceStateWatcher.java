@@ -0,0 +1,220 @@
+package com.amazonaws.examples.watch;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import com.amazonaws.examples.utils.LatencyHistogram;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import software.amazon.awssdk.services.medialive.MediaLiveClient;
+import software.amazon.awssdk.services.medialive.model.ChannelState;
+import software.amazon.awssdk.services.medialive.model.ChannelSummary;
+import software.amazon.awssdk.services.medialive.model.Input;
+import software.amazon.awssdk.services.medialive.model.InputState;
+import software.amazon.awssdk.services.medialive.model.ListChannelsRequest;
+import software.amazon.awssdk.services.medialive.model.ListChannelsResponse;
+import software.amazon.awssdk.services.medialive.model.ListInputsRequest;
+import software.amazon.awssdk.services.medialive.model.ListInputsResponse;
+
+/**
+ * Waits for many channels and inputs to reach a state without a thread per resource. A single
+ * scheduler thread polls every {@code pollInterval}; each poll pages through
+ * {@code ListChannels} and {@code ListInputs} only while watched resources are still missing
+ * from the pages read so far, instead of describing each resource.
+ *
+ * <p>A resource no longer listed counts as {@code DELETED} once an earlier poll has listed it, or
+ * right away if {@code DELETED} is a target state; until then it is assumed to be created but
+ * not listed yet, as list calls are eventually consistent. A watch whose resource ends up in
+ * {@code DELETED} or {@code CREATE_FAILED} without that being a target state completes
+ * exceptionally with an {@link IllegalStateException}. The time from a watch's first observed
+ * state to its target state is recorded per transition, e.g. {@code channel CREATING->IDLE}.
+ */
+public class ResourceStateWatcher implements AutoCloseable {
+  private final Logger logger = LoggerFactory.getLogger(getClass());
+  private final MediaLiveClient emlClient;
+  private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+      runnable -> {
+        Thread thread = new Thread(runnable, "resource-state-watcher");
+        thread.setDaemon(true);
+        return thread;
+      });
+  private final Queue<Watch<ChannelState>> channelWatches = new ConcurrentLinkedQueue<>();
+  private final Queue<Watch<InputState>> inputWatches = new ConcurrentLinkedQueue<>();
+  private final ConcurrentMap<String, LatencyHistogram> transitions = new ConcurrentHashMap<>();
+
+  public ResourceStateWatcher(MediaLiveClient emlClient, Duration pollInterval) {
+    this.emlClient = emlClient;
+    long interval = pollInterval.toMillis();
+    scheduler.scheduleWithFixedDelay(this::poll, interval, interval, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * @return completes with the first observed state of {@code channelId} that is one of
+   *     {@code targets}; cancelling it stops the watch
+   */
+  public CompletableFuture<ChannelState> watchChannel(String channelId, ChannelState... targets) {
+    Watch<ChannelState> watch = new Watch<>(channelId, EnumSet.copyOf(Arrays.asList(targets)));
+    channelWatches.add(watch);
+    return watch.future;
+  }
+
+  /**
+   * @return completes with the first observed state of {@code inputId} that is one of
+   *     {@code targets}; cancelling it stops the watch
+   */
+  public CompletableFuture<InputState> watchInput(String inputId, InputState... targets) {
+    Watch<InputState> watch = new Watch<>(inputId, EnumSet.copyOf(Arrays.asList(targets)));
+    inputWatches.add(watch);
+    return watch.future;
+  }
+
+  /**
+   * @return histograms of the observed transitions by name, e.g. {@code channel DELETING->DELETED}
+   */
+  public Map<String, LatencyHistogram> getTransitions() {
+    return Collections.unmodifiableMap(new TreeMap<>(transitions));
+  }
+
+  /**
+   * @return watches not completed yet
+   */
+  public int getPending() {
+    return channelWatches.size() + inputWatches.size();
+  }
+
+  void poll() {
+    try {
+      channelWatches.removeIf(watch -> watch.future.isDone());
+      if (!channelWatches.isEmpty()) {
+        update("channel", channelWatches, listChannelStates(ids(channelWatches)),
+            ChannelState.DELETED, EnumSet.of(ChannelState.DELETED, ChannelState.CREATE_FAILED));
+      }
+      inputWatches.removeIf(watch -> watch.future.isDone());
+      if (!inputWatches.isEmpty()) {
+        update("input", inputWatches, listInputStates(ids(inputWatches)),
+            InputState.DELETED, EnumSet.of(InputState.DELETED));
+      }
+    } catch (RuntimeException e) {
+      // keep the schedule alive; the next poll retries
+      logger.warn("Polling resource states failed", e);
+    }
+  }
+
+  private <S extends Enum<S>> void update(String kind, Queue<Watch<S>> watches,
+      Map<String, S> states, S absent, Set<S> terminal) {
+    for (Watch<S> watch : watches) {
+      S state = states.get(watch.id);
+      if (Objects.nonNull(state)) {
+        watch.listed = true;
+      } else if (watch.listed || watch.targets.contains(absent)) {
+        state = absent;
+      } else {
+        continue;
+      }
+      if (Objects.isNull(watch.initial)) {
+        watch.initial = state;
+      }
+      if (watch.targets.contains(state)) {
+        String transition = kind + " " + watch.initial + "->" + state;
+        long elapsed = System.nanoTime() - watch.startNanos;
+        transitions.computeIfAbsent(transition, key -> new LatencyHistogram())
+            .record(elapsed, TimeUnit.NANOSECONDS);
+        logger.debug("{} {} reached {} after {} ms", kind, watch.id, state,
+            TimeUnit.NANOSECONDS.toMillis(elapsed));
+        watch.future.complete(state);
+      } else if (terminal.contains(state)) {
+        watch.future.completeExceptionally(new IllegalStateException(
+            kind + " " + watch.id + " is " + state + ", expected one of " + watch.targets));
+      }
+    }
+    watches.removeIf(watch -> watch.future.isDone());
+  }
+
+  /**
+   * Pages through the channels until every id in {@code ids} has been seen.
+   */
+  private Map<String, ChannelState> listChannelStates(Set<String> ids) {
+    Map<String, ChannelState> states = new HashMap<>();
+    ListChannelsRequest.Builder requestBuilder = ListChannelsRequest.builder();
+    String nextToken;
+    do {
+      ListChannelsResponse response = emlClient.listChannels(requestBuilder.build());
+      for (ChannelSummary channel : response.channels()) {
+        states.put(channel.id(), channel.state());
+      }
+      nextToken = response.nextToken();
+      requestBuilder.nextToken(nextToken);
+    } while (Objects.nonNull(nextToken) && !states.keySet().containsAll(ids));
+    return states;
+  }
+
+  /**
+   * Pages through the inputs until every id in {@code ids} has been seen.
+   */
+  private Map<String, InputState> listInputStates(Set<String> ids) {
+    Map<String, InputState> states = new HashMap<>();
+    ListInputsRequest.Builder requestBuilder = ListInputsRequest.builder();
+    String nextToken;
+    do {
+      ListInputsResponse response = emlClient.listInputs(requestBuilder.build());
+      for (Input input : response.inputs()) {
+        states.put(input.id(), input.state());
+      }
+      nextToken = response.nextToken();
+      requestBuilder.nextToken(nextToken);
+    } while (Objects.nonNull(nextToken) && !states.keySet().containsAll(ids));
+    return states;
+  }
+
+  private static Set<String> ids(Queue<? extends Watch<?>> watches) {
+    Set<String> ids = new HashSet<>();
+    for (Watch<?> watch : watches) {
+      ids.add(watch.id);
+    }
+    return ids;
+  }
+
+  /**
+   * Stops polling; pending watches complete exceptionally.
+   */
+  @Override public void close() {
+    scheduler.shutdownNow();
+    IllegalStateException closed = new IllegalStateException("Watcher closed");
+    channelWatches.forEach(watch -> watch.future.completeExceptionally(closed));
+    inputWatches.forEach(watch -> watch.future.completeExceptionally(closed));
+  }
+
+  private static final class Watch<S extends Enum<S>> {
+    private final String id;
+    private final Set<S> targets;
+    private final CompletableFuture<S> future = new CompletableFuture<>();
+    private final long startNanos = System.nanoTime();
+    /** First state seen by a poll; only accessed by the scheduler thread. */
+    private S initial;
+    /** Whether a poll has listed the resource; only accessed by the scheduler thread. */
+    private boolean listed;
+
+    private Watch(String id, Set<S> targets) {
+      this.id = id;
+      this.targets = targets;
+    }
+  }
+}
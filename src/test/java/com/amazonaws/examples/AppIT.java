@@ -4,14 +4,18 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 import java.io.InputStream;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
+import com.amazonaws.examples.inventory.MediaLiveInventory;
 import com.amazonaws.examples.utils.ResourceUtils;
+import com.amazonaws.examples.watch.ResourceStateWatcher;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
@@ -22,68 +26,45 @@ import software.amazon.awssdk.services.medialive.MediaLiveClient;
 import software.amazon.awssdk.services.medialive.model.ChannelState;
 import software.amazon.awssdk.services.medialive.model.ChannelSummary;
 import software.amazon.awssdk.services.medialive.model.DeleteChannelRequest;
-import software.amazon.awssdk.services.medialive.model.DeleteChannelResponse;
 import software.amazon.awssdk.services.medialive.model.DeleteInputRequest;
 import software.amazon.awssdk.services.medialive.model.DeleteInputSecurityGroupRequest;
-import software.amazon.awssdk.services.medialive.model.DescribeChannelRequest;
-import software.amazon.awssdk.services.medialive.model.DescribeChannelResponse;
-import software.amazon.awssdk.services.medialive.model.DescribeInputRequest;
-import software.amazon.awssdk.services.medialive.model.DescribeInputResponse;
 import software.amazon.awssdk.services.medialive.model.InputAttachment;
 import software.amazon.awssdk.services.medialive.model.InputSecurityGroup;
 import software.amazon.awssdk.services.medialive.model.InputState;
-import software.amazon.awssdk.services.medialive.model.ListChannelsRequest;
-import software.amazon.awssdk.services.medialive.model.ListChannelsResponse;
-import software.amazon.awssdk.services.medialive.model.ListInputSecurityGroupsRequest;
-import software.amazon.awssdk.services.medialive.model.ListInputSecurityGroupsResponse;
 
 public class AppIT {
 
     private static final String CHANNEL_NAME = "MyEML_Channel_1";
+    private static final long WAIT_TIMEOUT_MINUTES = 10;
 
     private Logger logger = LoggerFactory.getLogger(getClass());
     private MediaLiveClient emlClient = DependencyFactory.mediaLiveClient();
+    private ResourceStateWatcher watcher = new ResourceStateWatcher(emlClient, Duration.ofSeconds(5));
 
     @AfterEach
     public void teardown() throws Exception {
-        logger.debug("Listing all channels...");
-        ListChannelsRequest.Builder listChannelsRequestBuilder = ListChannelsRequest.builder();
-        ListChannelsResponse listChannelsResponse = emlClient.listChannels(listChannelsRequestBuilder.build());
-        List<ChannelSummary> channelsToDelete = new ArrayList<>();
-        String nextToken = null;
-        Set<String> inputIds = new HashSet<>();
-
+        MediaLiveInventory inventory = new MediaLiveInventory(emlClient, Duration.ofMinutes(5));
         logger.debug("Collecting channels matching name: {}", CHANNEL_NAME);
-        for (;;) {
-            for (ChannelSummary channelSummary : listChannelsResponse.channels()) {
-                if (CHANNEL_NAME.equals(channelSummary.name())) {
-                    String channelId = channelSummary.id();
-                    logger.debug("Found channel id: {}", channelId);
-                    
-                    for (InputAttachment inputAttachment : channelSummary.inputAttachments()) {
-                        inputIds.add(inputAttachment.inputId());
-                    }
-                    
-                    waitTillChannelIsCreated(channelSummary);
-                    
-                    logger.debug("Adding channel id: {}", channelId);
-                    channelsToDelete.add(channelSummary);
-                }
-            }
-            nextToken = listChannelsResponse.nextToken();
-            if (Objects.nonNull(nextToken)) {
-                listChannelsRequestBuilder.nextToken(nextToken);
-                listChannelsResponse = emlClient.listChannels(listChannelsRequestBuilder.build());
-                continue;
+        List<ChannelSummary> channelsToDelete = inventory.channelsByName(CHANNEL_NAME);
+        Set<String> inputIds = new HashSet<>();
+        for (ChannelSummary channelSummary : channelsToDelete) {
+            logger.debug("Found channel id: {}", channelSummary.id());
+            for (InputAttachment inputAttachment : channelSummary.inputAttachments()) {
+                inputIds.add(inputAttachment.inputId());
             }
-            break;
         }
 
-        List<InputSecurityGroup> inputSecurityGroupsToDelete = collectInputSecurityGroupsToDelete(inputIds);
+        waitTillChannelsAreCreated(channelsToDelete);
+
+        List<InputSecurityGroup> inputSecurityGroupsToDelete = collectInputSecurityGroupsToDelete(inventory, inputIds);
 
         deleteChannelsAndAttachedInputs(channelsToDelete);
 
         deleteInputSecurityGroups(inputSecurityGroupsToDelete);
+
+        logger.debug("Observed transitions: {}", watcher.getTransitions());
+        watcher.close();
+        inventory.close();
     }
 
     @Test
@@ -98,17 +79,13 @@ public class AppIT {
         assertNotNull(response.get("state"), "Channel state should be available.");
     }
 
-    private void waitTillChannelIsCreated(ChannelSummary channelSummary) throws InterruptedException {
-        String channelId = channelSummary.id();
-        DescribeChannelRequest.Builder describeChannelRequestBuilder = DescribeChannelRequest.builder().channelId(channelId);
-        for (ChannelState channelState = channelSummary.state(); channelState == ChannelState.CREATING;) {
-            logger.debug("Channel creation is in progress...");
-            logger.debug("Waiting for 5 seconds for channel creation to complete...");
-            Thread.sleep(5000);
-            logger.debug("Describing channel id: {}", channelId);
-            DescribeChannelResponse describeChannelResponse = emlClient.describeChannel(describeChannelRequestBuilder.build());
-            channelState = describeChannelResponse.state();
-        }
+    private void waitTillChannelsAreCreated(List<ChannelSummary> channels) throws Exception {
+        logger.debug("Waiting for channel creation to complete...");
+        CompletableFuture.allOf(channels.stream()
+            .filter(channel -> channel.state() == ChannelState.CREATING)
+            .map(channel -> watcher.watchChannel(channel.id(), ChannelState.IDLE, ChannelState.CREATE_FAILED))
+            .toArray(CompletableFuture[]::new))
+            .get(WAIT_TIMEOUT_MINUTES, TimeUnit.MINUTES);
     }
 
     private void deleteInputSecurityGroups(List<InputSecurityGroup> inputSecurityGroupsToDelete) {
@@ -123,82 +100,40 @@ public class AppIT {
         }
     }
 
-    private void deleteChannelsAndAttachedInputs(List<ChannelSummary> channelsToDelete) throws InterruptedException {
+    private void deleteChannelsAndAttachedInputs(List<ChannelSummary> channelsToDelete) throws Exception {
         logger.debug("Deleting channels...");
+        List<CompletableFuture<ChannelState>> deletedChannels = new ArrayList<>();
         for (ChannelSummary channel : channelsToDelete) {
             String channelId = channel.id();
             logger.debug("Deleting channel id: {}", channelId);
-            DeleteChannelRequest.Builder deleteChannelRequestBuilder = DeleteChannelRequest
-                .builder()
-                .channelId(channelId);
-            DeleteChannelResponse deleteChannelResponse = emlClient.deleteChannel(deleteChannelRequestBuilder.build());
-
-            waitTillChannelIsDeleted(channelId, deleteChannelResponse);
-
-            logger.debug("Deleted channel id: {}", channelId);
+            emlClient.deleteChannel(DeleteChannelRequest.builder().channelId(channelId).build());
+            deletedChannels.add(watcher.watchChannel(channelId, ChannelState.DELETED));
+        }
+        CompletableFuture.allOf(deletedChannels.toArray(new CompletableFuture[0]))
+            .get(WAIT_TIMEOUT_MINUTES, TimeUnit.MINUTES);
+        logger.debug("Deleted channels: {}", deletedChannels.size());
 
-            List<InputAttachment> inputAttachments = channel.inputAttachments();
-            for (InputAttachment inputAttachment : inputAttachments) {
+        List<CompletableFuture<InputState>> deletedInputs = new ArrayList<>();
+        for (ChannelSummary channel : channelsToDelete) {
+            for (InputAttachment inputAttachment : channel.inputAttachments()) {
                 String inputId = inputAttachment.inputId();
-                DeleteInputRequest deleteInputRequest = DeleteInputRequest.builder().inputId(inputId).build();
-                emlClient.deleteInput(deleteInputRequest);
-
-                waitTillInputIsDeleted(inputId);
-
-                logger.debug("Deleted input id: {}", inputId);
+                emlClient.deleteInput(DeleteInputRequest.builder().inputId(inputId).build());
+                deletedInputs.add(watcher.watchInput(inputId, InputState.DELETED));
             }
         }
+        CompletableFuture.allOf(deletedInputs.toArray(new CompletableFuture[0]))
+            .get(WAIT_TIMEOUT_MINUTES, TimeUnit.MINUTES);
+        logger.debug("Deleted inputs: {}", deletedInputs.size());
     }
 
-    private void waitTillInputIsDeleted(String inputId) throws InterruptedException {
-        DescribeInputRequest describeInputRequest = DescribeInputRequest.builder().inputId(inputId).build();
-        DescribeInputResponse describeInputResponse = emlClient.describeInput(describeInputRequest);
-        InputState inputState = describeInputResponse.state();
-        logger.debug("Input id: {}, state: {}", inputId, inputState);
-        for (; inputState == InputState.DELETING;) {
-            logger.debug("Input deletion is in progress...");
-            logger.debug("Waiting for 5 seconds for input deletion to complete...");
-            Thread.sleep(5000);
-            logger.debug("Describing input id: {}", inputId);
-            describeInputResponse = emlClient.describeInput(describeInputRequest);
-            inputState = describeInputResponse.state();
-        }
-    }
-
-    private void waitTillChannelIsDeleted(String channelId, DeleteChannelResponse deleteChannelResponse) throws InterruptedException {
-        ChannelState channelState = deleteChannelResponse.state();
-        logger.debug("Channel id: {}, state: {}", channelId, channelState);
-        DescribeChannelRequest.Builder describeChannelRequestBuilder = DescribeChannelRequest.builder();
-        for (; channelState == ChannelState.DELETING;) {
-            logger.debug("Channel deletion is in progress...");
-            logger.debug("Waiting for 5 seconds for channel deletion to complete...");
-            Thread.sleep(5000);
-            logger.debug("Describing channel id: {}", channelId);
-            describeChannelRequestBuilder.channelId(channelId);
-            DescribeChannelResponse describeChannelResponse = emlClient.describeChannel(describeChannelRequestBuilder.build());
-            channelState = describeChannelResponse.state();
-        }
-    }
-
-    private List<InputSecurityGroup> collectInputSecurityGroupsToDelete(Set<String> inputIds) {
+    private List<InputSecurityGroup> collectInputSecurityGroupsToDelete(MediaLiveInventory inventory, Set<String> inputIds) {
         logger.debug("Collecting input security groups to delete...");
-        ListInputSecurityGroupsRequest.Builder listInputSecurityGroupsRequestBuilder = ListInputSecurityGroupsRequest.builder();
-        ListInputSecurityGroupsResponse listInputSecurityGroupsResponse = emlClient.listInputSecurityGroups(listInputSecurityGroupsRequestBuilder.build());
         List<InputSecurityGroup> inputSecurityGroupsToDelete = new ArrayList<>();
-        for (;;) {
-            for (InputSecurityGroup inputSecurityGroup : listInputSecurityGroupsResponse.inputSecurityGroups()) {
-                Set<String> inputSecurityGroupInputs = new HashSet<>(inputSecurityGroup.inputs());
-                if (inputIds.containsAll(inputSecurityGroupInputs)) {
-                    inputSecurityGroupsToDelete.add(inputSecurityGroup);
-                }
-            }
-            String nextToken = listInputSecurityGroupsResponse.nextToken();
-            if (Objects.nonNull(nextToken)) {
-                listInputSecurityGroupsRequestBuilder.nextToken(nextToken);
-                listInputSecurityGroupsResponse = emlClient.listInputSecurityGroups(listInputSecurityGroupsRequestBuilder.build());
-                continue;
+        for (InputSecurityGroup inputSecurityGroup : inventory.securityGroups()) {
+            Set<String> inputSecurityGroupInputs = new HashSet<>(inputSecurityGroup.inputs());
+            if (inputIds.containsAll(inputSecurityGroupInputs)) {
+                inputSecurityGroupsToDelete.add(inputSecurityGroup);
             }
-            break;
         }
         return inputSecurityGroupsToDelete;
     }
@@ -0,0 +1,200 @@
+package com.amazonaws.examples;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import com.amazonaws.examples.iam.LocalIamClient;
+import com.amazonaws.examples.throttle.AimdRateLimiter;
+import com.amazonaws.examples.throttle.RateLimitingInterceptor;
+import com.amazonaws.examples.validation.InvalidChannelException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.iam.IamAsyncClient;
+import software.amazon.awssdk.services.iam.model.GetRoleRequest;
+import software.amazon.awssdk.services.iam.model.GetRoleResponse;
+import software.amazon.awssdk.services.iam.model.IamException;
+import software.amazon.awssdk.services.iam.model.Role;
+import software.amazon.awssdk.services.medialive.model.Channel;
+import software.amazon.awssdk.services.medialive.model.CreateChannelRequest;
+import software.amazon.awssdk.services.medialive.model.CreateInputRequest;
+import software.amazon.awssdk.services.medialive.model.MediaLiveException;
+import software.amazon.awssdk.services.medialive.model.OutputDestination;
+
+class AsyncElementalMediaLiveProcessorTest {
+  private static final String ROLE_ARN = "arn:aws:iam::123456789012:role/MediaLiveAccessRole";
+
+  private final CompletableFuture<Void> securityGroupRequested = new CompletableFuture<>();
+  private final AtomicInteger iamCalls = new AtomicInteger();
+  private final LocalMediaLiveClient emlClient = new LocalMediaLiveClient();
+
+  /** Answers only once the security group was requested, which requires both to overlap. */
+  private final IamAsyncClient iamClient = new IamAsyncClient() {
+    @Override public CompletableFuture<GetRoleResponse> getRole(GetRoleRequest request) {
+      iamCalls.incrementAndGet();
+      return securityGroupRequested.thenApply(ignored -> GetRoleResponse.builder()
+          .role(Role.builder().roleName(request.roleName()).arn(ROLE_ARN).build())
+          .build());
+    }
+
+    @Override public String serviceName() {
+      return "iam";
+    }
+
+    @Override public void close() {
+    }
+  };
+
+  private final AsyncElementalMediaLiveProcessor processor =
+      new AsyncElementalMediaLiveProcessor(emlClient.async(), iamClient);
+
+  @BeforeEach
+  public void setup() {
+    emlClient.onCreateInputSecurityGroup(() -> securityGroupRequested.complete(null));
+  }
+
+  @Test
+  public void createChannel_shouldResolveRoleAndInputConcurrently() throws Exception {
+    Channel channel = processor.createChannel(Channel.builder().name("ch").build())
+        .get(5, TimeUnit.SECONDS);
+
+    assertEquals("ch", channel.name());
+    assertEquals(ROLE_ARN, channel.roleArn());
+    assertTrue(channel.inputAttachments().get(0).inputId().startsWith("input-"));
+    assertEquals(1, emlClient.getCreateInputRequests().size());
+    assertEquals(1, emlClient.getCreateInputSecurityGroupRequests().size());
+    assertEquals(1, emlClient.getCreateChannelRequests().size());
+    assertEquals(1, iamCalls.get());
+  }
+
+  @Test
+  public void createChannel_shouldSendTheSameKeyedRequestIdsOnRetry() throws Exception {
+    Channel channel = Channel.builder().name("ch").build();
+
+    processor.createChannel(channel, "req-1").get(5, TimeUnit.SECONDS);
+    processor.createChannel(channel, "req-1").get(5, TimeUnit.SECONDS);
+
+    List<CreateChannelRequest> channels = emlClient.getCreateChannelRequests();
+    List<CreateInputRequest> inputs = emlClient.getCreateInputRequests();
+    assertTrue(channels.get(0).requestId()
+        .startsWith(ElementalMediaLiveProcessor.REQUEST_ID_PREFIX));
+    assertEquals(channels.get(0).requestId(), channels.get(1).requestId());
+    assertEquals(inputs.get(0).requestId(), inputs.get(1).requestId());
+    assertNotEquals(channels.get(0).requestId(), inputs.get(0).requestId());
+  }
+
+  @Test
+  public void createChannel_shouldWaitForANewRoleAndRetryItsRejection() throws Exception {
+    LocalIamClient iam = new LocalIamClient(Duration.ofMillis(200));
+    AtomicInteger rejections = new AtomicInteger();
+    emlClient.setCreateChannelFailure(request -> rejections.incrementAndGet() <= 2
+        ? MediaLiveException.builder().message("Role cannot be assumed").statusCode(403).build()
+        : null);
+    AsyncElementalMediaLiveProcessor processor =
+        new AsyncElementalMediaLiveProcessor(emlClient.async(), iam.async());
+
+    long start = System.nanoTime();
+    Channel channel = processor.createChannel(Channel.builder().name("ch").build())
+        .get(20, TimeUnit.SECONDS);
+
+    assertTrue(channel.roleArn().endsWith(ElementalMediaLiveProcessor.MEDIA_LIVE_ACCESS_ROLE));
+    assertEquals(3, emlClient.getCreateChannelRequests().size());
+    assertTrue(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start) < 15);
+  }
+
+  @Test
+  public void createChannel_shouldResolveTheDefaultsForEveryChannel() throws Exception {
+    processor.createChannel(Channel.builder().name("ch-1").build()).get(5, TimeUnit.SECONDS);
+    processor.createChannel(Channel.builder().name("ch-2").build()).get(5, TimeUnit.SECONDS);
+
+    assertEquals(2, iamCalls.get());
+    assertEquals(2, emlClient.getCreateInputSecurityGroupRequests().size());
+    assertEquals(2, emlClient.getCreateInputRequests().size());
+  }
+
+  @Test
+  public void getOrCreateRole_shouldSlowDownTheLimiterItWaitsFor() {
+    IamAsyncClient throttledIam = IamAsyncClient.builder()
+        .credentialsProvider(StaticCredentialsProvider.create(
+            AwsBasicCredentials.create("AKIDEXAMPLE", "secret")))
+        .overrideConfiguration(DependencyFactory
+            .overrideConfiguration(RateLimitingInterceptor.sharedAsync()).toBuilder()
+            .retryPolicy(RetryPolicy.none())
+            .build())
+        .region(Region.AWS_GLOBAL)
+        .httpClient(new ThrottlingHttpClient())
+        .build();
+    String key = RateLimitingInterceptor.key(RateLimitingInterceptor.IAM, "GetRole");
+    AimdRateLimiter limiter = RateLimitingInterceptor.sharedAsync().limiter(key);
+    long throttleEvents = limiter.getThrottleEvents();
+
+    ExecutionException e = assertThrows(ExecutionException.class,
+        () -> new AsyncElementalMediaLiveProcessor(emlClient.async(), throttledIam)
+            .getOrCreateRole("role").get(5, TimeUnit.SECONDS));
+
+    assertTrue(e.getCause() instanceof IamException, String.valueOf(e.getCause()));
+    assertEquals(throttleEvents + 1, limiter.getThrottleEvents());
+    assertEquals(Collections.singletonList(key),
+        RateLimitingInterceptor.sharedAsync().metrics().keySet().stream()
+            .filter(name -> name.equalsIgnoreCase(key))
+            .collect(Collectors.toList()));
+  }
+
+  @Test
+  public void createChannel_shouldFailBeforeAnyCallForBrokenReferences() {
+    Channel channel = Channel.builder()
+        .name("ch")
+        .destinations(OutputDestination.builder().id("a").build(),
+            OutputDestination.builder().id("a").build())
+        .build();
+
+    ExecutionException e = assertThrows(ExecutionException.class,
+        () -> processor.createChannel(channel).get(5, TimeUnit.SECONDS));
+
+    assertTrue(e.getCause() instanceof InvalidChannelException);
+    assertTrue(emlClient.getCreateInputSecurityGroupRequests().isEmpty());
+    assertTrue(emlClient.getCreateChannelRequests().isEmpty());
+    assertEquals(0, iamCalls.get());
+  }
+
+  /** Answers every request the way IAM answers while it throttles the account. */
+  private static final class ThrottlingHttpClient implements SdkAsyncHttpClient {
+    private static final byte[] THROTTLING = ("<ErrorResponse><Error><Type>Sender</Type>"
+        + "<Code>Throttling</Code><Message>Rate exceeded</Message></Error></ErrorResponse>")
+        .getBytes(StandardCharsets.UTF_8);
+
+    @Override public CompletableFuture<Void> execute(AsyncExecuteRequest request) {
+      request.responseHandler().onHeaders(SdkHttpResponse.builder()
+          .statusCode(400)
+          .putHeader("Content-Type", "text/xml")
+          .putHeader("Content-Length", String.valueOf(THROTTLING.length))
+          .build());
+      request.responseHandler().onStream(AsyncRequestBody.fromBytes(THROTTLING));
+      return CompletableFuture.completedFuture(null);
+    }
+
+    @Override public void close() {
+    }
+  }
+}
@@ -0,0 +1,69 @@
+package com.amazonaws.examples;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.amazonaws.examples.iam.LocalIamClient;
+import com.amazonaws.examples.idempotency.RequestJournal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import software.amazon.awssdk.services.medialive.model.Channel;
+import software.amazon.awssdk.services.medialive.model.MediaLiveException;
+
+/**
+ * Creates a tournament-sized batch against a local MediaLive stub that answers each
+ * {@code CreateChannel} after {@link #LATENCY_MILLIS}.
+ */
+class ChannelBatchLoadTest {
+  private static final int CHANNELS = 200;
+  private static final int CONCURRENCY = 20;
+  private static final long LATENCY_MILLIS = 20;
+
+  private final LocalMediaLiveClient emlClient = new LocalMediaLiveClient();
+  private final LocalIamClient iamClient = new LocalIamClient(Duration.ZERO);
+
+  @Test
+  public void createChannels_shouldBoundConcurrencyAndKeepGoingOnFailures(@TempDir Path dir) {
+    List<Channel> channels = new ArrayList<>();
+    for (int i = 1; i <= CHANNELS; i++) {
+      channels.add(Channel.builder().name("match_" + i).build());
+    }
+    String roleArn = iamClient.createRole(builder ->
+        builder.roleName(ElementalMediaLiveProcessor.MEDIA_LIVE_ACCESS_ROLE)).role().arn();
+    emlClient.setCreateChannelLatency(Duration.ofMillis(LATENCY_MILLIS));
+    emlClient.setCreateChannelFailure(request -> request.name().endsWith("0")
+        ? MediaLiveException.builder().message("Limit exceeded").statusCode(429).build()
+        : null);
+    ElementalMediaLiveProcessor processor = new ElementalMediaLiveProcessor(emlClient, iamClient,
+        new RequestJournal(dir.resolve("journal.properties"), Duration.ofHours(1)));
+
+    ChannelBatchResult result = processor.createChannels(channels, CONCURRENCY);
+
+    assertEquals(CHANNELS, result.getEntries().size());
+    assertEquals(CHANNELS / 10, result.getFailed());
+    for (int i = 0; i < CHANNELS; i++) {
+      ChannelBatchResult.Entry entry = result.getEntries().get(i);
+      assertEquals("match_" + (i + 1), entry.getName());
+      assertEquals(!entry.getName().endsWith("0"), entry.isSuccess());
+      if (entry.isSuccess()) {
+        assertEquals(roleArn, entry.getChannel().roleArn());
+      }
+      assertTrue(entry.getLatency(TimeUnit.MILLISECONDS) >= LATENCY_MILLIS);
+    }
+    assertEquals(1, iamClient.getReads());
+    assertEquals(1, emlClient.getCreateInputSecurityGroupRequests().size());
+    int maxInFlight = emlClient.getMaxConcurrentCreateChannels();
+    assertTrue(maxInFlight <= CONCURRENCY, "in flight: " + maxInFlight);
+    assertTrue(maxInFlight > 1, "in flight: " + maxInFlight);
+    assertTrue(result.summary().startsWith("200 channel(s): 180 created, 20 failed"),
+        result.summary());
+  }
+}
@@ -0,0 +1,87 @@
+package com.amazonaws.examples;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+
+import com.amazonaws.examples.iam.LocalIamClient;
+import com.amazonaws.examples.utils.ResourceUtils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import software.amazon.awssdk.services.medialive.model.Channel;
+
+/**
+ * Reads the bundled template through the {@link ByteBuffer} and {@link Path} overloads of
+ * {@link ElementalMediaLiveProcessor#parseChannel} and compares them with the array overload of
+ * a separate processor, so the template cache cannot hide a wrong read.
+ */
+class ChannelTemplateParseTest {
+  private final ElementalMediaLiveProcessor processor = processor();
+  private byte[] template;
+  private Channel expected;
+
+  @BeforeEach
+  public void setUp() throws IOException {
+    try (InputStream in = ResourceUtils.getInstance()
+        .getInputStream(ElementalMediaLiveProcessor.PRIMING_TEMPLATE)) {
+      template = ResourceUtils.getInstance().readBytes(in);
+    }
+    expected = processor().parseChannel(template);
+  }
+
+  @Test
+  public void parseChannel_shouldReadDirectBuffersWithoutMovingThem() throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocateDirect(template.length + 16);
+    buffer.put(new byte[16]).put(template);
+    buffer.position(16);
+
+    Channel channel = processor.parseChannel(buffer);
+
+    assertEquals(expected, channel);
+    assertEquals(16, buffer.position());
+    assertEquals(template.length + 16, buffer.limit());
+    assertSame(channel, processor.parseChannel(template));
+  }
+
+  @Test
+  public void parseChannel_shouldMemoryMapLargeTemplateFiles(@TempDir Path dir)
+      throws IOException {
+    byte[] padded = Arrays.copyOf(template,
+        (int) ElementalMediaLiveProcessor.MEMORY_MAP_THRESHOLD_BYTES + 1);
+    Arrays.fill(padded, template.length, padded.length, (byte) ' ');
+    Path file = Files.write(dir.resolve("large.json"), padded);
+    assertTrue(Files.size(file) >= ElementalMediaLiveProcessor.MEMORY_MAP_THRESHOLD_BYTES);
+
+    Channel channel = processor.parseChannel(file);
+
+    assertEquals(expected, channel);
+    assertSame(channel, processor.parseChannel(padded));
+  }
+
+  @Test
+  public void parseChannel_shouldReadSmallTemplateFilesOntoTheHeap(@TempDir Path dir)
+      throws IOException {
+    Path file = Files.write(dir.resolve("small.json"), template);
+
+    Channel channel = processor.parseChannel(file);
+
+    assertEquals(expected, channel);
+    assertSame(channel, processor.parseChannel(template));
+  }
+
+  private static ElementalMediaLiveProcessor processor() {
+    return new ElementalMediaLiveProcessor(
+        new LocalMediaLiveClient(), new LocalIamClient(Duration.ZERO));
+  }
+}
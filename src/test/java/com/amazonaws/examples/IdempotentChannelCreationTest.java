@@ -0,0 +1,114 @@
+package com.amazonaws.examples;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import com.amazonaws.examples.iam.LocalIamClient;
+import com.amazonaws.examples.idempotency.RequestJournal;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import software.amazon.awssdk.services.medialive.model.Channel;
+import software.amazon.awssdk.services.medialive.model.CreateChannelRequest;
+import software.amazon.awssdk.services.medialive.model.CreateInputRequest;
+
+class IdempotentChannelCreationTest {
+  private final LocalMediaLiveClient emlClient = new LocalMediaLiveClient();
+  private final LocalIamClient iamClient = new LocalIamClient(Duration.ZERO);
+  private ElementalMediaLiveProcessor processor;
+
+  @BeforeEach
+  public void setup(@TempDir Path dir) {
+    iamClient.createRole(builder ->
+        builder.roleName(ElementalMediaLiveProcessor.MEDIA_LIVE_ACCESS_ROLE));
+    processor = new ElementalMediaLiveProcessor(emlClient, iamClient,
+        new RequestJournal(dir.resolve("journal.properties"), Duration.ofHours(1)));
+  }
+
+  @Test
+  public void createChannel_shouldReturnTheJournaledChannelOnRetry() {
+    String key = UUID.randomUUID().toString();
+    Channel channel = Channel.builder().name("match_1").build();
+
+    Channel created = processor.createChannel(channel, deadline(), key);
+    Channel retried = processor.createChannel(channel, deadline(), key);
+
+    assertEquals(created.id(), retried.id());
+    assertEquals(1, channelRequestIds().size());
+    assertEquals(1, inputRequestIds().size());
+    assertEquals(1, emlClient.getDescribes());
+  }
+
+  @Test
+  public void requestId_shouldBeDeterministicPerKeyAndResource() {
+    assertEquals(ElementalMediaLiveProcessor.requestId("req-1/abc", "channel"),
+        ElementalMediaLiveProcessor.requestId("req-1/abc", "channel"));
+    assertNotEquals(ElementalMediaLiveProcessor.requestId("req-1/abc", "channel"),
+        ElementalMediaLiveProcessor.requestId("req-1/abc", "input"));
+    assertNotEquals(ElementalMediaLiveProcessor.requestId("req-1/abc", "channel"),
+        ElementalMediaLiveProcessor.requestId("req-2/abc", "channel"));
+  }
+
+  @Test
+  public void createChannel_shouldSendTheKeyedRequestIds() {
+    String key = UUID.randomUUID().toString();
+
+    processor.createChannel(Channel.builder().name("match_1").build(), deadline(), key);
+
+    String prefix = ElementalMediaLiveProcessor.REQUEST_ID_PREFIX;
+    assertTrue(channelRequestIds().get(0).startsWith(prefix));
+    assertTrue(inputRequestIds().get(0).startsWith(prefix));
+    assertNotEquals(channelRequestIds().get(0), inputRequestIds().get(0));
+  }
+
+  @Test
+  public void createChannel_shouldTreatADifferentChannelAsANewRequest() {
+    String key = UUID.randomUUID().toString();
+
+    processor.createChannel(Channel.builder().name("match_1").build(), deadline(), key);
+    processor.createChannel(Channel.builder().name("match_2").build(), deadline(), key);
+
+    assertEquals(2, channelRequestIds().size());
+    assertNotEquals(channelRequestIds().get(0), channelRequestIds().get(1));
+    assertNotEquals(inputRequestIds().get(0), inputRequestIds().get(1));
+    assertEquals(0, emlClient.getDescribes());
+  }
+
+  @Test
+  public void createChannel_shouldNotJournalWithoutAKey() {
+    Channel channel = Channel.builder().name("match_1").build();
+
+    processor.createChannel(channel, deadline(), null);
+    processor.createChannel(channel, deadline(), null);
+
+    assertEquals(2, channelRequestIds().size());
+    assertNull(channelRequestIds().get(0));
+  }
+
+  private List<String> channelRequestIds() {
+    return emlClient.getCreateChannelRequests().stream()
+        .map(CreateChannelRequest::requestId)
+        .collect(Collectors.toList());
+  }
+
+  private List<String> inputRequestIds() {
+    return emlClient.getCreateInputRequests().stream()
+        .map(CreateInputRequest::requestId)
+        .collect(Collectors.toList());
+  }
+
+  private static Instant deadline() {
+    return Instant.now().plusSeconds(10);
+  }
+}
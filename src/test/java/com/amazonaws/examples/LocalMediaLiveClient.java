@@ -0,0 +1,343 @@
+package com.amazonaws.examples;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import software.amazon.awssdk.services.medialive.MediaLiveAsyncClient;
+import software.amazon.awssdk.services.medialive.MediaLiveClient;
+import software.amazon.awssdk.services.medialive.model.Channel;
+import software.amazon.awssdk.services.medialive.model.ChannelState;
+import software.amazon.awssdk.services.medialive.model.ChannelSummary;
+import software.amazon.awssdk.services.medialive.model.CreateChannelRequest;
+import software.amazon.awssdk.services.medialive.model.CreateChannelResponse;
+import software.amazon.awssdk.services.medialive.model.CreateInputRequest;
+import software.amazon.awssdk.services.medialive.model.CreateInputResponse;
+import software.amazon.awssdk.services.medialive.model.CreateInputSecurityGroupRequest;
+import software.amazon.awssdk.services.medialive.model.CreateInputSecurityGroupResponse;
+import software.amazon.awssdk.services.medialive.model.DescribeChannelRequest;
+import software.amazon.awssdk.services.medialive.model.DescribeChannelResponse;
+import software.amazon.awssdk.services.medialive.model.Input;
+import software.amazon.awssdk.services.medialive.model.InputSecurityGroup;
+import software.amazon.awssdk.services.medialive.model.InputSecurityGroupState;
+import software.amazon.awssdk.services.medialive.model.InputState;
+import software.amazon.awssdk.services.medialive.model.InputWhitelistRule;
+import software.amazon.awssdk.services.medialive.model.ListChannelsRequest;
+import software.amazon.awssdk.services.medialive.model.ListChannelsResponse;
+import software.amazon.awssdk.services.medialive.model.ListInputSecurityGroupsRequest;
+import software.amazon.awssdk.services.medialive.model.ListInputSecurityGroupsResponse;
+import software.amazon.awssdk.services.medialive.model.ListInputsRequest;
+import software.amazon.awssdk.services.medialive.model.ListInputsResponse;
+import software.amazon.awssdk.services.medialive.model.NotFoundException;
+
+/**
+ * In-memory stand-in for MediaLive shared by the tests. Created and seeded channels, inputs and
+ * input security groups are kept in insertion order and listed {@code pageSize} per page.
+ * {@code CreateChannel} can be slowed down and made to fail per request.
+ */
+public class LocalMediaLiveClient implements MediaLiveClient {
+  private final int pageSize;
+  private final Map<String, ChannelSummary> channels = new LinkedHashMap<>();
+  private final Map<String, Input> inputs = new LinkedHashMap<>();
+  private final Map<String, InputSecurityGroup> securityGroups = new LinkedHashMap<>();
+  private final List<CreateChannelRequest> channelRequests = new CopyOnWriteArrayList<>();
+  private final List<CreateInputRequest> inputRequests = new CopyOnWriteArrayList<>();
+  private final List<CreateInputSecurityGroupRequest> securityGroupRequests =
+      new CopyOnWriteArrayList<>();
+  private final AtomicInteger ids = new AtomicInteger();
+  private final AtomicInteger describes = new AtomicInteger();
+  private final AtomicInteger channelPages = new AtomicInteger();
+  private final AtomicInteger inputPages = new AtomicInteger();
+  private final AtomicInteger securityGroupPages = new AtomicInteger();
+  private final AtomicInteger creatingChannels = new AtomicInteger();
+  private final AtomicInteger maxCreatingChannels = new AtomicInteger();
+  private volatile long createChannelLatencyMillis;
+  private volatile Function<CreateChannelRequest, RuntimeException> createChannelFailure =
+      request -> null;
+  private volatile Runnable onListChannels = () -> { };
+  private volatile Runnable onCreateInputSecurityGroup = () -> { };
+
+  public LocalMediaLiveClient() {
+    this(2);
+  }
+
+  public LocalMediaLiveClient(int pageSize) {
+    this.pageSize = pageSize;
+  }
+
+  /**
+   * Makes every {@code CreateChannel} take at least {@code latency}.
+   */
+  public void setCreateChannelLatency(Duration latency) {
+    this.createChannelLatencyMillis = latency.toMillis();
+  }
+
+  /**
+   * @param failure returns the exception to throw for a request, or {@code null} to create the
+   *     channel
+   */
+  public void setCreateChannelFailure(Function<CreateChannelRequest, RuntimeException> failure) {
+    this.createChannelFailure = failure;
+  }
+
+  /**
+   * Runs {@code hook} at the start of every {@code ListChannels} page.
+   */
+  public void onListChannels(Runnable hook) {
+    this.onListChannels = hook;
+  }
+
+  /**
+   * Runs {@code hook} before every {@code CreateInputSecurityGroup}.
+   */
+  public void onCreateInputSecurityGroup(Runnable hook) {
+    this.onCreateInputSecurityGroup = hook;
+  }
+
+  public synchronized void putChannel(ChannelSummary channel) {
+    channels.put(channel.id(), channel);
+  }
+
+  public synchronized void putInput(Input input) {
+    inputs.put(input.id(), input);
+  }
+
+  public synchronized void putSecurityGroup(InputSecurityGroup inSg) {
+    securityGroups.put(inSg.id(), inSg);
+  }
+
+  public synchronized void clearChannels() {
+    channels.clear();
+  }
+
+  public synchronized void clearInputs() {
+    inputs.clear();
+  }
+
+  public List<CreateChannelRequest> getCreateChannelRequests() {
+    return channelRequests;
+  }
+
+  public List<CreateInputRequest> getCreateInputRequests() {
+    return inputRequests;
+  }
+
+  public List<CreateInputSecurityGroupRequest> getCreateInputSecurityGroupRequests() {
+    return securityGroupRequests;
+  }
+
+  public int getDescribes() {
+    return describes.get();
+  }
+
+  public int getChannelPages() {
+    return channelPages.get();
+  }
+
+  public int getInputPages() {
+    return inputPages.get();
+  }
+
+  public int getSecurityGroupPages() {
+    return securityGroupPages.get();
+  }
+
+  /**
+   * @return the most {@code CreateChannel} calls that were in progress at the same time
+   */
+  public int getMaxConcurrentCreateChannels() {
+    return maxCreatingChannels.get();
+  }
+
+  @Override public CreateChannelResponse createChannel(CreateChannelRequest request) {
+    channelRequests.add(request);
+    maxCreatingChannels.accumulateAndGet(creatingChannels.incrementAndGet(), Math::max);
+    try {
+      Thread.sleep(createChannelLatencyMillis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      creatingChannels.decrementAndGet();
+    }
+    RuntimeException failure = createChannelFailure.apply(request);
+    if (Objects.nonNull(failure)) {
+      throw failure;
+    }
+    String id = "channel-" + ids.incrementAndGet();
+    Channel channel = Channel.builder()
+        .id(id)
+        .arn("arn:aws:medialive:us-east-1:123456789012:channel:" + id)
+        .name(request.name())
+        .roleArn(request.roleArn())
+        .inputAttachments(request.inputAttachments())
+        .destinations(request.destinations())
+        .tags(request.tags())
+        .state(ChannelState.CREATING)
+        .build();
+    putChannel(ElementalMediaLiveProcessor.channelSummary(channel));
+    return CreateChannelResponse.builder().channel(channel).build();
+  }
+
+  @Override public DescribeChannelResponse describeChannel(DescribeChannelRequest request) {
+    describes.incrementAndGet();
+    ChannelSummary channel;
+    synchronized (this) {
+      channel = channels.get(request.channelId());
+    }
+    if (Objects.isNull(channel)) {
+      throw NotFoundException.builder().message("Channel not found").statusCode(404).build();
+    }
+    return DescribeChannelResponse.builder()
+        .id(channel.id())
+        .arn(channel.arn())
+        .name(channel.name())
+        .state(channel.stateAsString())
+        .roleArn(channel.roleArn())
+        .inputAttachments(channel.inputAttachments())
+        .destinations(channel.destinations())
+        .tags(channel.tags())
+        .build();
+  }
+
+  @Override public CreateInputResponse createInput(CreateInputRequest request) {
+    inputRequests.add(request);
+    Input input = Input.builder()
+        .id("input-" + ids.incrementAndGet())
+        .name(request.name())
+        .type(request.type())
+        .securityGroups(request.inputSecurityGroups())
+        .tags(request.tags())
+        .state(InputState.DETACHED)
+        .build();
+    putInput(input);
+    return CreateInputResponse.builder().input(input).build();
+  }
+
+  @Override public CreateInputSecurityGroupResponse createInputSecurityGroup(
+      CreateInputSecurityGroupRequest request) {
+    securityGroupRequests.add(request);
+    onCreateInputSecurityGroup.run();
+    InputSecurityGroup inSg = InputSecurityGroup.builder()
+        .id("sg-" + ids.incrementAndGet())
+        .whitelistRules(request.whitelistRules().stream()
+            .map(rule -> InputWhitelistRule.builder().cidr(rule.cidr()).build())
+            .collect(Collectors.toList()))
+        .tags(request.tags())
+        .state(InputSecurityGroupState.IDLE)
+        .build();
+    putSecurityGroup(inSg);
+    return CreateInputSecurityGroupResponse.builder().securityGroup(inSg).build();
+  }
+
+  @Override public ListChannelsResponse listChannels(ListChannelsRequest request) {
+    channelPages.incrementAndGet();
+    onListChannels.run();
+    int from = from(request.nextToken());
+    List<ChannelSummary> all = snapshot(channels);
+    return ListChannelsResponse.builder()
+        .channels(page(all, from))
+        .nextToken(next(from, all.size()))
+        .build();
+  }
+
+  @Override public ListInputsResponse listInputs(ListInputsRequest request) {
+    inputPages.incrementAndGet();
+    int from = from(request.nextToken());
+    List<Input> all = snapshot(inputs);
+    return ListInputsResponse.builder()
+        .inputs(page(all, from))
+        .nextToken(next(from, all.size()))
+        .build();
+  }
+
+  @Override public ListInputSecurityGroupsResponse listInputSecurityGroups(
+      ListInputSecurityGroupsRequest request) {
+    securityGroupPages.incrementAndGet();
+    int from = from(request.nextToken());
+    List<InputSecurityGroup> all = snapshot(securityGroups);
+    return ListInputSecurityGroupsResponse.builder()
+        .inputSecurityGroups(page(all, from))
+        .nextToken(next(from, all.size()))
+        .build();
+  }
+
+  /**
+   * @return an async client answering from this one with completed futures
+   */
+  public MediaLiveAsyncClient async() {
+    LocalMediaLiveClient local = this;
+    return new MediaLiveAsyncClient() {
+      @Override public CompletableFuture<CreateChannelResponse> createChannel(
+          CreateChannelRequest request) {
+        return complete(() -> local.createChannel(request));
+      }
+
+      @Override public CompletableFuture<CreateInputResponse> createInput(
+          CreateInputRequest request) {
+        return complete(() -> local.createInput(request));
+      }
+
+      @Override public CompletableFuture<CreateInputSecurityGroupResponse>
+          createInputSecurityGroup(CreateInputSecurityGroupRequest request) {
+        return complete(() -> local.createInputSecurityGroup(request));
+      }
+
+      @Override public CompletableFuture<ListInputsResponse> listInputs(
+          ListInputsRequest request) {
+        return complete(() -> local.listInputs(request));
+      }
+
+      @Override public String serviceName() {
+        return SERVICE_NAME;
+      }
+
+      @Override public void close() {
+      }
+    };
+  }
+
+  @Override public String serviceName() {
+    return SERVICE_NAME;
+  }
+
+  @Override public void close() {
+  }
+
+  private synchronized <T> List<T> snapshot(Map<String, T> resources) {
+    return new ArrayList<>(resources.values());
+  }
+
+  private <T> List<T> page(List<T> resources, int from) {
+    return Collections.unmodifiableList(new ArrayList<>(
+        resources.subList(Math.min(from, resources.size()),
+            Math.min(from + pageSize, resources.size()))));
+  }
+
+  private String next(int from, int size) {
+    return from + pageSize < size ? String.valueOf(from + pageSize) : null;
+  }
+
+  private static int from(String nextToken) {
+    return Objects.isNull(nextToken) ? 0 : Integer.parseInt(nextToken);
+  }
+
+  private static <T> CompletableFuture<T> complete(Supplier<T> call) {
+    CompletableFuture<T> future = new CompletableFuture<>();
+    try {
+      future.complete(call.get());
+    } catch (RuntimeException e) {
+      future.completeExceptionally(e);
+    }
+    return future;
+  }
+}
@@ -0,0 +1,266 @@
+package com.amazonaws.examples.codegen;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.StringJoiner;
+import java.util.stream.Collectors;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import com.amazonaws.examples.deserialize.JsonUtils;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.LoggerFactory;
+
+import software.amazon.awssdk.core.util.SdkAutoConstructList;
+
+class DeserializerProcessorTest {
+  private static final String PART = "package fake;\n"
+      + "public final class Part {\n"
+      + "  public final String id;\n"
+      + "  private Part(String id) { this.id = id; }\n"
+      + "  public String id() { return id; }\n"
+      + "  public static Builder builder() { return new BuilderImpl(); }\n"
+      + "  public interface Builder {\n"
+      + "    Builder id(String id);\n"
+      + "    Part build();\n"
+      + "  }\n"
+      + "  static final class BuilderImpl implements Builder {\n"
+      + "    private String id;\n"
+      + "    public Builder id(String v) { id = v; return this; }\n"
+      + "    public Part build() { return new Part(id); }\n"
+      + "  }\n"
+      + "}\n";
+
+  private static final String MODE = "package fake;\n"
+      + "public enum Mode {\n"
+      + "  FAST(\"FAST\"), SLOW(\"SLOW\"), UNKNOWN_TO_SDK_VERSION(null);\n"
+      + "  private final String value;\n"
+      + "  Mode(String value) { this.value = value; }\n"
+      + "  @Override public String toString() { return String.valueOf(value); }\n"
+      + "}\n";
+
+  private static final String WIDGET = "package fake;\n"
+      + "import java.util.*;\n"
+      + "import java.util.function.Consumer;\n"
+      + "public final class Widget {\n"
+      + "  public String name; public Mode mode; public Integer count; public Boolean enabled;\n"
+      + "  public List<Part> parts; public Part part; public Map<String, String> tags;\n"
+      + "  public List<Mode> modes; public List<Integer> sizes;\n"
+      + "  public static Builder builder() { return new BuilderImpl(); }\n"
+      + "  public String name() { return name; }\n"
+      + "  public String modeAsString() { return mode == null ? null : mode.toString(); }\n"
+      + "  public Integer count() { return count; }\n"
+      + "  public Boolean enabled() { return enabled; }\n"
+      + "  public List<Part> parts() { return parts; }\n"
+      + "  public Part part() { return part; }\n"
+      + "  public Map<String, String> tags() { return tags; }\n"
+      + "  public List<String> modesAsStrings() {\n"
+      + "    if (modes == null) return null;\n"
+      + "    List<String> names = new ArrayList<>();\n"
+      + "    for (Mode m : modes) names.add(m.toString());\n"
+      + "    return names;\n"
+      + "  }\n"
+      + "  public interface Builder {\n"
+      + "    Builder name(String name);\n"
+      + "    Builder mode(String mode);\n"
+      + "    Builder mode(Mode mode);\n"
+      + "    Builder count(Integer count);\n"
+      + "    Builder enabled(Boolean enabled);\n"
+      + "    Builder parts(Collection<Part> parts);\n"
+      + "    Builder parts(Part... parts);\n"
+      + "    Builder part(Part part);\n"
+      + "    Builder part(Consumer<Part.Builder> part);\n"
+      + "    Builder tags(Map<String, String> tags);\n"
+      + "    Builder modesWithStrings(Collection<String> modes);\n"
+      + "    Builder modes(Collection<Mode> modes);\n"
+      + "    Builder sizes(Collection<Integer> sizes);\n"
+      + "    Widget build();\n"
+      + "  }\n"
+      + "  static final class BuilderImpl implements Builder {\n"
+      + "    private final Widget w = new Widget();\n"
+      + "    public Builder name(String v) { w.name = v; return this; }\n"
+      + "    public Builder mode(String v) { throw new AssertionError(); }\n"
+      + "    public Builder mode(Mode v) { w.mode = v; return this; }\n"
+      + "    public Builder count(Integer v) { w.count = v; return this; }\n"
+      + "    public Builder enabled(Boolean v) { w.enabled = v; return this; }\n"
+      + "    public Builder parts(Collection<Part> v) { w.parts = list(v); return this; }\n"
+      + "    public Builder parts(Part... v) { throw new AssertionError(); }\n"
+      + "    public Builder part(Part v) { w.part = v; return this; }\n"
+      + "    public Builder part(Consumer<Part.Builder> v) { throw new AssertionError(); }\n"
+      + "    public Builder tags(Map<String, String> v) { w.tags = v; return this; }\n"
+      + "    public Builder modesWithStrings(Collection<String> v) { throw new Error(); }\n"
+      + "    public Builder modes(Collection<Mode> v) { w.modes = list(v); return this; }\n"
+      + "    public Builder sizes(Collection<Integer> v) { w.sizes = list(v); return this; }\n"
+      + "    public Widget build() { return w; }\n"
+      + "    private static <T> List<T> list(Collection<T> v) { return new ArrayList<>(v); }\n"
+      + "  }\n"
+      + "}\n";
+
+  private static final String BINDINGS = "package fake;\n"
+      + "@com.amazonaws.examples.codegen.GenerateDeserializers({Widget.class, Part.class})\n"
+      + "class Bindings {\n"
+      + "}\n";
+
+  @TempDir
+  Path workDir;
+
+  private final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+
+  @Test
+  public void process_shouldGenerateSerializersWithStableKeyOrder() throws Exception {
+    Path classes = compile();
+
+    try (URLClassLoader loader = new URLClassLoader(
+        new URL[] {classes.toUri().toURL()}, getClass().getClassLoader())) {
+
+      String json = "{\"count\":3,\"enabled\":false,\"mode\":\"SLOW\",\"modes\":[\"FAST\"],"
+          + "\"name\":\"w\",\"part\":{\"id\":\"c\"},\"parts\":[{\"id\":\"a\"}],"
+          + "\"tags\":{\"a\":\"1\",\"b\":\"2\"}}";
+      String shuffled = "{\"modes\":[\"FAST\"],\"tags\":{\"b\":\"2\",\"a\":\"1\"},"
+          + "\"part\":{\"id\":\"c\"},\"enabled\":false,\"parts\":[{\"id\":\"a\"}],"
+          + "\"count\":3,\"mode\":\"SLOW\",\"name\":\"w\"}";
+
+      assertEquals(json, roundTrip(loader, json));
+      assertEquals(json, roundTrip(loader, shuffled));
+    }
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static String roundTrip(ClassLoader loader, String json) throws Exception {
+    JsonDeserializer<?> deserializer = (JsonDeserializer<?>) loader
+        .loadClass("fake.WidgetDeserializer").getConstructor().newInstance();
+    JsonSerializer serializer = (JsonSerializer) loader
+        .loadClass("fake.WidgetSerializer").getConstructor().newInstance();
+
+    JsonFactory factory = new JsonFactory();
+    JsonParser parser = factory.createParser(json);
+    parser.nextToken();
+    Object widget = deserializer.deserialize(parser, null);
+
+    StringWriter out = new StringWriter();
+    try (JsonGenerator gen = factory.createGenerator(out)) {
+      serializer.serialize(widget, gen, null);
+    }
+    return out.toString();
+  }
+
+  @Test
+  public void process_shouldGenerateSwitchBasedDeserializers() throws Exception {
+    Path classes = compile();
+    String generated = new String(
+        Files.readAllBytes(workDir.resolve("generated/fake/WidgetDeserializer.java")),
+        StandardCharsets.UTF_8);
+    assertTrue(generated.contains("switch (parser.getCurrentName())"));
+    assertTrue(generated.contains("partDeserializer.deserialize(parser, ctxt)"));
+
+    try (URLClassLoader loader = new URLClassLoader(
+        new URL[] {classes.toUri().toURL()}, getClass().getClassLoader())) {
+
+      JsonDeserializer<?> deserializer = (JsonDeserializer<?>) loader
+          .loadClass("fake.WidgetDeserializer").getConstructor().newInstance();
+      JsonParser parser = new JsonFactory().createParser("{"
+          + "\"name\": \"w\", \"mode\": \"SLOW\", \"count\": 3, \"enabled\": true,"
+          + "\"parts\": [{\"id\": \"a\"}, {\"id\": \"b\"}], \"part\": {\"id\": \"c\"},"
+          + "\"tags\": {\"k\": \"v\"}, \"modes\": [\"FAST\", \"NEW\"], \"sizes\": [1, 2],"
+          + "\"unknown\": {\"nested\": [1]}}");
+      parser.nextToken();
+
+      Object widget = deserializer.deserialize(parser, null);
+
+      assertEquals("w", field(widget, "name"));
+      assertEquals("SLOW", String.valueOf(field(widget, "mode")));
+      assertEquals(3, field(widget, "count"));
+      assertEquals(true, field(widget, "enabled"));
+      assertEquals(2, ((List<?>) field(widget, "parts")).size());
+      assertEquals("c", field(field(widget, "part"), "id"));
+      assertEquals(Collections.singletonMap("k", "v"), field(widget, "tags"));
+      assertEquals("[FAST, UNKNOWN_TO_SDK_VERSION]",
+          ((List<?>) field(widget, "modes")).stream().map(Enum.class::cast).map(Enum::name)
+              .collect(Collectors.toList()).toString());
+      assertEquals(Collections.emptyList(), field(widget, "sizes"));
+    }
+  }
+
+  @Test
+  public void process_shouldWarnAboutSkippedLists() throws Exception {
+    compile();
+
+    assertTrue(diagnostics.getDiagnostics().stream()
+        .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.WARNING)
+        .map(diagnostic -> diagnostic.getMessage(Locale.ROOT))
+        .anyMatch(message -> message.contains("fake.Widget.sizes")),
+        diagnostics.getDiagnostics().toString());
+  }
+
+  private Path compile() throws IOException, URISyntaxException {
+    Path sources = Files.createDirectories(workDir.resolve("src/fake"));
+    Path generated = Files.createDirectories(workDir.resolve("generated"));
+    Path classes = Files.createDirectories(workDir.resolve("classes"));
+    Files.write(sources.resolve("Part.java"), PART.getBytes(StandardCharsets.UTF_8));
+    Files.write(sources.resolve("Mode.java"), MODE.getBytes(StandardCharsets.UTF_8));
+    Files.write(sources.resolve("Widget.java"), WIDGET.getBytes(StandardCharsets.UTF_8));
+    Files.write(sources.resolve("Bindings.java"), BINDINGS.getBytes(StandardCharsets.UTF_8));
+
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    try (StandardJavaFileManager files = compiler.getStandardFileManager(null, null, null)) {
+      Iterable<? extends JavaFileObject> units = files.getJavaFileObjects(
+          sources.resolve("Part.java").toFile(), sources.resolve("Mode.java").toFile(),
+          sources.resolve("Widget.java").toFile(), sources.resolve("Bindings.java").toFile());
+      List<String> options = Arrays.asList(
+          "-classpath", classpath(GenerateDeserializers.class, JsonUtils.class, JsonParser.class,
+              JsonDeserializer.class, LoggerFactory.class, SdkAutoConstructList.class),
+          "-d", classes.toString(),
+          "-s", generated.toString());
+
+      JavaCompiler.CompilationTask task =
+          compiler.getTask(null, files, diagnostics, options, null, units);
+      task.setProcessors(Collections.singletonList(new DeserializerProcessor()));
+      assertTrue(task.call(), "compilation failed");
+    }
+    return classes;
+  }
+
+  /**
+   * Surefire hides the test classpath behind a manifest jar, so it is rebuilt from the classes
+   * the generated sources need.
+   */
+  private static String classpath(Class<?>... classes) throws URISyntaxException {
+    StringJoiner classpath = new StringJoiner(File.pathSeparator);
+    for (Class<?> type : classes) {
+      classpath.add(
+          Paths.get(type.getProtectionDomain().getCodeSource().getLocation().toURI()).toString());
+    }
+    return classpath.toString();
+  }
+
+  private static Object field(Object target, String name) throws ReflectiveOperationException {
+    return target.getClass().getField(name).get(target);
+  }
+}
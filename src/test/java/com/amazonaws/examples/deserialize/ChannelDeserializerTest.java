@@ -0,0 +1,78 @@
+package com.amazonaws.examples.deserialize;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.amazonaws.examples.utils.ResourceUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.medialive.model.Channel;
+import software.amazon.awssdk.services.medialive.model.ChannelClass;
+import software.amazon.awssdk.services.medialive.model.H264Settings;
+import software.amazon.awssdk.services.medialive.model.LogLevel;
+import software.amazon.awssdk.utils.IoUtils;
+
+class ChannelDeserializerTest {
+  private final ObjectMapper mapper = new ObjectMapper().registerModule(new ChannelModule());
+
+  @Test
+  public void deserialize_shouldReadChannelSettingsResource() throws IOException {
+    Channel channel;
+    try (InputStream in = ResourceUtils.getInstance()
+        .getInputStream("/CreateEmlRtmpToEmpChannelSettings.json")) {
+      channel = mapper.readValue(in, Channel.class);
+    }
+
+    assertEquals("MyEML_Channel_1", channel.name());
+    assertEquals(1, channel.destinations().size());
+    assertEquals("EMP_1", channel.destinations().get(0).mediaPackageSettings().get(0).channelId());
+    assertNotNull(channel.encoderSettings().timecodeConfig());
+    assertEquals(channel.encoderSettings().videoDescriptions().size(),
+        channel.encoderSettings().outputGroups().get(0).outputs().size());
+
+    H264Settings h264Settings =
+        channel.encoderSettings().videoDescriptions().get(0).codecSettings().h264Settings();
+    assertNotNull(h264Settings.profile());
+    assertNotNull(h264Settings.framerateNumerator());
+  }
+
+  @Test
+  public void deserialize_shouldSkipUnknownFieldsAndReadAllTags() throws IOException {
+    String json = "{"
+        + "\"name\": \"ch\","
+        + "\"unknown\": {\"name\": \"nested\", \"list\": [1, {\"tags\": {}}]},"
+        + "\"tags\": {\"event\": \"final\", \"team\": \"blue\"},"
+        + "\"logLevel\": \"INFO\","
+        + "\"channelClass\": \"SINGLE_PIPELINE\""
+        + "}";
+
+    Channel channel = mapper.readValue(json, Channel.class);
+
+    assertEquals("ch", channel.name());
+    assertEquals(2, channel.tags().size());
+    assertEquals("blue", channel.tags().get("team"));
+    assertEquals(LogLevel.INFO, channel.logLevel());
+    assertEquals(ChannelClass.SINGLE_PIPELINE, channel.channelClass());
+  }
+
+  @Test
+  public void deserialize_shouldReadTheSameChannelWithSchemaBinding() throws IOException {
+    ObjectMapper schemaMapper = new ObjectMapper().registerModule(new ChannelModule(true));
+    Channel generated;
+    Channel schema;
+    try (InputStream in = ResourceUtils.getInstance()
+        .getInputStream("/CreateEmlRtmpToEmpChannelSettings.json")) {
+      byte[] json = IoUtils.toByteArray(in);
+      generated = mapper.readValue(json, Channel.class);
+      schema = schemaMapper.readValue(json, Channel.class);
+    }
+
+    assertEquals(generated, schema);
+    assertEquals(mapper.writeValueAsString(generated), schemaMapper.writeValueAsString(schema));
+  }
+}
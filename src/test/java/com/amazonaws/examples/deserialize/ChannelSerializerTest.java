@@ -0,0 +1,46 @@
+package com.amazonaws.examples.deserialize;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.amazonaws.examples.utils.ResourceUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.medialive.model.Channel;
+
+class ChannelSerializerTest {
+  private final ObjectMapper mapper = new ObjectMapper().registerModule(new ChannelModule());
+
+  @Test
+  public void serialize_shouldRoundTripThroughChannelDeserializer() throws IOException {
+    Channel channel;
+    try (InputStream in = ResourceUtils.getInstance()
+        .getInputStream("/CreateEmlRtmpToEmpChannelSettings.json")) {
+      channel = mapper.readValue(in, Channel.class);
+    }
+
+    byte[] json = mapper.writeValueAsBytes(channel);
+    Channel copy = mapper.readValue(json, Channel.class);
+
+    assertEquals(channel, copy);
+    assertArrayEquals(json, mapper.writeValueAsBytes(copy));
+  }
+
+  @Test
+  public void serialize_shouldSortTagsAndOmitUnsetMembers() throws IOException {
+    Map<String, String> tags = new LinkedHashMap<>();
+    tags.put("team", "blue");
+    tags.put("event", "final");
+    Channel channel = Channel.builder().name("ch").tags(tags).build();
+
+    assertEquals("{\"name\":\"ch\",\"tags\":{\"event\":\"final\",\"team\":\"blue\"}}",
+        mapper.writeValueAsString(channel));
+  }
+}
@@ -0,0 +1,45 @@
+package com.amazonaws.examples.deserialize;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.medialive.model.Channel;
+
+class ChannelStreamReaderTest {
+  private final ChannelStreamReader reader =
+      new ChannelStreamReader(new ObjectMapper().registerModule(new ChannelModule()));
+
+  @Test
+  public void read_shouldReadTopLevelArray() throws IOException {
+    List<Channel> channels = read("[{\"name\": \"a\"}, {\"name\": \"b\", \"tags\": {}}, {}]");
+
+    assertEquals(3, channels.size());
+    assertEquals("a", channels.get(0).name());
+    assertEquals("b", channels.get(1).name());
+  }
+
+  @Test
+  public void read_shouldReadNewlineDelimitedChannels() throws IOException {
+    List<Channel> channels = read("{\"name\": \"a\"}\n{\"name\": \"b\"}\n\n{\"name\": \"c\"}\n");
+
+    assertEquals(3, channels.size());
+    assertEquals("c", channels.get(2).name());
+  }
+
+  private List<Channel> read(String manifest) throws IOException {
+    List<Channel> channels = new ArrayList<>();
+    int count = reader.read(
+        new ByteArrayInputStream(manifest.getBytes(StandardCharsets.UTF_8)), channels::add);
+    assertEquals(count, channels.size());
+    return channels;
+  }
+}
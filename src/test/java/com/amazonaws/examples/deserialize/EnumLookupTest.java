@@ -0,0 +1,71 @@
+package com.amazonaws.examples.deserialize;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+
+import org.junit.jupiter.api.Test;
+
+class EnumLookupTest {
+
+  /** Mirrors the shape of the generated MediaLive model enums. */
+  enum Profile {
+    BASELINE("BASELINE"),
+    HIGH("HIGH"),
+    HIGH_10BIT("HIGH_10BIT"),
+    MAIN("MAIN"),
+    UNKNOWN_TO_SDK_VERSION(null);
+
+    private final String value;
+
+    Profile(String value) {
+      this.value = value;
+    }
+
+    @Override public String toString() {
+      return String.valueOf(value);
+    }
+  }
+
+  @Test
+  public void next_shouldResolveValuesFromParserBuffer() throws IOException {
+    JsonParser parser = new JsonFactory().createParser(
+        "{\"a\": \"HIGH_10BIT\", \"b\": \"MAIN\", \"c\": \"HIGH_12BIT\", \"d\": \"null\"}");
+    EnumLookup<Profile> lookup = EnumLookup.of(Profile.class);
+    parser.nextToken();
+
+    parser.nextToken();
+    assertEquals(Profile.HIGH_10BIT, lookup.next(parser));
+    parser.nextToken();
+    assertEquals(Profile.MAIN, lookup.next(parser));
+    parser.nextToken();
+    assertEquals(Profile.UNKNOWN_TO_SDK_VERSION, lookup.next(parser));
+    parser.nextToken();
+    assertEquals(Profile.UNKNOWN_TO_SDK_VERSION, lookup.next(parser));
+    assertEquals(JsonToken.END_OBJECT, parser.nextToken());
+  }
+
+  @Test
+  public void next_shouldRejectNonStringValues() throws IOException {
+    JsonParser parser = new JsonFactory().createParser("[1]");
+    parser.nextToken();
+
+    assertThrows(JsonMappingException.class,
+        () -> EnumLookup.of(Profile.class).next(parser));
+  }
+
+  @Test
+  public void of_shouldShareLookupsPerType() {
+    assertSame(EnumLookup.of(Profile.class), EnumLookup.of(Profile.class));
+    assertNull(EnumLookup.of(Profile.class).resolve((String) null));
+    assertEquals(Profile.BASELINE, EnumLookup.of(Profile.class).resolve("BASELINE"));
+  }
+}
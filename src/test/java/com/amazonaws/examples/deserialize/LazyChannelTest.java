@@ -0,0 +1,55 @@
+package com.amazonaws.examples.deserialize;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.amazonaws.examples.utils.ResourceUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.medialive.model.Channel;
+
+class LazyChannelTest {
+  private static final String RESOURCE = "/CreateEmlRtmpToEmpChannelSettings.json";
+
+  private final ObjectMapper mapper = new ObjectMapper().registerModule(new ChannelModule());
+
+  @Test
+  public void channel_shouldMatchEagerlyParsedChannel() throws IOException {
+    LazyChannel lazy;
+    try (InputStream in = ResourceUtils.getInstance().getInputStream(RESOURCE)) {
+      lazy = mapper.readValue(in, LazyChannel.class);
+    }
+    Channel eager;
+    try (InputStream in = ResourceUtils.getInstance().getInputStream(RESOURCE)) {
+      eager = mapper.readValue(in, Channel.class);
+    }
+
+    assertFalse(lazy.isMaterialized());
+    assertEquals(eager.name(), lazy.name());
+    assertNull(lazy.shell().encoderSettings());
+
+    Channel channel = lazy.channel();
+
+    assertTrue(lazy.isMaterialized());
+    assertEquals(eager, channel);
+    assertSame(channel, lazy.channel());
+  }
+
+  @Test
+  public void channel_shouldReturnShellWithoutEncoderSettings() throws IOException {
+    LazyChannel lazy = mapper.readValue("{\"name\": \"ch\", \"tags\": {\"a\": \"b\"}}",
+        LazyChannel.class);
+
+    assertTrue(lazy.isMaterialized());
+    assertEquals("b", lazy.tags().get("a"));
+    assertSame(lazy.shell(), lazy.channel());
+  }
+}
@@ -0,0 +1,86 @@
+package com.amazonaws.examples.deserialize;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+
+import com.amazonaws.examples.utils.ResourceUtils;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.medialive.model.Channel;
+import software.amazon.awssdk.services.medialive.model.TimecodeConfigSource;
+
+class MergePatchTest {
+  private static final String RESOURCE = "/CreateEmlRtmpToEmpChannelSettings.json";
+
+  private final ObjectMapper mapper = new ObjectMapper().registerModule(new ChannelModule());
+  private final MergePatch mergePatch = new MergePatch(mapper);
+  private Channel base;
+
+  @BeforeEach
+  public void setUp() throws IOException {
+    try (InputStream in = ResourceUtils.getInstance().getInputStream(RESOURCE)) {
+      base = mapper.readValue(in, Channel.class);
+    }
+  }
+
+  @Test
+  public void apply_shouldShareUnchangedSubtrees() throws IOException {
+    Channel channel = mergePatch.apply(base, mapper.readTree("{\"name\": \"ch2\","
+        + "\"destinations\": [{\"id\": \"d2\","
+        + "\"mediaPackageSettings\": [{\"channelId\": \"E2\"}]}],"
+        + "\"tags\": {\"env\": \"prod\"}}"));
+
+    assertEquals("ch2", channel.name());
+    assertEquals(1, channel.destinations().size());
+    assertEquals("E2", channel.destinations().get(0).mediaPackageSettings().get(0).channelId());
+    assertEquals(Collections.singletonMap("env", "prod"), channel.tags());
+    assertSame(base.encoderSettings(), channel.encoderSettings());
+    assertSame(base.inputSpecification(), channel.inputSpecification());
+    assertEquals("MyEML_Channel_1", base.name());
+  }
+
+  @Test
+  public void apply_shouldMergeNestedModelsAndRemoveNullMembers() throws IOException {
+    Channel tagged = mergePatch.apply(base,
+        mapper.readTree("{\"tags\": {\"env\": \"prod\", \"team\": \"media\"}}"));
+
+    Channel channel = mergePatch.apply(tagged, mapper.readTree("{"
+        + "\"encoderSettings\": {\"timecodeConfig\": {\"source\": \"ZEROBASED\"}},"
+        + "\"inputSpecification\": null, \"tags\": {\"team\": null}}"));
+
+    assertEquals(TimecodeConfigSource.ZEROBASED,
+        channel.encoderSettings().timecodeConfig().source());
+    assertSame(base.encoderSettings().audioDescriptions().get(0),
+        channel.encoderSettings().audioDescriptions().get(0));
+    assertSame(base.encoderSettings().outputGroups().get(0),
+        channel.encoderSettings().outputGroups().get(0));
+    assertNull(channel.inputSpecification());
+    assertEquals(Collections.singletonMap("env", "prod"), channel.tags());
+  }
+
+  @Test
+  public void apply_shouldRejectMembersThatCannotBeRead() throws IOException {
+    assertThrows(JsonMappingException.class, () -> mergePatch.apply(base,
+        mapper.readTree("{\"egressEndpoints\": [{\"sourceIp\": \"10.0.0.1\"}]}")));
+    assertThrows(JsonMappingException.class, () -> mergePatch.apply(base,
+        mapper.readTree("{\"name\": \"ch2\", \"unknownMember\": 1}")));
+
+    Channel channel = mergePatch.apply(base, mapper.readTree("{\"unknownMember\": null}"));
+    assertEquals(base, channel);
+  }
+
+  @Test
+  public void apply_shouldReturnBaseForEmptyPatch() throws IOException {
+    assertSame(base, mergePatch.apply(base, mapper.readTree("{}")));
+  }
+}
@@ -0,0 +1,160 @@
+package com.amazonaws.examples.deserialize;
+
+import static com.amazonaws.examples.deserialize.JsonUtils.consumeArray;
+import static com.amazonaws.examples.deserialize.JsonUtils.nextInt;
+import static com.amazonaws.examples.deserialize.JsonUtils.nextString;
+import static com.amazonaws.examples.deserialize.JsonUtils.startObject;
+import static com.amazonaws.examples.deserialize.JsonUtils.validateTokenType;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import com.amazonaws.examples.utils.ResourceUtils;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.medialive.model.Channel;
+
+class ParallelArrayReaderTest {
+  private static final int THRESHOLD = 4;
+
+  private static final String RESOURCE = "/CreateEmlRtmpToEmpChannelSettings.json";
+  private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+  private final ObjectMapper mapper = new ObjectMapper()
+      .registerModule(new SimpleModule().addDeserializer(Ladder.class, new LadderDeserializer()));
+  private final ObjectReader sequential = mapper.readerFor(Ladder.class);
+  private final ObjectReader parallel =
+      new ParallelArrayReader(POOL, THRESHOLD).enable(sequential);
+
+  @AfterAll
+  public static void shutdown() {
+    POOL.shutdownNow();
+  }
+
+  @Test
+  public void consumeArray_shouldMatchSequentialResultsInOrder() throws IOException {
+    for (int size : new int[] {0, 1, THRESHOLD, THRESHOLD + 1, 500}) {
+      String json = ladder(size);
+      Ladder expected = sequential.readValue(json);
+      Ladder actual = parallel.readValue(json);
+
+      assertEquals(size, actual.rungs.size());
+      assertEquals(expected.rungs, actual.rungs);
+    }
+  }
+
+  @Test
+  public void consumeArray_shouldPropagateElementErrors() {
+    String json = "{\"rungs\": [" + rung(0) + "," + rung(1) + "," + rung(2) + "," + rung(3) + ","
+        + rung(4) + ",{\"bitrate\": \"fast\", \"name\": \"x\"}]}";
+
+    assertThrows(JsonMappingException.class, () -> parallel.readValue(json));
+  }
+
+  @Test
+  public void consumeArray_shouldReadChannelsWithManyOutputGroupsLikeSequentially()
+      throws IOException {
+    ObjectMapper channelMapper = new ObjectMapper().registerModule(new ChannelModule());
+    ObjectReader sequentialChannel = channelMapper.readerFor(Channel.class);
+    ObjectReader parallelChannel =
+        new ParallelArrayReader(POOL, THRESHOLD).enable(sequentialChannel);
+    byte[] json = channelWithOutputGroups(channelMapper, 50);
+
+    Channel expected = sequentialChannel.readValue(json);
+    Channel actual = parallelChannel.readValue(json);
+
+    assertEquals(50, actual.encoderSettings().outputGroups().size());
+    assertEquals("group_49", actual.encoderSettings().outputGroups().get(49).name());
+    assertEquals(expected, actual);
+  }
+
+  /**
+   * @return the bundled template with its output group replicated {@code groups} times, each
+   *     with as many outputs as its position
+   */
+  private static byte[] channelWithOutputGroups(ObjectMapper mapper, int groups)
+      throws IOException {
+    ObjectNode channel;
+    try (InputStream in = ResourceUtils.getInstance().getInputStream(RESOURCE)) {
+      channel = (ObjectNode) mapper.readTree(in);
+    }
+    ArrayNode outputGroups = (ArrayNode) channel.get("encoderSettings").get("outputGroups");
+    JsonNode outputGroup = outputGroups.get(0);
+    JsonNode output = outputGroup.get("outputs").get(0);
+
+    outputGroups.removeAll();
+    for (int i = 0; i < groups; i++) {
+      ObjectNode groupCopy = outputGroup.deepCopy();
+      groupCopy.put("name", "group_" + i);
+      ArrayNode outputs = groupCopy.putArray("outputs");
+      for (int j = 0; j <= i; j++) {
+        outputs.add(((ObjectNode) output.deepCopy()).put("outputName", "output_" + i + "_" + j));
+      }
+      outputGroups.add(groupCopy);
+    }
+    return mapper.writeValueAsBytes(channel);
+  }
+
+  private static String ladder(int size) {
+    StringBuilder json = new StringBuilder("{\"rungs\": [");
+    for (int i = 0; i < size; i++) {
+      json.append(i == 0 ? "" : ",").append(rung(i));
+    }
+    return json.append("]}").toString();
+  }
+
+  private static String rung(int i) {
+    return "{\"bitrate\": " + (i * 1000) + ", \"name\": \"rung_" + i + "\"}";
+  }
+
+  static final class Ladder {
+    private final List<String> rungs;
+
+    Ladder(List<String> rungs) {
+      this.rungs = rungs;
+    }
+  }
+
+  static final class LadderDeserializer extends JsonDeserializer<Ladder> {
+    private final RungDeserializer rungDeserializer = new RungDeserializer();
+
+    @Override public Ladder deserialize(JsonParser parser, DeserializationContext ctxt)
+        throws IOException {
+      startObject(parser);
+      parser.nextToken();
+      List<String> rungs = consumeArray(parser, ctxt, rungDeserializer);
+      validateTokenType(parser, parser.nextToken(), JsonToken.END_OBJECT);
+      return new Ladder(rungs);
+    }
+  }
+
+  static final class RungDeserializer extends JsonDeserializer<String> {
+    @Override public String deserialize(JsonParser parser, DeserializationContext ctxt)
+        throws IOException {
+      startObject(parser);
+      parser.nextToken();
+      int bitrate = nextInt(parser);
+      parser.nextToken();
+      String name = nextString(parser);
+      validateTokenType(parser, parser.nextToken(), JsonToken.END_OBJECT);
+      return name + "@" + bitrate;
+    }
+  }
+}
@@ -0,0 +1,119 @@
+package com.amazonaws.examples.deserialize;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.LocationTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.utils.builder.SdkBuilder;
+
+class SdkPojoDeserializerTest {
+  private final ObjectMapper mapper = new ObjectMapper().registerModule(new SdkPojoModule());
+
+  @Test
+  public void deserialize_shouldFillModelsFromSdkFields() throws IOException {
+    Widget widget = mapper.readValue("{\"name\": \"outer\", \"sizes\": [1, 2, 3], "
+        + "\"tags\": {\"a\": \"1\", \"b\": \"2\"}, \"unknown\": {\"x\": [1]}, "
+        + "\"child\": {\"name\": \"inner\", \"sizes\": []}}", Widget.class);
+
+    assertEquals("outer", widget.name);
+    assertEquals(Arrays.asList(1, 2, 3), widget.sizes);
+    assertEquals(2, widget.tags.size());
+    assertEquals("2", widget.tags.get("b"));
+    assertEquals("inner", widget.child.name);
+    assertEquals(Collections.emptyList(), widget.child.sizes);
+    assertNull(widget.child.child);
+  }
+
+  @Test
+  public void deserialize_shouldIgnoreNullValues() throws IOException {
+    Widget widget = mapper.readValue("{\"name\": null, \"child\": null}", Widget.class);
+
+    assertNull(widget.name);
+    assertNull(widget.child);
+  }
+
+  /** Minimal model laid out like the generated SDK classes. */
+  static final class Widget implements SdkPojo {
+    private static final SdkField<String> NAME = SdkField.<String>builder(MarshallingType.STRING)
+        .setter((b, v) -> ((Builder) b).name = v)
+        .traits(payload("name"))
+        .build();
+    private static final SdkField<List<Integer>> SIZES = SdkField
+        .<List<Integer>>builder(MarshallingType.LIST)
+        .setter((b, v) -> ((Builder) b).sizes = v)
+        .traits(payload("sizes"), ListTrait.builder()
+            .memberFieldInfo(SdkField.<Integer>builder(MarshallingType.INTEGER)
+                .traits(payload("member")).build())
+            .build())
+        .build();
+    private static final SdkField<Map<String, String>> TAGS = SdkField
+        .<Map<String, String>>builder(MarshallingType.MAP)
+        .setter((b, v) -> ((Builder) b).tags = v)
+        .traits(payload("tags"), MapTrait.builder()
+            .valueFieldInfo(SdkField.<String>builder(MarshallingType.STRING)
+                .traits(payload("value")).build())
+            .build())
+        .build();
+    private static final SdkField<Widget> CHILD = SdkField.<Widget>builder(MarshallingType.SDK_POJO)
+        .setter((b, v) -> ((Builder) b).child = v)
+        .constructor(Widget::builder)
+        .traits(payload("child"))
+        .build();
+    private static final List<SdkField<?>> SDK_FIELDS = Arrays.asList(NAME, SIZES, TAGS, CHILD);
+
+    private final String name;
+    private final List<Integer> sizes;
+    private final Map<String, String> tags;
+    private final Widget child;
+
+    private Widget(Builder builder) {
+      name = builder.name;
+      sizes = builder.sizes;
+      tags = builder.tags;
+      child = builder.child;
+    }
+
+    public static Builder builder() {
+      return new Builder();
+    }
+
+    @Override public List<SdkField<?>> sdkFields() {
+      return SDK_FIELDS;
+    }
+
+    private static LocationTrait payload(String name) {
+      return LocationTrait.builder().location(MarshallLocation.PAYLOAD).locationName(name).build();
+    }
+
+    static final class Builder implements SdkPojo, SdkBuilder<Builder, Widget> {
+      private String name;
+      private List<Integer> sizes;
+      private Map<String, String> tags;
+      private Widget child;
+
+      @Override public Widget build() {
+        return new Widget(this);
+      }
+
+      @Override public List<SdkField<?>> sdkFields() {
+        return SDK_FIELDS;
+      }
+    }
+  }
+}
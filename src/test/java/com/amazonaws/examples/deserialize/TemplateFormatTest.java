@@ -0,0 +1,62 @@
+package com.amazonaws.examples.deserialize;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import com.amazonaws.examples.utils.ResourceUtils;
+import com.amazonaws.examples.utils.TemplateConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.medialive.model.Channel;
+
+class TemplateFormatTest {
+  private static final String RESOURCE = "/CreateEmlRtmpToEmpChannelSettings.json";
+  private static final TemplateFormat[] BINARY_FORMATS =
+      {TemplateFormat.SMILE, TemplateFormat.CBOR};
+
+  @Test
+  public void detect_shouldRecognizeConvertedTemplates() throws IOException {
+    byte[] json = readResource();
+
+    assertEquals(TemplateFormat.JSON, TemplateFormat.detect(json, 0, json.length));
+    assertEquals(TemplateFormat.JSON,
+        TemplateFormat.detect(" \n{}".getBytes(StandardCharsets.UTF_8), 0, 4));
+    assertEquals(TemplateFormat.JSON, TemplateFormat.detect(new byte[0], 0, 0));
+    for (TemplateFormat format : BINARY_FORMATS) {
+      byte[] binary = new TemplateConverter(format).convert(json);
+
+      assertEquals(format, TemplateFormat.detect(binary, 0, binary.length));
+      ByteBuffer direct = ByteBuffer.allocateDirect(binary.length);
+      direct.put(binary).flip();
+      assertEquals(format, TemplateFormat.detect(direct));
+      assertEquals(0, direct.position());
+    }
+  }
+
+  @Test
+  public void newFactory_shouldReadBinaryTemplatesWithTheSameDeserializers() throws IOException {
+    byte[] json = readResource();
+    Channel expected = new ObjectMapper().registerModule(new ChannelModule())
+        .readValue(json, Channel.class);
+
+    for (TemplateFormat format : BINARY_FORMATS) {
+      byte[] binary = new TemplateConverter(format).convert(json);
+      ObjectMapper mapper = new ObjectMapper(format.newFactory())
+          .registerModule(new ChannelModule());
+
+      assertEquals(expected, mapper.readValue(binary, Channel.class), format.name());
+    }
+  }
+
+  private static byte[] readResource() throws IOException {
+    try (InputStream in = ResourceUtils.getInstance().getInputStream(RESOURCE)) {
+      return ResourceUtils.getInstance().readBytes(in);
+    }
+  }
+}
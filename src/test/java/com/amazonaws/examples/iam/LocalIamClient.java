@@ -0,0 +1,174 @@
+package com.amazonaws.examples.iam;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import software.amazon.awssdk.services.iam.IamAsyncClient;
+import software.amazon.awssdk.services.iam.IamClient;
+import software.amazon.awssdk.services.iam.model.AttachRolePolicyRequest;
+import software.amazon.awssdk.services.iam.model.AttachRolePolicyResponse;
+import software.amazon.awssdk.services.iam.model.AttachedPolicy;
+import software.amazon.awssdk.services.iam.model.CreateRoleRequest;
+import software.amazon.awssdk.services.iam.model.CreateRoleResponse;
+import software.amazon.awssdk.services.iam.model.GetRolePolicyRequest;
+import software.amazon.awssdk.services.iam.model.GetRolePolicyResponse;
+import software.amazon.awssdk.services.iam.model.GetRoleRequest;
+import software.amazon.awssdk.services.iam.model.GetRoleResponse;
+import software.amazon.awssdk.services.iam.model.ListAttachedRolePoliciesRequest;
+import software.amazon.awssdk.services.iam.model.ListAttachedRolePoliciesResponse;
+import software.amazon.awssdk.services.iam.model.NoSuchEntityException;
+import software.amazon.awssdk.services.iam.model.PutRolePolicyRequest;
+import software.amazon.awssdk.services.iam.model.PutRolePolicyResponse;
+import software.amazon.awssdk.services.iam.model.Role;
+
+/**
+ * In-memory stand-in for IAM whose writes become visible to reads only after
+ * {@code propagationDelay}, like IAM's eventually consistent replicas.
+ */
+public class LocalIamClient implements IamClient {
+  private final long propagationNanos;
+  private final Map<String, Long> visibleAt = new ConcurrentHashMap<>();
+  private final Map<String, Role> roles = new ConcurrentHashMap<>();
+  private final AtomicInteger reads = new AtomicInteger();
+
+  public LocalIamClient(Duration propagationDelay) {
+    this.propagationNanos = propagationDelay.toNanos();
+  }
+
+  /**
+   * @return read calls made so far
+   */
+  public int getReads() {
+    return reads.get();
+  }
+
+  @Override public CreateRoleResponse createRole(CreateRoleRequest request) {
+    Role role = Role.builder()
+        .roleName(request.roleName())
+        .arn("arn:aws:iam::123456789012:role/" + request.roleName())
+        .build();
+    roles.put(request.roleName(), role);
+    write("role/" + request.roleName());
+    return CreateRoleResponse.builder().role(role).build();
+  }
+
+  @Override public AttachRolePolicyResponse attachRolePolicy(AttachRolePolicyRequest request) {
+    write("attached/" + request.roleName() + "/" + request.policyArn());
+    return AttachRolePolicyResponse.builder().build();
+  }
+
+  @Override public PutRolePolicyResponse putRolePolicy(PutRolePolicyRequest request) {
+    write("inline/" + request.roleName() + "/" + request.policyName());
+    return PutRolePolicyResponse.builder().build();
+  }
+
+  @Override public GetRoleResponse getRole(GetRoleRequest request) {
+    read("role/" + request.roleName());
+    return GetRoleResponse.builder().role(roles.get(request.roleName())).build();
+  }
+
+  @Override public GetRolePolicyResponse getRolePolicy(GetRolePolicyRequest request) {
+    read("inline/" + request.roleName() + "/" + request.policyName());
+    return GetRolePolicyResponse.builder()
+        .roleName(request.roleName())
+        .policyName(request.policyName())
+        .build();
+  }
+
+  @Override public ListAttachedRolePoliciesResponse listAttachedRolePolicies(
+      ListAttachedRolePoliciesRequest request) {
+    read("role/" + request.roleName());
+    String prefix = "attached/" + request.roleName() + "/";
+    List<AttachedPolicy> policies = new ArrayList<>();
+    long now = System.nanoTime();
+    visibleAt.forEach((key, at) -> {
+      if (key.startsWith(prefix) && now >= at) {
+        policies.add(AttachedPolicy.builder().policyArn(key.substring(prefix.length())).build());
+      }
+    });
+    return ListAttachedRolePoliciesResponse.builder().attachedPolicies(policies).build();
+  }
+
+  /**
+   * @return an async client answering from this one with completed futures
+   */
+  public IamAsyncClient async() {
+    LocalIamClient local = this;
+    return new IamAsyncClient() {
+      @Override public CompletableFuture<CreateRoleResponse> createRole(
+          CreateRoleRequest request) {
+        return complete(() -> local.createRole(request));
+      }
+
+      @Override public CompletableFuture<AttachRolePolicyResponse> attachRolePolicy(
+          AttachRolePolicyRequest request) {
+        return complete(() -> local.attachRolePolicy(request));
+      }
+
+      @Override public CompletableFuture<PutRolePolicyResponse> putRolePolicy(
+          PutRolePolicyRequest request) {
+        return complete(() -> local.putRolePolicy(request));
+      }
+
+      @Override public CompletableFuture<GetRoleResponse> getRole(GetRoleRequest request) {
+        return complete(() -> local.getRole(request));
+      }
+
+      @Override public CompletableFuture<GetRolePolicyResponse> getRolePolicy(
+          GetRolePolicyRequest request) {
+        return complete(() -> local.getRolePolicy(request));
+      }
+
+      @Override public CompletableFuture<ListAttachedRolePoliciesResponse>
+          listAttachedRolePolicies(ListAttachedRolePoliciesRequest request) {
+        return complete(() -> local.listAttachedRolePolicies(request));
+      }
+
+      @Override public String serviceName() {
+        return "iam";
+      }
+
+      @Override public void close() {
+      }
+    };
+  }
+
+  @Override public String serviceName() {
+    return "iam";
+  }
+
+  @Override public void close() {
+  }
+
+  private static <T> CompletableFuture<T> complete(Supplier<T> call) {
+    CompletableFuture<T> future = new CompletableFuture<>();
+    try {
+      future.complete(call.get());
+    } catch (RuntimeException e) {
+      future.completeExceptionally(e);
+    }
+    return future;
+  }
+
+  private void write(String key) {
+    visibleAt.put(key, System.nanoTime() + propagationNanos);
+  }
+
+  private void read(String key) {
+    reads.incrementAndGet();
+    Long at = visibleAt.get(key);
+    if (Objects.isNull(at) || System.nanoTime() < at) {
+      throw NoSuchEntityException.builder()
+          .message("The role or policy " + key + " cannot be found.")
+          .statusCode(404)
+          .build();
+    }
+  }
+}
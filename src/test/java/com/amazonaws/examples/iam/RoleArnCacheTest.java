@@ -0,0 +1,144 @@
+package com.amazonaws.examples.iam;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RoleArnCacheTest {
+  private static final String ROLE = "TestRole";
+  private static final Duration TTL = Duration.ofMinutes(10);
+
+  private final MutableClock clock = new MutableClock();
+  private final AtomicInteger lookups = new AtomicInteger();
+
+  @Test
+  public void get_shouldLookUpOncePerTtl() {
+    RoleArnCache cache = new RoleArnCache(TTL, null, clock);
+
+    assertEquals("arn-1", cache.get(ROLE, this::lookup));
+    clock.advance(TTL.minusSeconds(1));
+    assertEquals("arn-1", cache.get(ROLE, this::lookup));
+    clock.advance(Duration.ofSeconds(1));
+    assertEquals("arn-2", cache.get(ROLE, this::lookup));
+    assertEquals(2, lookups.get());
+  }
+
+  @Test
+  public void get_shouldNotCacheWithZeroTtl() {
+    RoleArnCache cache = new RoleArnCache(Duration.ZERO, null, clock);
+
+    cache.get(ROLE, this::lookup);
+    cache.get(ROLE, this::lookup);
+
+    assertEquals(2, lookups.get());
+  }
+
+  @Test
+  public void invalidate_shouldForceTheNextLookup() {
+    RoleArnCache cache = new RoleArnCache(TTL, null, clock);
+    cache.get(ROLE, this::lookup);
+
+    cache.invalidate(ROLE, "another-arn");
+    assertEquals("arn-1", cache.get(ROLE, this::lookup));
+    cache.invalidate(ROLE, "arn-1");
+    assertEquals("arn-2", cache.get(ROLE, this::lookup));
+  }
+
+  @Test
+  public void get_shouldShareOneInFlightLookup() throws Exception {
+    RoleArnCache cache = new RoleArnCache(TTL, null, clock);
+    int callers = 8;
+    CountDownLatch release = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(callers);
+    try {
+      List<CompletableFuture<String>> arns = new ArrayList<>();
+      for (int i = 0; i < callers; i++) {
+        arns.add(CompletableFuture.supplyAsync(() -> cache.get(ROLE, () -> {
+          await(release);
+          return lookup();
+        }), executor));
+      }
+      Thread.sleep(100);
+      release.countDown();
+      for (CompletableFuture<String> arn : arns) {
+        assertEquals("arn-1", arn.get(5, TimeUnit.SECONDS));
+      }
+    } finally {
+      executor.shutdown();
+    }
+    assertEquals(1, lookups.get());
+  }
+
+  @Test
+  public void get_shouldRethrowAFailedLookupAndRetryLater() {
+    RoleArnCache cache = new RoleArnCache(TTL, null, clock);
+    IllegalStateException failure = new IllegalStateException("throttled");
+
+    assertSame(failure, assertThrows(IllegalStateException.class,
+        () -> cache.get(ROLE, () -> {
+          throw failure;
+        })));
+    assertEquals("arn-1", cache.get(ROLE, this::lookup));
+  }
+
+  @Test
+  public void get_shouldReloadPersistedEntries(@TempDir Path dir) {
+    Path file = dir.resolve("role-arns.properties");
+    new RoleArnCache(TTL, file, clock).get(ROLE, this::lookup);
+
+    assertEquals("arn-1", new RoleArnCache(TTL, file, clock).get(ROLE, this::lookup));
+    clock.advance(TTL);
+    assertEquals("arn-2", new RoleArnCache(TTL, file, clock).get(ROLE, this::lookup));
+  }
+
+  private String lookup() {
+    return "arn-" + lookups.incrementAndGet();
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      throw new CompletionException(e);
+    }
+  }
+
+  private static final class MutableClock extends Clock {
+    private Instant now = Instant.parse("2020-06-01T00:00:00Z");
+
+    void advance(Duration duration) {
+      now = now.plus(duration);
+    }
+
+    @Override public ZoneOffset getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override public Instant instant() {
+      return now;
+    }
+  }
+}
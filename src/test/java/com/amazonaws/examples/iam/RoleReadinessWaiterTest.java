@@ -0,0 +1,217 @@
+package com.amazonaws.examples.iam;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.amazonaws.examples.ElementalMediaLiveProcessor;
+import com.amazonaws.examples.LocalMediaLiveClient;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import software.amazon.awssdk.services.iam.model.Role;
+import software.amazon.awssdk.services.medialive.model.Channel;
+import software.amazon.awssdk.services.medialive.model.MediaLiveException;
+
+class RoleReadinessWaiterTest {
+  private static final String ROLE = "TestRole";
+  private static final String INLINE = "TestInlinePolicy";
+  private static final String MANAGED = "arn:aws:iam::aws:policy/TestManagedPolicy";
+
+  @ParameterizedTest
+  @ValueSource(longs = {0, 100, 400})
+  public void await_shouldReturnSoonAfterPropagation(long delayMillis) throws Exception {
+    LocalIamClient iam = createRole(Duration.ofMillis(delayMillis));
+    RoleReadinessWaiter waiter =
+        new RoleReadinessWaiter(iam, Duration.ofMillis(10), Duration.ofMillis(100), 2);
+
+    long start = System.nanoTime();
+    boolean ready = waiter.await(ROLE, INLINE, MANAGED, Instant.now().plusSeconds(10));
+    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+    assertTrue(ready);
+    assertTrue(elapsedMillis >= delayMillis, "elapsed " + elapsedMillis);
+    assertTrue(elapsedMillis < delayMillis + 1000, "elapsed " + elapsedMillis);
+  }
+
+  @Test
+  public void await_shouldGiveUpAtTheDeadline() throws Exception {
+    LocalIamClient iam = createRole(Duration.ofSeconds(30));
+    RoleReadinessWaiter waiter =
+        new RoleReadinessWaiter(iam, Duration.ofMillis(10), Duration.ofMillis(50), 2);
+
+    long start = System.nanoTime();
+    boolean ready = waiter.await(ROLE, INLINE, MANAGED, Instant.now().plusMillis(300));
+    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+    assertFalse(ready);
+    assertTrue(elapsedMillis <= 400, "elapsed " + elapsedMillis);
+    assertTrue(iam.getReads() > 1);
+  }
+
+  @Test
+  public void await_shouldRequireEveryPolicy() throws Exception {
+    LocalIamClient iam = new LocalIamClient(Duration.ZERO);
+    iam.createRole(builder -> builder.roleName(ROLE));
+    iam.putRolePolicy(builder -> builder.roleName(ROLE).policyName(INLINE));
+    RoleReadinessWaiter waiter =
+        new RoleReadinessWaiter(iam, Duration.ofMillis(10), Duration.ofMillis(20), 1);
+
+    assertFalse(waiter.await(ROLE, INLINE, MANAGED, Instant.now().plusMillis(100)));
+  }
+
+  @Test
+  public void awaitAsync_shouldCompleteSoonAfterPropagation() throws Exception {
+    LocalIamClient iam = createRole(Duration.ofMillis(200));
+    RoleReadinessWaiter waiter =
+        new RoleReadinessWaiter(iam.async(), Duration.ofMillis(10), Duration.ofMillis(100), 2);
+
+    long start = System.nanoTime();
+    CompletableFuture<Boolean> ready =
+        waiter.awaitAsync(ROLE, INLINE, MANAGED, Instant.now().plusSeconds(10));
+
+    assertTrue(ready.get(5, TimeUnit.SECONDS));
+    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    assertTrue(elapsedMillis >= 200, "elapsed " + elapsedMillis);
+  }
+
+  @Test
+  public void awaitAsync_shouldGiveUpAtTheDeadline() throws Exception {
+    LocalIamClient iam = createRole(Duration.ofSeconds(30));
+    RoleReadinessWaiter waiter =
+        new RoleReadinessWaiter(iam.async(), Duration.ofMillis(10), Duration.ofMillis(50), 2);
+
+    assertFalse(waiter.awaitAsync(ROLE, INLINE, MANAGED, Instant.now().plusMillis(300))
+        .get(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void retry_shouldRepeatNotReadyFailuresUntilTheCallSucceeds() throws Exception {
+    RoleReadinessWaiter waiter = new RoleReadinessWaiter(
+        new LocalIamClient(Duration.ZERO), Duration.ofMillis(10), Duration.ofMillis(20), 2);
+    AtomicInteger calls = new AtomicInteger();
+
+    String result = waiter.retry(() -> {
+      if (calls.incrementAndGet() <= 3) {
+        throw new IllegalStateException("role");
+      }
+      return "created";
+    }, e -> e instanceof IllegalStateException, Instant.now().plusSeconds(10));
+
+    assertEquals("created", result);
+    assertEquals(4, calls.get());
+  }
+
+  @Test
+  public void retry_shouldRethrowOtherFailuresAndFailuresAtTheDeadline() {
+    RoleReadinessWaiter waiter = new RoleReadinessWaiter(
+        new LocalIamClient(Duration.ZERO), Duration.ofMillis(10), Duration.ofMillis(20), 2);
+    AtomicInteger calls = new AtomicInteger();
+
+    assertThrows(IllegalArgumentException.class, () -> waiter.retry(() -> {
+      calls.incrementAndGet();
+      throw new IllegalArgumentException();
+    }, e -> e instanceof IllegalStateException, Instant.now().plusSeconds(10)));
+    assertEquals(1, calls.get());
+
+    assertThrows(IllegalStateException.class, () -> waiter.retry(() -> {
+      throw new IllegalStateException("role");
+    }, e -> e instanceof IllegalStateException, Instant.now().plusMillis(100)));
+  }
+
+  @Test
+  public void retryAsync_shouldRepeatNotReadyFailuresUntilTheCallSucceeds() throws Exception {
+    RoleReadinessWaiter waiter = new RoleReadinessWaiter(
+        new LocalIamClient(Duration.ZERO), Duration.ofMillis(10), Duration.ofMillis(20), 2);
+    AtomicInteger calls = new AtomicInteger();
+
+    CompletableFuture<String> result = waiter.retryAsync(() -> {
+      CompletableFuture<String> future = new CompletableFuture<>();
+      if (calls.incrementAndGet() <= 3) {
+        future.completeExceptionally(new IllegalStateException("role"));
+      } else {
+        future.complete("created");
+      }
+      return future;
+    }, e -> e instanceof IllegalStateException, Instant.now().plusSeconds(10));
+
+    assertEquals("created", result.get(5, TimeUnit.SECONDS));
+    assertEquals(4, calls.get());
+  }
+
+  @Test
+  public void backoffMillis_shouldStayWithinTheCap() {
+    RoleReadinessWaiter waiter = new RoleReadinessWaiter(
+        new LocalIamClient(Duration.ZERO), Duration.ofMillis(100), Duration.ofSeconds(1), 2);
+    for (int attempt = 0; attempt < 64; attempt++) {
+      long delay = waiter.backoffMillis(attempt);
+      assertTrue(delay >= 0 && delay <= Math.min(1000, 100L << Math.min(attempt, 20)));
+    }
+  }
+
+  @Test
+  public void getOrCreateRole_shouldNotSleepForTheFullPropagationTimeout() {
+    LocalIamClient iam = new LocalIamClient(Duration.ofMillis(200));
+    ElementalMediaLiveProcessor processor = new ElementalMediaLiveProcessor(null, iam);
+
+    long start = System.nanoTime();
+    Role role = processor.getOrCreateRole(ROLE, Instant.now().plusSeconds(45));
+
+    assertEquals(ROLE, role.roleName());
+    assertTrue(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start) < 10);
+  }
+
+  @Test
+  public void createChannel_shouldRetryWhileMediaLiveRejectsAReadyRole() {
+    LocalIamClient iam = new LocalIamClient(Duration.ZERO);
+    iam.createRole(builder -> builder.roleName(ElementalMediaLiveProcessor.MEDIA_LIVE_ACCESS_ROLE));
+    LocalMediaLiveClient emlClient = new LocalMediaLiveClient();
+    AtomicInteger rejections = new AtomicInteger();
+    emlClient.setCreateChannelFailure(request -> rejections.incrementAndGet() <= 3
+        ? roleRejection(request.roleArn())
+        : null);
+    ElementalMediaLiveProcessor processor = new ElementalMediaLiveProcessor(emlClient, iam);
+
+    Channel channel = processor.createChannel(
+        Channel.builder().name("ch").build(), Instant.now().plusSeconds(20));
+
+    assertEquals(4, emlClient.getCreateChannelRequests().size());
+    assertTrue(channel.roleArn().endsWith(ElementalMediaLiveProcessor.MEDIA_LIVE_ACCESS_ROLE));
+  }
+
+  @Test
+  public void createChannel_shouldFailWhenTheRoleIsStillRejectedAtTheDeadline() {
+    LocalIamClient iam = new LocalIamClient(Duration.ZERO);
+    iam.createRole(builder -> builder.roleName(ElementalMediaLiveProcessor.MEDIA_LIVE_ACCESS_ROLE));
+    LocalMediaLiveClient emlClient = new LocalMediaLiveClient();
+    emlClient.setCreateChannelFailure(request -> roleRejection(request.roleArn()));
+    ElementalMediaLiveProcessor processor = new ElementalMediaLiveProcessor(emlClient, iam);
+
+    assertThrows(MediaLiveException.class, () -> processor.createChannel(
+        Channel.builder().name("ch").build(), Instant.now().plusMillis(500)));
+  }
+
+  private static MediaLiveException roleRejection(String roleArn) {
+    return (MediaLiveException) MediaLiveException.builder()
+        .message("Unable to assume role " + roleArn)
+        .statusCode(400)
+        .build();
+  }
+
+  private static LocalIamClient createRole(Duration propagationDelay) {
+    LocalIamClient iam = new LocalIamClient(propagationDelay);
+    iam.createRole(builder -> builder.roleName(ROLE));
+    iam.attachRolePolicy(builder -> builder.roleName(ROLE).policyArn(MANAGED));
+    iam.putRolePolicy(builder -> builder.roleName(ROLE).policyName(INLINE));
+    return iam;
+  }
+}
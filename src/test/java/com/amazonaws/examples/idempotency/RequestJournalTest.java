@@ -0,0 +1,68 @@
+package com.amazonaws.examples.idempotency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RequestJournalTest {
+  private static final Duration RETENTION = Duration.ofHours(24);
+  private static final Instant NOW = Instant.parse("2020-06-01T00:00:00Z");
+
+  @Test
+  public void lookup_shouldReturnRecordedIds() {
+    RequestJournal journal = new RequestJournal(null, RETENTION, clock(NOW));
+
+    assertNull(journal.lookup("req-1/channel"));
+    journal.record("req-1/channel", "1234");
+    journal.record("req-1/input", "5678");
+
+    assertEquals("1234", journal.lookup("req-1/channel"));
+    assertEquals("5678", journal.lookup("req-1/input"));
+  }
+
+  @Test
+  public void lookup_shouldSurviveARestart(@TempDir Path dir) {
+    Path file = dir.resolve("journal.properties");
+    new RequestJournal(file, RETENTION, clock(NOW)).record("req-1/channel", "1234");
+
+    assertEquals("1234", new RequestJournal(file, RETENTION, clock(NOW)).lookup("req-1/channel"));
+    assertNull(new RequestJournal(file, RETENTION, clock(NOW.plus(RETENTION)))
+        .lookup("req-1/channel"));
+  }
+
+  @Test
+  public void record_shouldPruneExpiredEntries(@TempDir Path dir) throws Exception {
+    Path file = dir.resolve("journal.properties");
+    new RequestJournal(file, RETENTION, clock(NOW)).record("req-1/channel", "1234");
+
+    new RequestJournal(file, RETENTION, clock(NOW.plus(RETENTION))).record("req-2/channel", "42");
+
+    String content = new String(Files.readAllBytes(file), "UTF-8");
+    assertEquals(-1, content.indexOf("req-1"), content);
+  }
+
+  @Test
+  public void load_shouldIgnoreMalformedEntries(@TempDir Path dir) throws Exception {
+    Path file = dir.resolve("journal.properties");
+    Files.write(file, ("req-1/channel=not-a-time\nreq-2/channel="
+        + NOW.plusSeconds(60).toEpochMilli() + " 42\n").getBytes("UTF-8"));
+
+    RequestJournal journal = new RequestJournal(file, RETENTION, clock(NOW));
+
+    assertNull(journal.lookup("req-1/channel"));
+    assertEquals("42", journal.lookup("req-2/channel"));
+  }
+
+  private static Clock clock(Instant instant) {
+    return Clock.fixed(instant, ZoneOffset.UTC);
+  }
+}
@@ -0,0 +1,147 @@
+package com.amazonaws.examples.inventory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.amazonaws.examples.LocalMediaLiveClient;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.medialive.model.ChannelSummary;
+import software.amazon.awssdk.services.medialive.model.Input;
+import software.amazon.awssdk.services.medialive.model.InputAttachment;
+import software.amazon.awssdk.services.medialive.model.InputSecurityGroup;
+
+/**
+ * Runs {@link MediaLiveInventory} against a local MediaLive that lists two resources per page.
+ */
+class MediaLiveInventoryTest {
+  private final LocalMediaLiveClient emlClient = new LocalMediaLiveClient(2);
+
+  private final MediaLiveInventory inventory =
+      new MediaLiveInventory(emlClient, Duration.ofHours(1));
+
+  @AfterEach
+  public void teardown() {
+    inventory.close();
+  }
+
+  @Test
+  public void queries_shouldBeAnsweredFromOneLoad() {
+    for (int i = 1; i <= 5; i++) {
+      emlClient.putChannel(channel(String.valueOf(i), "channel-" + (i % 2), "input-" + i));
+    }
+
+    assertEquals(3, inventory.channelsByName("channel-1").size());
+    assertEquals(2, inventory.channelsByName("channel-0").size());
+    assertEquals("channel-0", inventory.channel("4").name());
+    assertEquals("3", inventory.channelsByInput("input-3").get(0).id());
+    assertTrue(inventory.channelsByName("missing").isEmpty());
+    assertNull(inventory.channel("missing"));
+
+    assertEquals(3, emlClient.getChannelPages());
+  }
+
+  @Test
+  public void queries_shouldIndexTagsAndReferences() {
+    emlClient.putInput(Input.builder().id("input-1").name("Default_RTMP_Input")
+        .securityGroups("sg-1").tags(Collections.singletonMap("env", "test")).build());
+    emlClient.putInput(Input.builder().id("input-2").name("Default_RTMP_Input")
+        .securityGroups("sg-1").build());
+    emlClient.putSecurityGroup(InputSecurityGroup.builder().id("sg-1").inputs("input-1", "input-2")
+        .tags(Collections.singletonMap("env", "test")).build());
+
+    assertEquals(2, inventory.inputsByName("Default_RTMP_Input").size());
+    assertEquals(2, inventory.inputsBySecurityGroup("sg-1").size());
+    assertEquals("input-1", inventory.inputsByTag("env", "test").get(0).id());
+    assertEquals("sg-1", inventory.securityGroupsByInput("input-2").get(0).id());
+    assertEquals("sg-1", inventory.securityGroupsByTag("env", "test").get(0).id());
+    assertEquals(1, inventory.securityGroups().size());
+  }
+
+  @Test
+  public void refresh_shouldDropDeletedResourcesAndKeepConcurrentPuts() {
+    emlClient.putChannel(channel("1", "old", "input-1"));
+    assertEquals(1, inventory.channelsByName("old").size());
+
+    inventory.putChannel(channel("2", "created", "input-2"));
+    assertEquals("2", inventory.channelsByInput("input-2").get(0).id());
+
+    emlClient.clearChannels();
+    emlClient.onListChannels(() -> inventory.putChannel(channel("3", "created", "input-3")));
+    inventory.refresh();
+
+    assertTrue(inventory.channelsByName("old").isEmpty());
+    assertNull(inventory.channel("2"));
+    assertEquals("3", inventory.channelsByName("created").get(0).id());
+  }
+
+  /**
+   * A second refresh starts while the first is listing and records a put; whichever finishes
+   * last must not swap in a snapshot without it.
+   */
+  @Test
+  public void refresh_shouldKeepPutsMadeDuringOverlappingRefreshes() throws Exception {
+    assertTrue(inventory.channelsByName("created").isEmpty());
+    CountDownLatch secondListing = new CountDownLatch(1);
+    AtomicBoolean overlapped = new AtomicBoolean();
+    Thread second = new Thread(inventory::refresh, "second-refresh");
+    emlClient.onListChannels(() -> {
+      if (Thread.currentThread() == second) {
+        inventory.putChannel(channel("3", "created", "input-3"));
+        secondListing.countDown();
+      } else if (overlapped.compareAndSet(false, true)) {
+        second.start();
+        try {
+          secondListing.await(200, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    });
+
+    inventory.refresh();
+    second.join(TimeUnit.SECONDS.toMillis(5));
+
+    assertEquals(0, secondListing.getCount());
+    assertEquals("3", inventory.channelsByName("created").get(0).id());
+  }
+
+  @Test
+  public void put_shouldMoveAReplacedResourceToItsNewKeys() {
+    emlClient.putInput(Input.builder().id("input-1").name("old").securityGroups("sg-1")
+        .tags(Collections.singletonMap("env", "test")).build());
+    emlClient.putInput(Input.builder().id("input-2").name("other").securityGroups("sg-1").build());
+    List<Input> others = inventory.inputsByName("other");
+
+    inventory.putInput(Input.builder().id("input-1").name("new").securityGroups("sg-2")
+        .tags(Collections.singletonMap("env", "prod")).build());
+
+    assertTrue(inventory.inputsByName("old").isEmpty());
+    assertEquals("input-1", inventory.inputsByName("new").get(0).id());
+    assertTrue(inventory.inputsByTag("env", "test").isEmpty());
+    assertEquals("input-1", inventory.inputsByTag("env", "prod").get(0).id());
+    assertEquals("input-2", inventory.inputsBySecurityGroup("sg-1").get(0).id());
+    assertEquals(1, inventory.inputsBySecurityGroup("sg-1").size());
+    assertEquals("new", inventory.input("input-1").name());
+    assertSame(others, inventory.inputsByName("other"));
+  }
+
+  private static ChannelSummary channel(String id, String name, String inputId) {
+    return ChannelSummary.builder()
+        .id(id)
+        .name(name)
+        .inputAttachments(InputAttachment.builder().inputId(inputId).build())
+        .build();
+  }
+}
@@ -0,0 +1,126 @@
+package com.amazonaws.examples.pool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.amazonaws.examples.LocalMediaLiveClient;
+import com.amazonaws.examples.inventory.MediaLiveInventory;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.medialive.model.InputSecurityGroup;
+import software.amazon.awssdk.services.medialive.model.InputSecurityGroupState;
+import software.amazon.awssdk.services.medialive.model.InputWhitelistRule;
+
+class InputSecurityGroupPoolTest {
+  private final LocalMediaLiveClient emlClient = new LocalMediaLiveClient(1);
+  private final MediaLiveInventory inventory =
+      new MediaLiveInventory(emlClient, Duration.ofHours(1));
+  private final AtomicInteger created = new AtomicInteger();
+
+  @AfterEach
+  public void teardown() {
+    inventory.close();
+  }
+
+  @Test
+  public void acquire_shouldReuseAGroupWithTheSameNormalizedWhitelist() {
+    emlClient.putSecurityGroup(group("sg-1", InputSecurityGroupState.IN_USE, "10.0.0.0/8"));
+    emlClient.putSecurityGroup(
+        group("sg-2", InputSecurityGroupState.IDLE, "0.0.0.0/0", "192.168.1.1/32"));
+    InputSecurityGroupPool pool = pool(Duration.ofMinutes(5));
+
+    assertEquals("sg-2", pool.acquire(" 192.168.1.1", "0.0.0.0/0").id());
+    assertEquals("sg-1", pool.acquire("10.0.0.0/8").id());
+    assertEquals(0, created.get());
+    assertEquals(2, emlClient.getSecurityGroupPages());
+  }
+
+  @Test
+  public void refresh_shouldReadTheInventoryInsteadOfListingGroups() {
+    emlClient.putSecurityGroup(group("sg-1", InputSecurityGroupState.IDLE, "0.0.0.0/0"));
+    InputSecurityGroupPool pool = pool(Duration.ZERO);
+    assertEquals("sg-1", pool.acquire("0.0.0.0/0").id());
+
+    pool.refresh();
+    pool.refresh();
+
+    assertEquals("sg-1", pool.acquire("0.0.0.0/0").id());
+    assertEquals(1, emlClient.getSecurityGroupPages());
+  }
+
+  @Test
+  public void acquire_shouldCreateOnceOnAMiss() {
+    emlClient.putSecurityGroup(group("sg-1", InputSecurityGroupState.DELETED, "0.0.0.0/0"));
+    InputSecurityGroupPool pool = pool(Duration.ofMinutes(5));
+
+    assertEquals("new-1", pool.acquire("0.0.0.0/0").id());
+    assertEquals("new-1", pool.acquire("0.0.0.0/0").id());
+    assertEquals(1, created.get());
+    assertEquals(1, pool.size());
+  }
+
+  @Test
+  public void acquire_shouldCreateOncePerWhitelistUnderConcurrency() throws Exception {
+    InputSecurityGroupPool pool = pool(Duration.ofMinutes(5));
+    ExecutorService executor = Executors.newFixedThreadPool(16);
+    try {
+      List<CompletableFuture<InputSecurityGroup>> groups = new ArrayList<>();
+      for (int i = 0; i < 64; i++) {
+        String cidr = i % 2 == 0 ? "0.0.0.0/0" : "10.0.0.0/8";
+        groups.add(CompletableFuture.supplyAsync(() -> pool.acquire(cidr), executor));
+      }
+      for (CompletableFuture<InputSecurityGroup> group : groups) {
+        group.get(5, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdown();
+    }
+    assertEquals(2, created.get());
+  }
+
+  @Test
+  public void refresh_shouldDropGroupsThatAreGone() {
+    emlClient.putSecurityGroup(group("sg-1", InputSecurityGroupState.IDLE, "0.0.0.0/0"));
+    InputSecurityGroupPool pool = pool(Duration.ZERO);
+    assertEquals("sg-1", pool.acquire("0.0.0.0/0").id());
+
+    emlClient.putSecurityGroup(group("sg-1", InputSecurityGroupState.DELETED, "0.0.0.0/0"));
+    inventory.refresh();
+
+    assertEquals("new-1", pool.acquire("0.0.0.0/0").id());
+  }
+
+  @Test
+  public void key_shouldNormalizeTheWhitelist() {
+    assertEquals("0.0.0.0/0,10.0.0.1/32,2001:db8::1/128",
+        InputSecurityGroupPool.key("2001:DB8::1", "10.0.0.1", "0.0.0.0/0", "10.0.0.1/32"));
+  }
+
+  private InputSecurityGroupPool pool(Duration refreshInterval) {
+    return new InputSecurityGroupPool(inventory, cidrs -> group(
+        "new-" + created.incrementAndGet(), InputSecurityGroupState.IDLE, cidrs),
+        refreshInterval);
+  }
+
+  private static InputSecurityGroup group(String id, InputSecurityGroupState state,
+      String... cidrs) {
+    return InputSecurityGroup.builder()
+        .id(id)
+        .state(state)
+        .whitelistRules(Arrays.stream(cidrs)
+            .map(cidr -> InputWhitelistRule.builder().cidr(cidr).build())
+            .toArray(InputWhitelistRule[]::new))
+        .build();
+  }
+}
@@ -0,0 +1,119 @@
+package com.amazonaws.examples.pool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.medialive.model.Input;
+
+class RtmpInputPoolTest {
+  private static final long CREATE_MILLIS = 100;
+
+  private final AtomicInteger created = new AtomicInteger();
+  private final AtomicInteger failuresLeft = new AtomicInteger();
+
+  @Test
+  public void claim_shouldNotWaitForInputCreationOnceWarm() throws Exception {
+    RtmpInputPool pool = new RtmpInputPool(this::createInput, 3);
+    awaitTrue(() -> pool.getDepth() == 3);
+
+    long start = System.nanoTime();
+    Input input = pool.claim();
+
+    assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < CREATE_MILLIS);
+    assertTrue(input.id().startsWith("input-"));
+    assertEquals(0, pool.getMisses());
+    awaitTrue(() -> pool.getDepth() == 3);
+    assertEquals(4, pool.getRefills());
+  }
+
+  @Test
+  public void claim_shouldHandOutEachInputOnce() throws Exception {
+    RtmpInputPool pool = new RtmpInputPool(this::createInput, 4);
+    awaitTrue(() -> pool.getDepth() == 4);
+
+    Set<String> ids = new HashSet<>();
+    CompletableFuture<?>[] claims = new CompletableFuture<?>[12];
+    for (int i = 0; i < claims.length; i++) {
+      claims[i] = CompletableFuture.runAsync(() -> {
+        String id = pool.claim().id();
+        synchronized (ids) {
+          ids.add(id);
+        }
+      });
+    }
+    CompletableFuture.allOf(claims).get(10, TimeUnit.SECONDS);
+
+    assertEquals(claims.length, ids.size());
+    assertEquals(claims.length, pool.getClaims());
+    assertTrue(pool.getMisses() > 0, pool.toString());
+  }
+
+  @Test
+  public void replenish_shouldRecoverFromFailedRefills() throws Exception {
+    failuresLeft.set(2);
+    RtmpInputPool pool = new RtmpInputPool(this::createInput, 2);
+    awaitTrue(() -> pool.getRefillFailures() == 2);
+    assertEquals(0, pool.getDepth());
+
+    pool.replenish();
+
+    awaitTrue(() -> pool.getDepth() == 2);
+  }
+
+  @Test
+  public void pool_shouldAdoptLeftoversAndCreateOnlyTheShortfall() throws Exception {
+    List<Input> leftovers = Arrays.asList(
+        Input.builder().id("leftover-1").build(), Input.builder().id("leftover-2").build());
+    RtmpInputPool pool = new RtmpInputPool(this::createInput, () -> leftovers, 3);
+    awaitTrue(() -> pool.getDepth() == 3);
+
+    assertEquals(2, pool.getAdopted());
+    assertEquals(1, created.get());
+    assertEquals("leftover-1", pool.claim().id());
+  }
+
+  @Test
+  public void pool_shouldAdoptNoMoreThanTheTargetSize() throws Exception {
+    List<Input> leftovers = Arrays.asList(
+        Input.builder().id("leftover-1").build(), Input.builder().id("leftover-2").build());
+    RtmpInputPool pool = new RtmpInputPool(this::createInput, () -> leftovers, 1);
+    awaitTrue(() -> pool.getAdopted() == 1);
+
+    pool.replenish();
+    Thread.sleep(2 * CREATE_MILLIS);
+
+    assertEquals(1, pool.getDepth());
+    assertEquals(0, created.get());
+  }
+
+  private Input createInput() {
+    try {
+      Thread.sleep(CREATE_MILLIS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    if (failuresLeft.getAndDecrement() > 0) {
+      throw new IllegalStateException("Limit exceeded");
+    }
+    return Input.builder().id("input-" + created.incrementAndGet()).build();
+  }
+
+  private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (!condition.getAsBoolean()) {
+      assertTrue(System.nanoTime() < deadline, "condition not met in time");
+      Thread.sleep(10);
+    }
+  }
+}
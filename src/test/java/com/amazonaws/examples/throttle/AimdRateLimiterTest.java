@@ -0,0 +1,102 @@
+package com.amazonaws.examples.throttle;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class AimdRateLimiterTest {
+  private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  private long now;
+
+  @Test
+  public void onThrottle_shouldDecreaseOncePerInterval() {
+    AimdRateLimiter limiter = new AimdRateLimiter(10, 1, 50, 1, 1.0, 0.5, () -> now);
+
+    limiter.onThrottle();
+    limiter.onThrottle();
+    assertEquals(5.0, limiter.getRate(), 1e-9);
+
+    now += SECOND;
+    limiter.onThrottle();
+    assertEquals(2.5, limiter.getRate(), 1e-9);
+    assertEquals(3, limiter.getThrottleEvents());
+  }
+
+  @Test
+  public void onSuccess_shouldIncreaseAdditivelyUpToMax() {
+    AimdRateLimiter limiter = new AimdRateLimiter(4, 1, 5, 1, 1.0, 0.5, () -> now);
+
+    limiter.onSuccess();
+    assertEquals(4.25, limiter.getRate(), 1e-9);
+
+    for (int i = 0; i < 100; i++) {
+      limiter.onSuccess();
+    }
+    assertEquals(5.0, limiter.getRate(), 1e-9);
+  }
+
+  @Test
+  public void reserve_shouldPaceCallersBeyondCapacity() {
+    AimdRateLimiter limiter = new AimdRateLimiter(10, 1, 50, 2, 1.0, 0.5, () -> now);
+
+    assertEquals(0, limiter.reserve());
+    assertEquals(0, limiter.reserve());
+    assertEquals(SECOND / 10, limiter.reserve());
+    assertEquals(2 * SECOND / 10, limiter.reserve());
+
+    now += SECOND;
+    assertEquals(0, limiter.reserve());
+  }
+
+  @Test
+  public void acquireAsync_shouldCompleteOncePermitIsAvailable() throws Exception {
+    AimdRateLimiter limiter = new AimdRateLimiter(10, 1, 50, 1);
+
+    assertTrue(limiter.acquireAsync().isDone());
+    long start = System.nanoTime();
+    CompletableFuture<Void> permit = limiter.acquireAsync();
+    assertFalse(permit.isDone());
+    assertEquals(1, limiter.getQueued());
+
+    permit.get(5, TimeUnit.SECONDS);
+    assertTrue(System.nanoTime() - start >= SECOND / 10 - TimeUnit.MILLISECONDS.toNanos(5));
+    assertEquals(0, limiter.getQueued());
+  }
+
+  @Test
+  public void rate_shouldConvergeBelowServiceLimit() {
+    int serviceLimit = 20;
+    AimdRateLimiter limiter = new AimdRateLimiter(5, 0.5, 100, 1, 1.0, 0.5, () -> now);
+    Deque<Long> window = new ArrayDeque<>();
+    int accepted = 0;
+
+    while (now < 120 * SECOND) {
+      now += limiter.reserve();
+      while (!window.isEmpty() && window.peekFirst() <= now - SECOND) {
+        window.pollFirst();
+      }
+      if (window.size() >= serviceLimit) {
+        limiter.onThrottle();
+      } else {
+        window.addLast(now);
+        limiter.onSuccess();
+        if (now > 60 * SECOND) {
+          accepted++;
+        }
+      }
+    }
+
+    double throughput = accepted / 60.0;
+    assertTrue(throughput > serviceLimit * 0.75, "throughput " + throughput);
+    assertTrue(limiter.getRate() > serviceLimit * 0.5 && limiter.getRate() < serviceLimit * 1.5,
+        "rate " + limiter.getRate());
+  }
+}
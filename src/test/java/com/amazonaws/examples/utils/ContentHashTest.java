@@ -0,0 +1,60 @@
+package com.amazonaws.examples.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+class ContentHashTest {
+
+  @Test
+  public void hash64_shouldMatchXxHash64ReferenceValues() {
+    assertEquals(0xEF46DB3751D8E999L, hash(""));
+    assertEquals(0xD24EC4F1A98C6E5BL, hash("a"));
+    assertEquals(0x44BC2CF5AD770999L, hash("abc"));
+    assertEquals(0xFBCEA83C8A378BF1L, hash("Nobody inspects the spammish repetition"));
+  }
+
+  @Test
+  public void hash64_shouldOnlyHashTheGivenSlice() {
+    byte[] data = "--abc--".getBytes(StandardCharsets.UTF_8);
+    assertEquals(hash("abc"), ContentHash.hash64(data, 2, 3));
+  }
+
+  private long hash(String value) {
+    return ContentHash.hash64(value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void hash64_shouldHashDirectBuffersLikeArrays() {
+    byte[] data = "Nobody inspects the spammish repetition".getBytes(StandardCharsets.UTF_8);
+    ByteBuffer direct = ByteBuffer.allocateDirect(data.length + 2);
+    direct.put((byte) '-').put(data).put((byte) '-');
+    direct.position(1).limit(data.length + 1);
+
+    assertEquals(ContentHash.hash64(data), ContentHash.hash64(direct));
+    assertEquals(1, direct.position());
+  }
+
+  @Test
+  public void hash64_shouldHashBuffersAndArraySlicesAlike() {
+    byte[] data = new byte[100];
+    for (int i = 0; i < data.length; i++) {
+      data[i] = (byte) (i * 31 + 7);
+    }
+    ByteBuffer direct = ByteBuffer.allocateDirect(data.length).put(data);
+    for (int length = 0; length <= data.length - 3; length++) {
+      long expected = ContentHash.hash64(data, 3, length);
+      direct.limit(3 + length).position(3);
+
+      assertEquals(expected, ContentHash.hash64(direct), "length " + length);
+      assertEquals(expected, ContentHash.hash64(ByteBuffer.wrap(data, 3, length)),
+          "length " + length);
+      assertEquals(expected, ContentHash.hash64(
+          ByteBuffer.wrap(Arrays.copyOfRange(data, 3, 3 + length))), "length " + length);
+    }
+  }
+}
@@ -0,0 +1,40 @@
+package com.amazonaws.examples.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+  @Test
+  public void getPercentileMillis_shouldBeWithinAFactorOfTwo() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (int seconds = 1; seconds <= 100; seconds++) {
+      histogram.record(seconds, TimeUnit.SECONDS);
+    }
+
+    assertEquals(100, histogram.getCount());
+    assertEquals(100_000, histogram.getMaxMillis());
+    assertEquals(50_500, histogram.getMeanMillis());
+    long p50 = histogram.getPercentileMillis(50);
+    long p90 = histogram.getPercentileMillis(90);
+    assertTrue(p50 >= 50_000 && p50 < 100_000, "p50 " + p50);
+    assertTrue(p90 >= 90_000 && p90 <= 100_000, "p90 " + p90);
+    assertEquals(100_000, histogram.getPercentileMillis(100));
+  }
+
+  @Test
+  public void record_shouldHandleEdgeValues() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    assertEquals(0, histogram.getPercentileMillis(99));
+
+    histogram.record(0, TimeUnit.NANOSECONDS);
+    histogram.record(1, TimeUnit.DAYS);
+
+    assertEquals(1, histogram.getPercentileMillis(50));
+    assertEquals(TimeUnit.DAYS.toMillis(1), histogram.getPercentileMillis(100));
+  }
+}
@@ -0,0 +1,31 @@
+package com.amazonaws.examples.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+class ModelSizeTest {
+
+  @Test
+  public void estimate_shouldCountStringsWithTheirArrays() {
+    assertEquals(0, ModelSize.estimate(null));
+    assertEquals(24 + 16, ModelSize.estimate(""));
+    assertEquals(24 + 24, ModelSize.estimate("1234"));
+    assertEquals(24 + 32, ModelSize.estimate("12345678"));
+    assertEquals(24 + 32, ModelSize.estimate("\u20ac1234567"));
+  }
+
+  @Test
+  public void estimate_shouldExceedThePayloadOfCollections() {
+    String value = "0123456789abcdef";
+    long list = ModelSize.estimate(Arrays.asList(value, value, value));
+    long map = ModelSize.estimate(Collections.singletonMap("key", value));
+
+    assertTrue(list > 3 * ModelSize.estimate(value));
+    assertTrue(map > ModelSize.estimate("key") + ModelSize.estimate(value));
+  }
+}
@@ -0,0 +1,41 @@
+package com.amazonaws.examples.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PropertiesFileTest {
+
+  @Test
+  public void storeAtomically_shouldReplaceTheFileWithoutLeavingTemporaryFiles(@TempDir Path dir)
+      throws IOException {
+    Path file = dir.resolve("cache.properties");
+    Properties first = new Properties();
+    first.setProperty("role", "1 arn:aws:iam::123456789012:role/First");
+    Properties second = new Properties();
+    second.setProperty("role", "2 arn:aws:iam::123456789012:role/Second");
+
+    PropertiesFile.storeAtomically(file, first);
+    PropertiesFile.storeAtomically(file, second);
+
+    assertEquals(second, PropertiesFile.load(file));
+    try (Stream<Path> files = Files.list(dir)) {
+      assertEquals(1, files.count());
+    }
+  }
+
+  @Test
+  public void load_shouldRejectMalformedEscapes(@TempDir Path dir) throws IOException {
+    Path file = Files.write(dir.resolve("cache.properties"), "key=\\u12".getBytes("UTF-8"));
+
+    assertThrows(IOException.class, () -> PropertiesFile.load(file));
+  }
+}
@@ -0,0 +1,37 @@
+package com.amazonaws.examples.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+class WeightedLruCacheTest {
+
+  @Test
+  public void put_shouldEvictLeastRecentlyUsedEntriesOverBudget() {
+    WeightedLruCache<String, String> cache = new WeightedLruCache<>(10);
+    cache.put("a", "A", 4);
+    cache.put("b", "B", 4);
+    assertEquals("A", cache.get("a"));
+
+    cache.put("c", "C", 4);
+
+    assertNull(cache.get("b"));
+    assertEquals("A", cache.get("a"));
+    assertEquals("C", cache.get("c"));
+    assertEquals(8, cache.weight());
+    assertEquals(1, cache.evictionCount());
+    assertEquals(3, cache.hitCount());
+    assertEquals(1, cache.missCount());
+  }
+
+  @Test
+  public void put_shouldSkipEntriesHeavierThanBudget() {
+    WeightedLruCache<String, String> cache = new WeightedLruCache<>(10);
+    cache.put("a", "A", 4);
+    cache.put("big", "BIG", 11);
+
+    assertEquals(1, cache.size());
+    assertNull(cache.get("big"));
+  }
+}
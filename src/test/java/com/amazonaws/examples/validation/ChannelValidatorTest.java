@@ -0,0 +1,80 @@
+package com.amazonaws.examples.validation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
+
+import com.amazonaws.examples.deserialize.ChannelModule;
+import com.amazonaws.examples.utils.ResourceUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.medialive.model.Channel;
+
+class ChannelValidatorTest {
+  private static final String RESOURCE = "/CreateEmlRtmpToEmpChannelSettings.json";
+
+  private final ObjectMapper mapper = new ObjectMapper().registerModule(new ChannelModule());
+  private final ChannelValidator validator = new ChannelValidator();
+  private ObjectNode template;
+
+  @BeforeEach
+  public void setUp() throws IOException {
+    try (InputStream in = ResourceUtils.getInstance().getInputStream(RESOURCE)) {
+      template = (ObjectNode) mapper.readTree(in);
+    }
+  }
+
+  @Test
+  public void validate_shouldAcceptConsistentTemplate() throws IOException {
+    assertEquals(Arrays.asList(), validator.validate(channel()));
+  }
+
+  @Test
+  public void validate_shouldReportEveryBrokenReference() throws IOException {
+    ObjectNode encoderSettings = (ObjectNode) template.get("encoderSettings");
+    ObjectNode outputGroup = (ObjectNode) encoderSettings.get("outputGroups").get(0);
+    ObjectNode output = (ObjectNode) outputGroup.get("outputs").get(1);
+    output.put("videoDescriptionName", "video_missing");
+    ((ArrayNode) output.get("audioDescriptionNames")).add("audio_missing");
+    outputGroup.with("outputGroupSettings").with("mediaPackageGroupSettings")
+        .with("destination").put("destinationRefId", "nowhere");
+    ((ArrayNode) encoderSettings.get("audioDescriptions"))
+        .add(encoderSettings.get("audioDescriptions").get(0).deepCopy());
+
+    List<String> errors = validator.validate(channel());
+
+    assertEquals(4, errors.size(), errors.toString());
+    assertTrue(errors.get(0).startsWith("encoderSettings.audioDescriptions contains name"));
+    assertTrue(errors.get(1).startsWith("encoderSettings.outputGroups[0].outputGroupSettings"
+        + ".mediaPackageGroupSettings.destination.destinationRefId 'nowhere'"));
+    assertTrue(errors.get(2).startsWith(
+        "encoderSettings.outputGroups[0].outputs[1].videoDescriptionName 'video_missing'"));
+    assertTrue(errors.get(3).startsWith(
+        "encoderSettings.outputGroups[0].outputs[1].audioDescriptionNames 'audio_missing'"));
+  }
+
+  @Test
+  public void check_shouldThrowWithAllErrors() throws IOException {
+    template.remove("destinations");
+
+    InvalidChannelException e =
+        assertThrows(InvalidChannelException.class, () -> validator.check(channel()));
+
+    assertEquals(1, e.getErrors().size());
+    assertTrue(e.getMessage().contains("'6wwcqg'"));
+  }
+
+  private Channel channel() throws IOException {
+    return mapper.treeToValue(template, Channel.class);
+  }
+}
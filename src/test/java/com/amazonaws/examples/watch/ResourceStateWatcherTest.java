@@ -0,0 +1,137 @@
+package com.amazonaws.examples.watch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import com.amazonaws.examples.LocalMediaLiveClient;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.medialive.model.ChannelState;
+import software.amazon.awssdk.services.medialive.model.ChannelSummary;
+import software.amazon.awssdk.services.medialive.model.Input;
+import software.amazon.awssdk.services.medialive.model.InputState;
+
+/**
+ * Drives {@link ResourceStateWatcher#poll()} by hand against a local MediaLive that lists two
+ * resources per page.
+ */
+class ResourceStateWatcherTest {
+  private final LocalMediaLiveClient emlClient = new LocalMediaLiveClient(2);
+
+  private final ResourceStateWatcher watcher =
+      new ResourceStateWatcher(emlClient, Duration.ofHours(1));
+
+  @AfterEach
+  public void teardown() {
+    watcher.close();
+  }
+
+  @Test
+  public void poll_shouldCompleteEachWatchAtItsTargetState() throws Exception {
+    emlClient.putChannel(channel("1", ChannelState.CREATING));
+    emlClient.putChannel(channel("2", ChannelState.CREATING));
+    emlClient.putChannel(channel("3", ChannelState.IDLE));
+    CompletableFuture<ChannelState> first = watcher.watchChannel("1", ChannelState.IDLE);
+    CompletableFuture<ChannelState> second = watcher.watchChannel("2", ChannelState.IDLE);
+
+    watcher.poll();
+    assertFalse(first.isDone());
+    assertEquals(1, emlClient.getChannelPages());
+
+    emlClient.putChannel(channel("1", ChannelState.IDLE));
+    watcher.poll();
+    assertEquals(ChannelState.IDLE, first.get());
+    assertFalse(second.isDone());
+
+    emlClient.putChannel(channel("2", ChannelState.IDLE));
+    watcher.poll();
+    assertEquals(ChannelState.IDLE, second.get());
+    assertEquals(0, watcher.getPending());
+    assertEquals(2, watcher.getTransitions().get("channel CREATING->IDLE").getCount());
+  }
+
+  @Test
+  public void poll_shouldReadOnlyThePagesNeeded() {
+    for (int i = 1; i <= 10; i++) {
+      emlClient.putChannel(channel(String.valueOf(i), ChannelState.CREATING));
+    }
+    watcher.watchChannel("1", ChannelState.IDLE);
+    watcher.watchChannel("2", ChannelState.IDLE);
+
+    watcher.poll();
+    assertEquals(1, emlClient.getChannelPages());
+
+    watcher.watchChannel("7", ChannelState.IDLE);
+    watcher.poll();
+    assertEquals(1 + 4, emlClient.getChannelPages());
+    assertEquals(0, emlClient.getInputPages());
+  }
+
+  @Test
+  public void poll_shouldTreatUnlistedResourcesAsDeleted() throws Exception {
+    emlClient.putInput(input("input-1", InputState.DELETING));
+    emlClient.putInput(input("input-2", InputState.DETACHED));
+    CompletableFuture<InputState> deleted = watcher.watchInput("input-1", InputState.DELETED);
+    CompletableFuture<InputState> attached = watcher.watchInput("input-2", InputState.ATTACHED);
+
+    watcher.poll();
+    emlClient.clearInputs();
+    watcher.poll();
+
+    assertEquals(InputState.DELETED, deleted.get());
+    ExecutionException e = assertThrows(ExecutionException.class, attached::get);
+    assertTrue(e.getCause() instanceof IllegalStateException);
+    assertEquals(1, watcher.getTransitions().get("input DELETING->DELETED").getCount());
+  }
+
+  @Test
+  public void poll_shouldWaitForResourcesNotListedYet() throws Exception {
+    CompletableFuture<ChannelState> idle = watcher.watchChannel("1", ChannelState.IDLE);
+    CompletableFuture<ChannelState> deleted = watcher.watchChannel("2", ChannelState.DELETED);
+
+    watcher.poll();
+    assertFalse(idle.isDone());
+    assertEquals(ChannelState.DELETED, deleted.get());
+
+    emlClient.putChannel(channel("1", ChannelState.IDLE));
+    watcher.poll();
+    assertEquals(ChannelState.IDLE, idle.get());
+  }
+
+  @Test
+  public void poll_shouldFailWatchesOnCreateFailed() {
+    emlClient.putChannel(channel("1", ChannelState.CREATE_FAILED));
+    CompletableFuture<ChannelState> idle = watcher.watchChannel("1", ChannelState.IDLE);
+
+    watcher.poll();
+
+    assertTrue(idle.isCompletedExceptionally());
+  }
+
+  @Test
+  public void poll_shouldDropCancelledWatches() {
+    emlClient.putChannel(channel("1", ChannelState.CREATING));
+    watcher.watchChannel("1", ChannelState.IDLE).cancel(false);
+
+    watcher.poll();
+
+    assertEquals(0, emlClient.getChannelPages());
+    assertEquals(0, watcher.getPending());
+  }
+
+  private static ChannelSummary channel(String id, ChannelState state) {
+    return ChannelSummary.builder().id(id).state(state).build();
+  }
+
+  private static Input input(String id, InputState state) {
+    return Input.builder().id(id).state(state).build();
+  }
+}